@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,6 +31,24 @@ public interface ApprovalRequestRepository extends JpaRepository<ApprovalRequest
   Page<ApprovalRequest> findByStatusAndApprovalUsernameOrderByCreatedOnDesc(
       ApprovalRequestStatus status, String username, Pageable pageable);
 
+  /* Slice variants skip the COUNT(*); the listings read totals from an EstimatedTotalCache. */
+
+  Slice<ApprovalRequest> findSliceByPermissionInAndStatusInOrderByCreatedOnDesc(
+      List<String> permissions, List<ApprovalRequestStatus> statuses, Pageable pageable);
+
+  long countByPermissionInAndStatusIn(
+      List<String> permissions, List<ApprovalRequestStatus> statuses);
+
+  Slice<ApprovalRequest> findSliceByPermissionInAndStatusOrderByCreatedOnDesc(
+      List<String> permissions, ApprovalRequestStatus status, Pageable pageable);
+
+  long countByPermissionInAndStatus(List<String> permissions, ApprovalRequestStatus status);
+
+  Slice<ApprovalRequest> findSliceByStatusAndApprovalUsernameOrderByCreatedOnDesc(
+      ApprovalRequestStatus status, String username, Pageable pageable);
+
+  long countByStatusAndApprovalUsername(ApprovalRequestStatus status, String username);
+
   Page<ApprovalRequest>
       findByPermissionInAndCreatedOnBetweenOrApprovedDateBetweenOrderByCreatedOnDesc(
           List<String> permissions,
@@ -16,13 +16,17 @@ import com.digicore.omnexa.common.lib.approval.enums.ApprovalRequestStatus;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import com.digicore.omnexa.common.lib.properties.MessagePropertyConfig;
 import com.digicore.omnexa.common.lib.util.BeanUtilWrapper;
+import com.digicore.omnexa.common.lib.util.EstimatedTotalCache;
+import com.digicore.omnexa.common.lib.util.PagenationUtil;
 import com.digicore.omnexa.common.lib.util.PaginatedResponse;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -42,42 +46,43 @@ import org.springframework.stereotype.Service;
 public class ApprovalRequestService {
   private final ApprovalRequestRepository approvalRequestRepository;
   private final MessagePropertyConfig messagePropertyConfig;
+  private final EstimatedTotalCache estimatedTotalCache;
 
   private static final String INVALID_REQUEST_ID_MESSAGE = "Invalid request id supplied";
   private static final String INVALID_REQUEST_ID_CODE = "MK_001";
 
   public PaginatedResponse<ApprovalRequestDTO> getRequests(
       int page, int size, ApprovalRequestStatus status) {
-    Page<ApprovalRequest> approvalRequestPage =
-        approvalRequestRepository.findByStatusAndApprovalUsernameOrderByCreatedOnDesc(
-            status, getLoggedInUsername(), getPageable(page, size));
-    return getPaginatedResponse(approvalRequestPage);
+    String username = getLoggedInUsername();
+    Slice<ApprovalRequest> approvalRequestSlice =
+        approvalRequestRepository.findSliceByStatusAndApprovalUsernameOrderByCreatedOnDesc(
+            status, username, getPageable(page, size));
+    OptionalLong total =
+        estimatedTotalCache.get(
+            "approval-requests:status:" + status + ":user:" + username,
+            () -> approvalRequestRepository.countByStatusAndApprovalUsername(status, username));
+    return getPaginatedResponse(approvalRequestSlice, total);
   }
 
   private static PaginatedResponse<ApprovalRequestDTO> getPaginatedResponse(
-      Page<ApprovalRequest> approvalRequestPage) {
-    return PaginatedResponse.<ApprovalRequestDTO>builder()
-        .content(
-            approvalRequestPage.getContent().stream()
-                .map(
-                    approvalRequest -> {
-                      ApprovalRequestDTO approvalRequestsDTO = new ApprovalRequestDTO();
-                      BeanUtilWrapper.copyNonNullProperties(approvalRequest, approvalRequestsDTO);
-                      approvalRequestsDTO.setTreatDate(approvalRequest.getApprovedDate());
-                      approvalRequestsDTO.setApprovalRequestType(
-                          camelCaseToSentence(approvalRequest.getApprovalRequestType()));
-                      if (approvalRequest.getApprovalUsername() != null)
-                        approvalRequestsDTO.setApprovalUsername(
-                            approvalRequest.getApprovalUsername());
-                      return approvalRequestsDTO;
-                    })
-                .toList())
-        .currentPage(approvalRequestPage.getNumber() + 1)
-        .isFirstPage(approvalRequestPage.isFirst())
-        .isLastPage(approvalRequestPage.isLast())
-        .totalItems(approvalRequestPage.getTotalElements())
-        .totalPages(approvalRequestPage.getTotalPages())
-        .build();
+      Slice<ApprovalRequest> approvalRequestSlice, OptionalLong total) {
+    return PagenationUtil.buildPaginatedResponse(
+        approvalRequestSlice,
+        approvalRequestSlice.getContent().stream()
+            .map(
+                approvalRequest -> {
+                  ApprovalRequestDTO approvalRequestsDTO = new ApprovalRequestDTO();
+                  BeanUtilWrapper.copyNonNullProperties(approvalRequest, approvalRequestsDTO);
+                  approvalRequestsDTO.setTreatDate(approvalRequest.getApprovedDate());
+                  approvalRequestsDTO.setApprovalRequestType(
+                      camelCaseToSentence(approvalRequest.getApprovalRequestType()));
+                  if (approvalRequest.getApprovalUsername() != null)
+                    approvalRequestsDTO.setApprovalUsername(
+                        approvalRequest.getApprovalUsername());
+                  return approvalRequestsDTO;
+                })
+            .toList(),
+        total);
   }
 
   public PaginatedResponse<ApprovalRequestDTO> getRequests(int page, int size) {
@@ -111,10 +116,19 @@ public class ApprovalRequestService {
       int size,
       ApprovalRequestStatus status,
       ApprovalRequestStatus pendingStatus) {
-    Page<ApprovalRequest> approvalRequestPage =
-        approvalRequestRepository.findByPermissionInAndStatusInOrderByCreatedOnDesc(
-            loggedInUserPermissions, List.of(status, pendingStatus), getPageable(page, size));
-    List<ApprovalRequest> approvalRequests = approvalRequestPage.getContent();
+    List<ApprovalRequestStatus> statuses = List.of(status, pendingStatus);
+    Slice<ApprovalRequest> approvalRequestSlice =
+        approvalRequestRepository.findSliceByPermissionInAndStatusInOrderByCreatedOnDesc(
+            loggedInUserPermissions, statuses, getPageable(page, size));
+    OptionalLong total =
+        estimatedTotalCache.get(
+            "approval-requests:statuses:" + statuses
+                + ":permissions:"
+                + permissionsKey(loggedInUserPermissions),
+            () ->
+                approvalRequestRepository.countByPermissionInAndStatusIn(
+                    loggedInUserPermissions, statuses));
+    List<ApprovalRequest> approvalRequests = approvalRequestSlice.getContent();
     if (!nullOrEmpty(approvalRequests)) {
       String loggedInUserRole = getValueFromAccessToken("role");
       String loggedInUsername = getLoggedInUsername();
@@ -147,17 +161,26 @@ public class ApprovalRequestService {
                                                       approvalFlow.getNextApproval())))))
               .toList();
 
-      return getApprovalRequestDTOPaginatedResponseDTO(filteredRequests, approvalRequestPage);
+      return getApprovalRequestDTOPaginatedResponseDTO(
+          filteredRequests, approvalRequestSlice, total);
     }
-    return getApprovalRequestDTOPaginatedResponseDTO(approvalRequests, approvalRequestPage);
+    return getApprovalRequestDTOPaginatedResponseDTO(approvalRequests, approvalRequestSlice, total);
   }
 
   public PaginatedResponse<ApprovalRequestDTO> getRequests(
       List<String> loggedInUserPermissions, int page, int size, ApprovalRequestStatus status) {
-    Page<ApprovalRequest> approvalRequestPage =
-        approvalRequestRepository.findByPermissionInAndStatusOrderByCreatedOnDesc(
+    Slice<ApprovalRequest> approvalRequestSlice =
+        approvalRequestRepository.findSliceByPermissionInAndStatusOrderByCreatedOnDesc(
             loggedInUserPermissions, status, getPageable(page, size));
-    List<ApprovalRequest> approvalRequests = approvalRequestPage.getContent();
+    OptionalLong total =
+        estimatedTotalCache.get(
+            "approval-requests:status:" + status
+                + ":permissions:"
+                + permissionsKey(loggedInUserPermissions),
+            () ->
+                approvalRequestRepository.countByPermissionInAndStatus(
+                    loggedInUserPermissions, status));
+    List<ApprovalRequest> approvalRequests = approvalRequestSlice.getContent();
     if (!nullOrEmpty(approvalRequests)) {
       String loggedInUserRole = getValueFromAccessToken("role");
       String loggedInUsername = getLoggedInUsername();
@@ -189,35 +212,36 @@ public class ApprovalRequestService {
                                                   && loggedInUsername.equals(
                                                       approvalFlow.getNextApproval())))))
               .toList();
-      return getApprovalRequestDTOPaginatedResponseDTO(filteredRequests, approvalRequestPage);
+      return getApprovalRequestDTOPaginatedResponseDTO(
+          filteredRequests, approvalRequestSlice, total);
     }
-    return getApprovalRequestDTOPaginatedResponseDTO(approvalRequests, approvalRequestPage);
+    return getApprovalRequestDTOPaginatedResponseDTO(approvalRequests, approvalRequestSlice, total);
   }
 
   private static PaginatedResponse<ApprovalRequestDTO> getApprovalRequestDTOPaginatedResponseDTO(
-      List<ApprovalRequest> approvalRequests, Page<ApprovalRequest> approvalRequestPage) {
-    return PaginatedResponse.<ApprovalRequestDTO>builder()
-        .content(
-            approvalRequests.stream()
-                .map(
-                    approvalRequest -> {
-                      ApprovalRequestDTO approvalRequestsDTO = new ApprovalRequestDTO();
-                      BeanUtilWrapper.copyNonNullProperties(approvalRequest, approvalRequestsDTO);
-                      approvalRequestsDTO.setTreatDate(approvalRequest.getApprovedDate());
-                      approvalRequestsDTO.setApprovalRequestType(
-                          approvalRequestsDTO.getApprovalRequestType());
-                      if (approvalRequest.getApprovalUsername() != null)
-                        approvalRequestsDTO.setApprovalUsername(
-                            approvalRequest.getApprovalUsername());
-                      return approvalRequestsDTO;
-                    })
-                .toList())
-        .currentPage(approvalRequestPage.getNumber() + 1)
-        .isFirstPage(approvalRequestPage.isFirst())
-        .isLastPage(approvalRequestPage.isLast())
-        .totalItems(approvalRequestPage.getTotalElements())
-        .totalPages(approvalRequestPage.getTotalPages())
-        .build();
+      List<ApprovalRequest> approvalRequests,
+      Slice<ApprovalRequest> approvalRequestSlice,
+      OptionalLong total) {
+    return PagenationUtil.buildPaginatedResponse(
+        approvalRequestSlice,
+        approvalRequests.stream()
+            .map(
+                approvalRequest -> {
+                  ApprovalRequestDTO approvalRequestsDTO = new ApprovalRequestDTO();
+                  BeanUtilWrapper.copyNonNullProperties(approvalRequest, approvalRequestsDTO);
+                  approvalRequestsDTO.setTreatDate(approvalRequest.getApprovedDate());
+                  approvalRequestsDTO.setApprovalRequestType(
+                      approvalRequestsDTO.getApprovalRequestType());
+                  if (approvalRequest.getApprovalUsername() != null)
+                    approvalRequestsDTO.setApprovalUsername(approvalRequest.getApprovalUsername());
+                  return approvalRequestsDTO;
+                })
+            .toList(),
+        total);
+  }
+
+  private static String permissionsKey(List<String> permissions) {
+    return String.join(",", new TreeSet<>(permissions));
   }
 
   public static Pageable getPageable(int page, int size) {
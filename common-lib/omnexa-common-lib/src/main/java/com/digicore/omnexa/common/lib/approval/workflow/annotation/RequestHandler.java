@@ -11,6 +11,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 /*
@@ -21,6 +22,9 @@ import org.springframework.stereotype.Component;
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Component
+// RequestHandlerPostProcessor only registers handlers that are created, so they stay eager when
+// spring.main.lazy-initialization is on
+@Lazy(false)
 public @interface RequestHandler {
   String name() default "";
 
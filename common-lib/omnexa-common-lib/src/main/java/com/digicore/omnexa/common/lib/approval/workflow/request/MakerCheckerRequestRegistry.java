@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.approval.workflow.request;
+
+import static com.digicore.omnexa.common.lib.util.RequestUtil.getObjectReader;
+
+import com.digicore.omnexa.common.lib.api.ApiError;
+import com.digicore.omnexa.common.lib.approval.workflow.annotation.MakerChecker;
+import com.digicore.omnexa.common.lib.exception.OmnexaException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Startup-built registry of the request payload types declared through {@link
+ * MakerChecker#requestClassName()}.
+ *
+ * <p>Every bean is inspected once as it is initialised; for each maker-checker method the request
+ * class is resolved and a Jackson {@link ObjectReader} is bound to it. Approval replay then reads
+ * the stored {@code dataToUpdate} through the pre-bound reader, without {@code Class.forName} or
+ * mapper configuration on the approval path. Class names that could not be resolved at startup are
+ * resolved on first use and kept.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class MakerCheckerRequestRegistry implements BeanPostProcessor {
+  private final Map<String, ObjectReader> requestReaders = new ConcurrentHashMap<>();
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName)
+      throws BeansException {
+    Class<?> targetClass = AopUtils.getTargetClass(bean);
+    if (!targetClass.getName().startsWith("com.digicore")) {
+      return bean;
+    }
+    ReflectionUtils.doWithMethods(
+        targetClass,
+        this::register,
+        method -> method.isAnnotationPresent(MakerChecker.class));
+    return bean;
+  }
+
+  /**
+   * Deserializes a stored maker request into the type registered for {@code requestClassName}.
+   *
+   * @param requestClassName the fully qualified request class declared on the maker-checker
+   *     method.
+   * @param data the JSON captured when the maker submitted the request.
+   * @return the request object, or {@code null} when no data was captured.
+   */
+  public Object readRequest(String requestClassName, String data) {
+    if (data == null || data.isEmpty()) {
+      return null;
+    }
+    try {
+      return getReader(requestClassName).readValue(data);
+    } catch (OmnexaException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new OmnexaException(HttpStatus.BAD_REQUEST, new ApiError(e.getMessage(), "MKT_004"));
+    }
+  }
+
+  private ObjectReader getReader(String requestClassName) {
+    ObjectReader reader = requestReaders.get(requestClassName);
+    if (reader != null) {
+      return reader;
+    }
+    return requestReaders.computeIfAbsent(
+        requestClassName,
+        className -> {
+          try {
+            return bindReader(className);
+          } catch (ClassNotFoundException e) {
+            throw new OmnexaException(
+                HttpStatus.BAD_REQUEST, new ApiError(e.getMessage(), "MKT_004"));
+          }
+        });
+  }
+
+  private void register(Method method) {
+    String requestClassName = method.getAnnotation(MakerChecker.class).requestClassName();
+    if (requestClassName == null
+        || requestClassName.isBlank()
+        || requestReaders.containsKey(requestClassName)) {
+      return;
+    }
+    try {
+      requestReaders.put(requestClassName, bindReader(requestClassName));
+      log.trace("<<< registered maker-checker request type {} >>>", requestClassName);
+    } catch (ClassNotFoundException e) {
+      log.warn(
+          "<<< maker-checker request type {} declared on {} could not be resolved >>>",
+          requestClassName,
+          method.toGenericString());
+    }
+  }
+
+  private static ObjectReader bindReader(String requestClassName) throws ClassNotFoundException {
+    Class<?> requestClass =
+        ClassUtils.forName(requestClassName, MakerCheckerRequestRegistry.class.getClassLoader());
+    return getObjectReader(requestClass);
+  }
+}
@@ -10,6 +10,9 @@ import static com.digicore.omnexa.common.lib.approval.workflow.constant.RequestP
 
 import com.digicore.omnexa.common.lib.api.ApiError;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
@@ -55,29 +58,36 @@ public class RequestHandlers {
   }
 
   public static class RequestHandle {
-    private final Method method;
-    private final Object target;
+    private static final Object[] NO_ARGS = new Object[0];
+    private final MethodHandle invoker;
+    private final int parameterCount;
 
+    @SneakyThrows
     public RequestHandle(Method method, Object target) {
-      this.method = method;
-      this.target = target;
+      this.parameterCount = method.getParameterCount();
+      this.invoker =
+          MethodHandles.lookup()
+              .unreflect(method)
+              .bindTo(target)
+              .asSpreader(Object[].class, parameterCount)
+              .asType(MethodType.methodType(Object.class, Object[].class));
     }
 
     @SneakyThrows
     public <V> V handle(Class<V> responseClazz, Object... args) {
-      return responseClazz.cast(method.invoke(target, args));
+      return responseClazz.cast(invoker.invokeExact(args));
     }
 
     @SneakyThrows
     public <T, V> V handle(T request, Class<V> responseClazz) {
       if (isVoidMethodType()) {
-        return responseClazz.cast(method.invoke(target));
+        return responseClazz.cast(invoker.invokeExact(NO_ARGS));
       }
-      return responseClazz.cast(method.invoke(target, request));
+      return responseClazz.cast(invoker.invokeExact(new Object[] {request}));
     }
 
     private boolean isVoidMethodType() {
-      return method.getParameterCount() == 0;
+      return parameterCount == 0;
     }
   }
 }
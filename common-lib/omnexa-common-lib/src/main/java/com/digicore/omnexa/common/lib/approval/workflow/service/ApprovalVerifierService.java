@@ -6,7 +6,6 @@
 
 package com.digicore.omnexa.common.lib.approval.workflow.service;
 
-import static com.digicore.omnexa.common.lib.util.RequestUtil.getObjectMapper;
 import static com.digicore.omnexa.common.lib.util.RequestUtil.getValueFromAccessToken;
 
 import com.digicore.omnexa.common.lib.api.ApiError;
@@ -16,6 +15,7 @@ import com.digicore.omnexa.common.lib.approval.dto.ApprovalResponseDTO;
 import com.digicore.omnexa.common.lib.approval.enums.ApprovalRequestStatus;
 import com.digicore.omnexa.common.lib.approval.rule.service.ApprovalRuleService;
 import com.digicore.omnexa.common.lib.approval.workflow.annotation.MakerChecker;
+import com.digicore.omnexa.common.lib.approval.workflow.request.MakerCheckerRequestRegistry;
 import com.digicore.omnexa.common.lib.audit.service.OmnexaAuditLogService;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import jakarta.transaction.Transactional;
@@ -42,6 +42,7 @@ public class ApprovalVerifierService {
   private final ApprovalRequestRepository approvalRequestRepository;
   private final ApprovalRuleService approvalRuleService;
   private final OmnexaAuditLogService regulatoryLoggingService;
+  private final MakerCheckerRequestRegistry makerCheckerRequestRegistry;
 
   public ApprovalResponseDTO triggerActualMethodCall(
       ProceedingJoinPoint joinPoint,
@@ -122,29 +123,19 @@ public class ApprovalVerifierService {
     return getApprovalResponse();
   }
 
-  private static Object[] getMethodActualArgs(
+  private Object[] getMethodActualArgs(
       ProceedingJoinPoint joinPoint, MakerChecker makerChecker, ApprovalRequest approvalRequest) {
-    try {
-
-      if (makerChecker.requestClassName() != null && !makerChecker.requestClassName().isBlank()) {
-        Class<?> c = Class.forName(makerChecker.requestClassName());
-        Object requestArg = null;
-
-        if (approvalRequest.getDataToUpdate() != null
-            && !approvalRequest.getDataToUpdate().isEmpty()) {
-          requestArg = getObjectMapper().readValue(approvalRequest.getDataToUpdate(), c);
-        }
+    if (makerChecker.requestClassName() != null && !makerChecker.requestClassName().isBlank()) {
+      Object requestArg =
+          makerCheckerRequestRegistry.readRequest(
+              makerChecker.requestClassName(), approvalRequest.getDataToUpdate());
 
-        Object[] args = joinPoint.getArgs();
-
-        args[1] = requestArg;
-        return args;
-      }
-      return new Object[0];
+      Object[] args = joinPoint.getArgs();
 
-    } catch (Exception e) {
-      throw new OmnexaException(HttpStatus.BAD_REQUEST, new ApiError(e.getMessage(), "MKT_004"));
+      args[1] = requestArg;
+      return args;
     }
+    return new Object[0];
   }
 
   private ApprovalResponseDTO getApprovalResponse() {
@@ -157,8 +157,8 @@ public class ApprovalWorkflowService {
     String initialData = "";
     if (makerChecker.requestClassName() != null && !makerChecker.requestClassName().isBlank()) {
       try {
-        initialData = getObjectMapper().writeValueAsString(joinPoint.getArgs()[0]);
-        requestData = getObjectMapper().writeValueAsString(joinPoint.getArgs()[1]);
+        initialData = getObjectWriter().writeValueAsString(joinPoint.getArgs()[0]);
+        requestData = getObjectWriter().writeValueAsString(joinPoint.getArgs()[1]);
       } catch (Exception e) {
         log.error("maker-checker data deserialization error", e);
       }
@@ -6,11 +6,10 @@
 
 package com.digicore.omnexa.common.lib.approval.workflow.service;
 
-import static com.digicore.omnexa.common.lib.util.RequestUtil.getObjectMapper;
-
 import com.digicore.omnexa.common.lib.api.ApiError;
 import com.digicore.omnexa.common.lib.approval.data.model.ApprovalRequest;
 import com.digicore.omnexa.common.lib.approval.data.repository.ApprovalRequestRepository;
+import com.digicore.omnexa.common.lib.approval.workflow.request.MakerCheckerRequestRegistry;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +25,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class WorkflowHelper {
   private final ApprovalRequestRepository approvalRequestRepository;
+  private final MakerCheckerRequestRegistry makerCheckerRequestRegistry;
 
   public Object retrieveRequest(String className, long requestId) {
     ApprovalRequest approvalRequest = approvalRequestRepository.findById(requestId).orElseThrow();
@@ -35,10 +35,10 @@ public class WorkflowHelper {
     }
 
     try {
-      Class<?> c = Class.forName(className);
       if (approvalRequest.getDataToUpdate() != null
           && !approvalRequest.getDataToUpdate().isEmpty()) {
-        return getObjectMapper().readValue(approvalRequest.getDataToUpdate(), c);
+        return makerCheckerRequestRegistry.readRequest(
+            className, approvalRequest.getDataToUpdate());
       }
 
     } catch (Exception e) {
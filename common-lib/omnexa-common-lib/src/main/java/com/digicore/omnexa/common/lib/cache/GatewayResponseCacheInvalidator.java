@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tells the gateway to drop cached GET responses once the data behind them changes. The gateway's
+ * response cache listens on {@link #INVALIDATION_CHANNEL} for path prefixes.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatewayResponseCacheInvalidator {
+  /** Must match the channel of the gateway's {@code ResponseCacheFilter}. */
+  public static final String INVALIDATION_CHANNEL = "omnexa:gateway:response-cache:invalidate";
+
+  private final RedissonClient redissonClient;
+
+  /**
+   * Drops the cached responses of every path starting with {@code pathPrefix}, as routed by the
+   * gateway (for example {@code /omnexa-backoffice/v1/permissions/}); an empty prefix drops all.
+   * Inside a transaction the message is sent after commit, so the gateway cannot re-cache the old
+   * data. Best effort: a failed publish is logged and the entries expire with their time-to-live.
+   */
+  public void invalidate(String pathPrefix) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              publish(pathPrefix);
+            }
+          });
+    } else {
+      publish(pathPrefix);
+    }
+  }
+
+  private void publish(String pathPrefix) {
+    redissonClient
+        .getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE)
+        .publishAsync(pathPrefix)
+        .whenComplete(
+            (receivers, e) -> {
+              if (e != null) {
+                log.warn(
+                    "<<< could not invalidate gateway cache for {} : {} >>>",
+                    pathPrefix,
+                    e.getMessage());
+              }
+            });
+  }
+}
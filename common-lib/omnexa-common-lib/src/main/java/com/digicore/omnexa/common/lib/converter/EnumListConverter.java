@@ -74,7 +74,8 @@ public abstract class EnumListConverter<X extends Enum<X>>
   public Set<X> convertToEntityAttribute(String joined) {
     return StringUtils.isNotBlank(joined)
         ? Arrays.stream(joined.split(","))
-            .map(name -> Enum.valueOf(enumType, name))
+            .filter(StringUtils::isNotBlank)
+            .map(name -> EnumLookup.find(enumType, name))
             .collect(Collectors.toSet())
         : Collections.emptySet();
   }
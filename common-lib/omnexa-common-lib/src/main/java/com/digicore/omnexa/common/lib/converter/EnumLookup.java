@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.converter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable, case-normalized name-to-constant tables for enum types, built once per enum class.
+ *
+ * <p>Used by the JPA enum converters in place of {@link Enum#valueOf(Class, String)} so that row
+ * hydration is a single hash lookup. Unknown column values still fail the read: hydrating them as
+ * {@code null} would let the next full-row update overwrite the stored value. Enums with constants
+ * that differ only in case are rejected, as their names would share one key.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+public final class EnumLookup {
+  private static final ClassValue<Map<String, Enum<?>>> TABLES =
+      new ClassValue<>() {
+        @Override
+        protected Map<String, Enum<?>> computeValue(Class<?> type) {
+          Map<String, Enum<?>> table = new HashMap<>();
+          for (Object constant : type.getEnumConstants()) {
+            Enum<?> value = (Enum<?>) constant;
+            Enum<?> previous = table.put(normalize(value.name()), value);
+            if (previous != null) {
+              throw new IllegalStateException(
+                  type.getName()
+                      + " cannot be resolved ignoring case: "
+                      + previous.name()
+                      + " and "
+                      + value.name()
+                      + " collide");
+            }
+          }
+          return Map.copyOf(table);
+        }
+      };
+
+  private EnumLookup() {}
+
+  /**
+   * Resolves {@code name} to a constant of {@code enumType}, ignoring case and surrounding
+   * whitespace.
+   *
+   * @param enumType the enum class to resolve against.
+   * @param name the stored name of the constant.
+   * @return the matching constant, or {@code null} when {@code name} is blank.
+   * @throws IllegalArgumentException if {@code name} is not a constant of {@code enumType}.
+   */
+  public static <E extends Enum<E>> E find(Class<E> enumType, String name) {
+    if (name == null || name.isBlank()) {
+      return null;
+    }
+    Enum<?> value = TABLES.get(enumType).get(normalize(name));
+    if (value == null) {
+      log.error("<<< unknown {} value '{}' >>>", enumType.getSimpleName(), name);
+      throw new IllegalArgumentException(
+          "No enum constant " + enumType.getCanonicalName() + "." + name);
+    }
+    return enumType.cast(value);
+  }
+
+  private static String normalize(String name) {
+    return name.strip().toUpperCase(Locale.ROOT);
+  }
+}
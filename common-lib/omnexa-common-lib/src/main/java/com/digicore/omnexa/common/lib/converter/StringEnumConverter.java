@@ -8,7 +8,6 @@ package com.digicore.omnexa.common.lib.converter;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
-import org.apache.commons.lang3.StringUtils;
 
 /**
  * A JPA converter class for converting enum values to their string representation and vice versa.
@@ -59,11 +58,14 @@ public class StringEnumConverter<E extends Enum<E>> implements AttributeConverte
   /**
    * Converts a string from the database to its corresponding enum value.
    *
+   * <p>Resolution goes through the precomputed {@link EnumLookup} table of the enum type, so the
+   * lookup is case-insensitive; values that do not exist on the enum still throw.
+   *
    * @param dbData The string representation of the enum value.
    * @return The enum value corresponding to the string, or null if the string is blank.
    */
   @Override
   public E convertToEntityAttribute(String dbData) {
-    return (StringUtils.isNotBlank(dbData) ? Enum.valueOf(this.enumType, dbData) : null);
+    return EnumLookup.find(this.enumType, dbData);
   }
 }
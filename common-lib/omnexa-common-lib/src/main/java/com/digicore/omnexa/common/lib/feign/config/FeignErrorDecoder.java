@@ -33,7 +33,7 @@ public class FeignErrorDecoder implements ErrorDecoder {
     if (body != null && !body.isBlank()) {
       try {
         ApiResponseJson<?> apiResponseJson =
-            RequestUtil.getObjectMapper().readValue(body, ApiResponseJson.class);
+            RequestUtil.getObjectReader(ApiResponseJson.class).readValue(body);
         return new OmnexaException(
             apiResponseJson.getMessage(),
             HttpStatus.valueOf(response.status()),
@@ -29,8 +29,22 @@ public class FilePropertyConfig {
 
   private int maxFileUploadSize;
 
+  /** Storage backend: {@code local} (default) or {@code s3}. */
+  private String storage = "local";
+
   private String s3BucketName;
   private String s3AccessKey;
   private String s3SecretKey;
   private String s3Region;
+
+  /** Endpoint override for S3-compatible stores such as MinIO; path-style access is used. */
+  private String s3Url;
+
+  /** Uploads larger than this are sent as a multipart upload of parts of this size (min 5 MB). */
+  private int s3PartSize = 8 * 1024 * 1024;
+
+  /** Parts uploaded in parallel per multipart upload. */
+  private int s3UploadConcurrency = 4;
+
+  private long s3PresignedUrlTtlSeconds = 900;
 }
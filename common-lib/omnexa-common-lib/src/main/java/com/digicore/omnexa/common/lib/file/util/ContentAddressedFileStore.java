@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.file.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local file store that keeps each distinct file content once.
+ *
+ * <p>Uploads are streamed to a temporary file while their SHA-256 digest is computed, then stored
+ * as a blob named after the digest under {@code blobs/}. The path handed back to callers is a hard
+ * link to that blob, so the existing path-based contract (stored paths, extensions, deletes) is
+ * unchanged while identical uploads share their disk blocks. A blob is removed when its last link
+ * is deleted. On file systems without hard link support the content is copied instead.
+ *
+ * <p>The digest of each stored path is recorded under {@code refs/}, keyed by the path, so a delete
+ * finds the blob without reading the file again. Files stored before the index existed are hashed
+ * on delete.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+class ContentAddressedFileStore {
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int MAX_LINK_ATTEMPTS = 3;
+
+  private final Path blobDirectory;
+  private final Path refDirectory;
+  private final Path tempDirectory;
+
+  ContentAddressedFileStore(Path rootDirectory) {
+    this.blobDirectory = rootDirectory.resolve("blobs");
+    this.refDirectory = rootDirectory.resolve("refs");
+    this.tempDirectory = rootDirectory.resolve("tmp");
+  }
+
+  /**
+   * Stores {@code content} at {@code target}, sharing the blob of any identical file stored before.
+   *
+   * @return the content digest as lower-case hex.
+   */
+  String store(InputStream content, Path target) throws IOException {
+    Files.createDirectories(tempDirectory);
+    Path tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+    try {
+      String digest = copyAndDigest(content, tempFile);
+      Path blob = blobPath(digest);
+      Files.createDirectories(blob.getParent());
+      Files.createDirectories(target.getParent());
+      if (Files.exists(target)) {
+        delete(target);
+      }
+
+      for (int attempt = 1; ; attempt++) {
+        try {
+          if (!Files.exists(blob)) {
+            link(tempFile, blob);
+          }
+          link(blob, target);
+          writeRef(target, digest);
+          return digest;
+        } catch (FileAlreadyExistsException | NoSuchFileException e) {
+          // a concurrent upload created the same blob, or a delete removed it; try again
+          if (attempt >= MAX_LINK_ATTEMPTS) {
+            throw e;
+          }
+        }
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  /** Deletes {@code path} and the blob behind it once no other stored file refers to it. */
+  void delete(Path path) throws IOException {
+    Path ref = refPath(path);
+    String digest = readRef(ref);
+    if (digest == null) {
+      try (InputStream content = Files.newInputStream(path)) {
+        digest = copyAndDigest(content, null);
+      }
+    }
+    Files.delete(path);
+    Files.deleteIfExists(ref);
+
+    Path blob = blobPath(digest);
+    Integer links = linkCount(blob);
+    if (links != null && links <= 1) {
+      Files.deleteIfExists(blob);
+    }
+  }
+
+  private Path blobPath(String digest) {
+    return blobDirectory.resolve(digest.substring(0, 2)).resolve(digest);
+  }
+
+  /** Returns the index entry of {@code path}, named after the digest of its normalized form. */
+  private Path refPath(Path path) {
+    String normalized = path.toAbsolutePath().normalize().toString();
+    String key =
+        HexFormat.of().formatHex(newDigest().digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    return refDirectory.resolve(key.substring(0, 2)).resolve(key);
+  }
+
+  private void writeRef(Path target, String digest) throws IOException {
+    Path ref = refPath(target);
+    Files.createDirectories(ref.getParent());
+    Files.writeString(ref, digest, StandardCharsets.US_ASCII);
+  }
+
+  private static String readRef(Path ref) throws IOException {
+    try {
+      return Files.readString(ref, StandardCharsets.US_ASCII).strip();
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  /** Makes {@code target} a new link to the file at {@code existing}. */
+  private static void link(Path existing, Path target) throws IOException {
+    try {
+      Files.createLink(target, existing);
+    } catch (UnsupportedOperationException e) {
+      Files.copy(existing, target);
+    }
+  }
+
+  private static Integer linkCount(Path blob) {
+    try {
+      return (Integer) Files.getAttribute(blob, "unix:nlink");
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+      log.trace("<<< link count unavailable for {}, keeping blob >>>", blob);
+      return null;
+    }
+  }
+
+  /** Streams {@code content} into {@code target} (when not null) and returns its digest. */
+  private static String copyAndDigest(InputStream content, Path target) throws IOException {
+    MessageDigest messageDigest = newDigest();
+    try (DigestInputStream in = new DigestInputStream(content, messageDigest)) {
+      if (target == null) {
+        in.transferTo(OutputStream.nullOutputStream());
+      } else {
+        Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    return HexFormat.of().formatHex(messageDigest.digest());
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+    }
+  }
+}
@@ -9,33 +9,48 @@ package com.digicore.omnexa.common.lib.file.util;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
 import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.FileUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 /*
+ * Local disk implementation. Uploads go through a ContentAddressedFileStore rooted at
+ * <uploadDir>/lucid, so identical files are stored once, and reads are served as streams.
+ *
  * @author Oluwatobi Ogunwuyi
  * @createdOn Feb-17(Mon)-2025
  */
 
 @Component
+@ConditionalOnProperty(
+    prefix = "omnexa.file",
+    name = "storage",
+    havingValue = "local",
+    matchIfMissing = true)
 @Slf4j
 @Getter
 public class DefaultFileUtil extends FileUtil {
   private final FilePropertyConfig filePropertyConfig;
+  private final ContentAddressedFileStore fileStore;
 
   public DefaultFileUtil(FilePropertyConfig filePropertyConfig) {
     super(filePropertyConfig);
     log.info("<<< Instantiating DefaultFileUtil >>>");
     this.filePropertyConfig = filePropertyConfig;
+    this.fileStore =
+        new ContentAddressedFileStore(
+            Paths.get(filePropertyConfig.getFileUploadDirectory(), "/lucid")
+                .toAbsolutePath()
+                .normalize());
   }
 
   @Override
@@ -47,9 +62,11 @@ public class DefaultFileUtil extends FileUtil {
             .toAbsolutePath()
             .normalize();
     Files.createDirectories(uploadPath);
-    // copy file to target location
+    // stream the upload into the store, sharing the blob of an identical earlier upload
     Path targetLocation = uploadPath.resolve(fileName);
-    Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    try (InputStream content = file.getInputStream()) {
+      fileStore.store(content, targetLocation);
+    }
     return targetLocation.toString();
   }
 
@@ -59,7 +76,7 @@ public class DefaultFileUtil extends FileUtil {
   @Override
   public void deleteFile(FileUploadedDTO fileUploadedDTO) {
     try {
-      Files.delete(Paths.get(fileUploadedDTO.getFilePath()));
+      fileStore.delete(Paths.get(fileUploadedDTO.getFilePath()));
     } catch (IOException e) {
       log.error("unable to delete file, using default utils : {}", e.getMessage());
       throw new OmnexaException("unable to delete file, using default utils : ", e);
@@ -73,6 +90,11 @@ public class DefaultFileUtil extends FileUtil {
 
   @Override
   public byte[] getSavedFile(FileUploadedDTO fileUploadedDTO) throws IOException {
-    return FileUtils.readFileToByteArray(new File(fileUploadedDTO.getFilePath()));
+    return Files.readAllBytes(Paths.get(fileUploadedDTO.getFilePath()));
+  }
+
+  @Override
+  public Resource getSavedFileResource(FileUploadedDTO fileUploadedDTO) {
+    return new FileSystemResource(fileUploadedDTO.getFilePath());
   }
 }
@@ -12,10 +12,20 @@ import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
 import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,6 +41,21 @@ public abstract class FileUtil {
   private static final String VIDEO_MP4_VALUE = "video/mp4";
   private static final String TEXT_CSV_VALUE = "text/csv";
   private static final String APK_FILE_VALUE = "application/vnd.android.package-archive";
+  private static final int MP4_SIGNATURE_OFFSET = 4;
+  private static final int TEXT_SNIFF_LENGTH = 8192;
+  private static final Set<String> TEXT_TYPES = Set.of(MediaType.TEXT_PLAIN_VALUE, TEXT_CSV_VALUE);
+  private static final Map<String, byte[]> CONTENT_SIGNATURES =
+      Map.of(
+          MediaType.APPLICATION_PDF_VALUE,
+          "%PDF-".getBytes(StandardCharsets.US_ASCII),
+          MediaType.IMAGE_PNG_VALUE,
+          new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'},
+          MediaType.IMAGE_JPEG_VALUE,
+          new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},
+          APK_FILE_VALUE,
+          new byte[] {'P', 'K', 0x03, 0x04},
+          VIDEO_MP4_VALUE,
+          "ftyp".getBytes(StandardCharsets.US_ASCII));
   public static final String FILE_TYPE_REJECTED_MESSAGE = "file type rejected";
   public static final String FILE_TYPE_REJECTED_CODE = "FIL_001";
 
@@ -66,16 +91,16 @@ public abstract class FileUtil {
 
   public String saveFile(
       String filePath, MultipartFile file, String fileName, boolean fileIsDocument) {
+    validateFile(file, fileIsDocument);
+    return saveValidatedFile(filePath, file, fileName);
+  }
+
+  /**
+   * Saves a file that the caller has already passed through {@link #validateFile(MultipartFile,
+   * boolean)}, so its content is not read again.
+   */
+  public String saveValidatedFile(String filePath, MultipartFile file, String fileName) {
     try {
-      if (fileIsDocument) {
-        if (fileTypeForDocumentIsNotValid(file) && fileSizeIsNotValid(file))
-          throw new OmnexaException(
-              HttpStatus.BAD_REQUEST,
-              new ApiError(FILE_TYPE_REJECTED_MESSAGE, FILE_TYPE_REJECTED_CODE));
-      } else if (fileTypeForMultiMediaIsNotValid(file) && fileSizeIsNotValid(file))
-        throw new OmnexaException(
-            HttpStatus.BAD_REQUEST,
-            new ApiError(FILE_TYPE_REJECTED_MESSAGE, FILE_TYPE_REJECTED_CODE));
       return getSavedFilePath(filePath, file, fileName);
     } catch (Exception e) {
       // TODO add custom fileStorageException
@@ -85,6 +110,26 @@ public abstract class FileUtil {
     }
   }
 
+  /**
+   * Rejects the file unless its declared type is allowed, its leading bytes match that type and its
+   * size is within the configured bounds. Nothing is written, so callers can validate every file of
+   * a submission before storing any of them.
+   */
+  public void validateFile(MultipartFile file, boolean fileIsDocument) {
+    boolean fileTypeIsNotValid =
+        fileIsDocument
+            ? fileTypeForDocumentIsNotValid(file)
+            : fileTypeForMultiMediaIsNotValid(file);
+    if (fileTypeIsNotValid || fileContentDoesNotMatchType(file))
+      throw new OmnexaException(
+          HttpStatus.BAD_REQUEST,
+          new ApiError(FILE_TYPE_REJECTED_MESSAGE, FILE_TYPE_REJECTED_CODE));
+    if (fileSizeIsNotValid(file))
+      throw new OmnexaException(
+          HttpStatus.BAD_REQUEST,
+          new ApiError(FILE_SIZE_REJECTED_MESSAGE, FILE_SIZE_REJECTED_CODE));
+  }
+
   protected abstract String getSavedFilePath(String type, MultipartFile file, String fileName)
       throws IOException;
 
@@ -93,21 +138,7 @@ public abstract class FileUtil {
   }
 
   public String fileName(String uuid, MultipartFile file, boolean fileIsDocument) {
-    if (fileIsDocument) {
-      if (fileTypeForDocumentIsNotValid(file))
-        throw new OmnexaException(
-            HttpStatus.BAD_REQUEST,
-            new ApiError(FILE_TYPE_REJECTED_MESSAGE, FILE_TYPE_REJECTED_CODE));
-    } else {
-      if (fileTypeForMultiMediaIsNotValid(file))
-        throw new OmnexaException(
-            HttpStatus.BAD_REQUEST,
-            new ApiError(FILE_TYPE_REJECTED_MESSAGE, FILE_TYPE_REJECTED_CODE));
-    }
-    if (fileSizeIsNotValid(file))
-      throw new OmnexaException(
-          HttpStatus.BAD_REQUEST,
-          new ApiError(FILE_SIZE_REJECTED_MESSAGE, FILE_SIZE_REJECTED_CODE));
+    validateFile(file, fileIsDocument);
     String originalFileName = file.getOriginalFilename();
     if (originalFileName == null || file.isEmpty())
       throw new OmnexaException(
@@ -132,7 +163,6 @@ public abstract class FileUtil {
         && !MediaType.APPLICATION_PDF_VALUE.equalsIgnoreCase(file.getContentType())
         && !MediaType.IMAGE_JPEG_VALUE.equalsIgnoreCase(file.getContentType())
         && !MediaType.IMAGE_PNG_VALUE.equalsIgnoreCase(file.getContentType())
-        && !MediaType.APPLICATION_OCTET_STREAM_VALUE.equalsIgnoreCase(file.getContentType())
         && !TEXT_CSV_VALUE.equalsIgnoreCase(file.getContentType())
         && !APK_FILE_VALUE.equalsIgnoreCase(file.getContentType());
   }
@@ -142,6 +172,49 @@ public abstract class FileUtil {
         && !APK_FILE_VALUE.equalsIgnoreCase(file.getContentType());
   }
 
+  /**
+   * Compares the leading bytes of the file with the signature of its declared type. Text and csv
+   * have no signature, so their leading bytes must look like text instead.
+   */
+  private boolean fileContentDoesNotMatchType(MultipartFile file) {
+    String contentType =
+        file.getContentType() == null ? "" : file.getContentType().toLowerCase(Locale.ROOT);
+    if (TEXT_TYPES.contains(contentType)) {
+      return fileContentIsNotText(file);
+    }
+    byte[] signature = CONTENT_SIGNATURES.get(contentType);
+    int offset = VIDEO_MP4_VALUE.equals(contentType) ? MP4_SIGNATURE_OFFSET : 0;
+    if (signature == null) {
+      return false;
+    }
+    try (InputStream content = file.getInputStream()) {
+      byte[] header = content.readNBytes(offset + signature.length);
+      return header.length < offset + signature.length
+          || !Arrays.equals(header, offset, header.length, signature, 0, signature.length);
+    } catch (IOException e) {
+      log.warn("could not read the file to check its type : {}", e.getMessage());
+      return true;
+    }
+  }
+
+  /**
+   * Treats the file as binary when its leading bytes hold a NUL or another control character that
+   * text does not use, as executables, archives and images do.
+   */
+  private boolean fileContentIsNotText(MultipartFile file) {
+    try (InputStream content = file.getInputStream()) {
+      for (byte b : content.readNBytes(TEXT_SNIFF_LENGTH)) {
+        if (b >= 0 && b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f') {
+          return true;
+        }
+      }
+      return false;
+    } catch (IOException e) {
+      log.warn("could not read the file to check its type : {}", e.getMessage());
+      return true;
+    }
+  }
+
   public static String getMediaType(String fileExtension) {
     return switch (fileExtension) {
       case "txt" -> MediaType.TEXT_PLAIN_VALUE;
@@ -157,4 +230,21 @@ public abstract class FileUtil {
   }
 
   public abstract byte[] getSavedFile(FileUploadedDTO fileUploadedDTO) throws IOException;
+
+  /**
+   * Returns the saved file as a {@link Resource} so it can be streamed, or served in ranges through
+   * a {@code ResponseEntity<Resource>}, without holding the whole file in memory. Implementations
+   * that cannot stream fall back to {@link #getSavedFile(FileUploadedDTO)}.
+   */
+  public Resource getSavedFileResource(FileUploadedDTO fileUploadedDTO) throws IOException {
+    return new ByteArrayResource(getSavedFile(fileUploadedDTO));
+  }
+
+  /**
+   * Returns a short-lived URL from which the client can download the file directly, so the
+   * transfer does not pass through the application. Empty when the backend cannot issue one.
+   */
+  public Optional<URL> getDownloadUrl(FileUploadedDTO fileUploadedDTO) {
+    return Optional.empty();
+  }
 }
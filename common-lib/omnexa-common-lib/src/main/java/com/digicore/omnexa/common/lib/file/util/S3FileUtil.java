@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.file.util;
+
+import com.digicore.omnexa.common.lib.exception.OmnexaException;
+import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
+import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/*
+ * S3-compatible object storage implementation, enabled with omnexa.file.storage=s3.
+ *
+ * Files are stored under the "lucid/" prefix and their location is recorded as s3://bucket/key.
+ * Uploads stream from the request: files up to s3PartSize are sent in one PUT, larger ones as a
+ * multipart upload whose parts are uploaded in parallel, with at most s3UploadConcurrency parts
+ * buffered per upload. Downloads can be offloaded to clients through presigned URLs. Setting
+ * s3Url points the client at a local MinIO (or other S3-compatible) server.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "omnexa.file", name = "storage", havingValue = "s3")
+@Slf4j
+public class S3FileUtil extends FileUtil implements DisposableBean {
+  private static final String KEY_PREFIX = "lucid";
+  private static final String LOCATION_SCHEME = "s3://";
+  private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  private final String bucketName;
+  private final int partSize;
+  private final int uploadConcurrency;
+  private final Duration presignedUrlTtl;
+  private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final ExecutorService partUploadExecutor;
+
+  public S3FileUtil(FilePropertyConfig filePropertyConfig) {
+    super(filePropertyConfig);
+    log.info("<<< Instantiating S3FileUtil >>>");
+    this.bucketName = filePropertyConfig.getS3BucketName();
+    this.partSize = Math.max(MIN_PART_SIZE, filePropertyConfig.getS3PartSize());
+    this.uploadConcurrency = Math.max(1, filePropertyConfig.getS3UploadConcurrency());
+    this.presignedUrlTtl = Duration.ofSeconds(filePropertyConfig.getS3PresignedUrlTtlSeconds());
+
+    Region region =
+        Region.of(
+            StringUtils.hasText(filePropertyConfig.getS3Region())
+                ? filePropertyConfig.getS3Region()
+                : "us-east-1");
+    AwsCredentialsProvider credentials = credentialsProvider(filePropertyConfig);
+    S3Configuration s3Configuration =
+        S3Configuration.builder()
+            .pathStyleAccessEnabled(StringUtils.hasText(filePropertyConfig.getS3Url()))
+            .build();
+
+    S3ClientBuilder clientBuilder =
+        S3Client.builder()
+            .region(region)
+            .credentialsProvider(credentials)
+            .serviceConfiguration(s3Configuration);
+    S3Presigner.Builder presignerBuilder =
+        S3Presigner.builder()
+            .region(region)
+            .credentialsProvider(credentials)
+            .serviceConfiguration(s3Configuration);
+    if (StringUtils.hasText(filePropertyConfig.getS3Url())) {
+      URI endpoint = URI.create(filePropertyConfig.getS3Url());
+      clientBuilder.endpointOverride(endpoint);
+      presignerBuilder.endpointOverride(endpoint);
+    }
+    this.s3Client = clientBuilder.build();
+    this.s3Presigner = presignerBuilder.build();
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.partUploadExecutor =
+        Executors.newFixedThreadPool(
+            uploadConcurrency * 4,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "omnexa-s3-part-upload-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  private static AwsCredentialsProvider credentialsProvider(FilePropertyConfig config) {
+    if (StringUtils.hasText(config.getS3AccessKey())
+        && StringUtils.hasText(config.getS3SecretKey())) {
+      return StaticCredentialsProvider.create(
+          AwsBasicCredentials.create(config.getS3AccessKey(), config.getS3SecretKey()));
+    }
+    return DefaultCredentialsProvider.create();
+  }
+
+  @Override
+  protected String getSavedFilePath(String filePath, MultipartFile file, String fileName)
+      throws IOException {
+    String key = objectKey(KEY_PREFIX, filePath, fileName);
+    try (InputStream content = file.getInputStream()) {
+      if (file.getSize() <= partSize) {
+        s3Client.putObject(
+            request -> request.bucket(bucketName).key(key).contentType(file.getContentType()),
+            RequestBody.fromInputStream(content, file.getSize()));
+      } else {
+        multipartUpload(key, content, file.getContentType());
+      }
+    }
+    return location(key);
+  }
+
+  /**
+   * Reads {@code content} part by part and uploads the parts in parallel. At most {@link
+   * #uploadConcurrency} parts are in flight, which bounds the memory used by one upload.
+   */
+  private void multipartUpload(String key, InputStream content, String contentType)
+      throws IOException {
+    String uploadId =
+        s3Client
+            .createMultipartUpload(
+                request -> request.bucket(bucketName).key(key).contentType(contentType))
+            .uploadId();
+    Semaphore inFlight = new Semaphore(uploadConcurrency);
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    try {
+      byte[] buffer;
+      int partNumber = 1;
+      while ((buffer = content.readNBytes(partSize)).length > 0) {
+        inFlight.acquire();
+        byte[] part = buffer;
+        int number = partNumber++;
+        parts.add(
+            CompletableFuture.supplyAsync(
+                    () -> uploadPart(key, uploadId, number, part), partUploadExecutor)
+                .whenComplete((completedPart, e) -> inFlight.release()));
+      }
+      List<CompletedPart> completedParts = parts.stream().map(CompletableFuture::join).toList();
+      s3Client.completeMultipartUpload(
+          request ->
+              request
+                  .bucket(bucketName)
+                  .key(key)
+                  .uploadId(uploadId)
+                  .multipartUpload(upload -> upload.parts(completedParts)));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abortMultipartUpload(key, uploadId, parts);
+      throw new IOException("interrupted while uploading " + key, e);
+    } catch (CompletionException e) {
+      abortMultipartUpload(key, uploadId, parts);
+      throw new IOException("could not upload " + key, e.getCause());
+    } catch (IOException | RuntimeException e) {
+      abortMultipartUpload(key, uploadId, parts);
+      throw e;
+    }
+  }
+
+  private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] part) {
+    String eTag =
+        s3Client
+            .uploadPart(
+                request ->
+                    request
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) part.length),
+                RequestBody.fromBytes(part))
+            .eTag();
+    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+  }
+
+  private void abortMultipartUpload(
+      String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+    parts.forEach(part -> part.cancel(false));
+    try {
+      s3Client.abortMultipartUpload(
+          request -> request.bucket(bucketName).key(key).uploadId(uploadId));
+    } catch (RuntimeException e) {
+      log.warn("<<< could not abort multipart upload {} of {} >>>", uploadId, key, e);
+    }
+  }
+
+  @Override
+  public void deleteFile(FileUploadedDTO fileUploadedDTO) {
+    try {
+      String key = keyOf(fileUploadedDTO.getFilePath());
+      s3Client.deleteObject(request -> request.bucket(bucketName).key(key));
+    } catch (RuntimeException e) {
+      log.error("unable to delete file, using s3 utils : {}", e.getMessage());
+      throw new OmnexaException("unable to delete file, using s3 utils : ", e);
+    }
+  }
+
+  @Override
+  public String moveFile(String sourcePath, String destinationPath, String fileName) {
+    String destinationKey = objectKey(KEY_PREFIX, destinationPath, fileName);
+    moveObject(keyOf(sourcePath), destinationKey);
+    return location(destinationKey);
+  }
+
+  @Override
+  public void moveFiles(String sourcePath, String destinationPath) {
+    String sourcePrefix = objectKey(KEY_PREFIX, sourcePath) + "/";
+    String destinationPrefix = objectKey(KEY_PREFIX, destinationPath) + "/";
+    for (S3Object object :
+        s3Client
+            .listObjectsV2Paginator(request -> request.bucket(bucketName).prefix(sourcePrefix))
+            .contents()) {
+      moveObject(
+          object.key(), destinationPrefix + object.key().substring(sourcePrefix.length()));
+    }
+  }
+
+  private void moveObject(String sourceKey, String destinationKey) {
+    s3Client.copyObject(
+        request ->
+            request
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(destinationKey));
+    s3Client.deleteObject(request -> request.bucket(bucketName).key(sourceKey));
+  }
+
+  @Override
+  public byte[] getSavedFile(FileUploadedDTO fileUploadedDTO) {
+    String key = keyOf(fileUploadedDTO.getFilePath());
+    return s3Client.getObjectAsBytes(request -> request.bucket(bucketName).key(key)).asByteArray();
+  }
+
+  @Override
+  public Resource getSavedFileResource(FileUploadedDTO fileUploadedDTO) {
+    String key = keyOf(fileUploadedDTO.getFilePath());
+    return new InputStreamResource(
+        s3Client.getObject(request -> request.bucket(bucketName).key(key)));
+  }
+
+  @Override
+  public Optional<URL> getDownloadUrl(FileUploadedDTO fileUploadedDTO) {
+    String key = keyOf(fileUploadedDTO.getFilePath());
+    return Optional.of(
+        s3Presigner
+            .presignGetObject(
+                presign ->
+                    presign
+                        .signatureDuration(presignedUrlTtl)
+                        .getObjectRequest(request -> request.bucket(bucketName).key(key)))
+            .url());
+  }
+
+  private String location(String key) {
+    return LOCATION_SCHEME + bucketName + "/" + key;
+  }
+
+  /** Accepts both recorded {@code s3://bucket/key} locations and bare keys. */
+  private String keyOf(String path) {
+    String bucketLocation = LOCATION_SCHEME + bucketName + "/";
+    return path.startsWith(bucketLocation) ? path.substring(bucketLocation.length()) : path;
+  }
+
+  private static String objectKey(String... segments) {
+    return Arrays.stream(segments)
+        .filter(StringUtils::hasText)
+        .map(segment -> segment.replaceAll("/{2,}", "/").replaceAll("^/+|/+$", ""))
+        .filter(StringUtils::hasText)
+        .collect(Collectors.joining("/"));
+  }
+
+  @Override
+  public void destroy() {
+    partUploadExecutor.shutdown();
+    s3Presigner.close();
+    s3Client.close();
+  }
+}
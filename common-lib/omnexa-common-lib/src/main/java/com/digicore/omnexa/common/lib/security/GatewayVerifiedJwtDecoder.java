@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.security;
+
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTParser;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * {@link JwtDecoder} that skips the RSA signature check for tokens the gateway has already
+ * verified.
+ *
+ * <p>The gateway sends {@link #IDENTITY_HEADER}, the base64url HMAC-SHA256 of the bearer token
+ * under {@code omnexa.security.gateway-identity-secret}. When the header matches the token of the
+ * current request, the token is parsed and its claims converted and validated (expiry, not-before)
+ * as {@link org.springframework.security.oauth2.jwt.NimbusJwtDecoder} would; otherwise, such as
+ * for calls that bypass the gateway, decoding is left to the delegate.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+public class GatewayVerifiedJwtDecoder implements JwtDecoder {
+  /** Must match {@code JwtValidationFilter.IDENTITY_HEADER} of the gateway. */
+  public static final String IDENTITY_HEADER = "X-Omnexa-Gateway-Verified";
+
+  private final JwtDecoder delegate;
+  private final SecretKeySpec identitySecret;
+  private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+      MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+  private final OAuth2TokenValidator<Jwt> jwtValidator = JwtValidators.createDefault();
+
+  public GatewayVerifiedJwtDecoder(JwtDecoder delegate, String identitySecret) {
+    this.delegate = delegate;
+    this.identitySecret =
+        new SecretKeySpec(identitySecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    if (!verifiedByGateway(token)) {
+      return delegate.decode(token);
+    }
+
+    Jwt jwt;
+    try {
+      JWT parsedJwt = JWTParser.parse(token);
+      Map<String, Object> headers = parsedJwt.getHeader().toJSONObject();
+      Map<String, Object> claims =
+          claimSetConverter.convert(parsedJwt.getJWTClaimsSet().getClaims());
+      jwt =
+          Jwt.withTokenValue(token)
+              .headers(h -> h.putAll(headers))
+              .claims(c -> c.putAll(claims))
+              .build();
+    } catch (ParseException | IllegalArgumentException e) {
+      throw new BadJwtException("Malformed token", e);
+    }
+
+    OAuth2TokenValidatorResult result = jwtValidator.validate(jwt);
+    if (result.hasErrors()) {
+      throw new JwtValidationException(
+          result.getErrors().iterator().next().getDescription(), result.getErrors());
+    }
+    return jwt;
+  }
+
+  private boolean verifiedByGateway(String token) {
+    if (!(RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes attributes)) {
+      return false;
+    }
+    String identity = attributes.getRequest().getHeader(IDENTITY_HEADER);
+    return identity != null
+        && MessageDigest.isEqual(
+            identity.getBytes(StandardCharsets.US_ASCII),
+            sign(token).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private String sign(String token) {
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(identitySecret);
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(mac.doFinal(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 is not available", e);
+    }
+  }
+}
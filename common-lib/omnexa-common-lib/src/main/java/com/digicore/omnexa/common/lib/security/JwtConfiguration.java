@@ -132,11 +132,20 @@ public class JwtConfiguration {
   /**
    * Configures a {@link JwtDecoder} bean for validating JWT tokens.
    *
+   * <p>When {@code omnexa.security.gateway-identity-secret} is set, tokens already verified by the
+   * gateway are trusted without checking their signature again (see {@link
+   * GatewayVerifiedJwtDecoder}).
+   *
    * @param rsaPublicKey the RSA public key used for validation.
    * @return the configured {@link JwtDecoder}.
    */
   @Bean
   public JwtDecoder jwtDecoder(RSAPublicKey rsaPublicKey) {
-    return NimbusJwtDecoder.withPublicKey(rsaPublicKey).build();
+    JwtDecoder jwtDecoder = NimbusJwtDecoder.withPublicKey(rsaPublicKey).build();
+    String gatewayIdentitySecret = securityPropertyConfig.getGatewayIdentitySecret();
+    if (gatewayIdentitySecret == null || gatewayIdentitySecret.isBlank()) {
+      return jwtDecoder;
+    }
+    return new GatewayVerifiedJwtDecoder(jwtDecoder, gatewayIdentitySecret);
   }
 }
@@ -58,6 +58,12 @@ public class SecurityPropertyConfig {
   /** Passphrase for the JWT private key. */
   private String jwtPrivateKeyPassphrase = "";
 
+  /**
+   * Secret shared with the gateway; when set, tokens the gateway has verified are not verified
+   * again. Empty disables it.
+   */
+  private String gatewayIdentitySecret = "";
+
   /** Name of the authorities claim in the JWT. */
   private String jwtAuthoritiesName = "permissions";
 
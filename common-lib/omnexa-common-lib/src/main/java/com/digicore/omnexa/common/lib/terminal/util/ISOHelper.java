@@ -33,19 +33,23 @@ public class ISOHelper {
   public static final String A6 = "A6";
   public static final String FIVE_A = "5A";
 
+  private static final DateTimeFormatter TRANSACTION_DATE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("MMddhhmmss");
+  private static final DateTimeFormatter TRANSACTION_DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("MMdd");
+  private static final DateTimeFormatter TRANSACTION_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("HHmmss");
+
   public static String getTransactionDateAndTime(LocalDateTime localDateTime) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMddhhmmss");
-    return localDateTime.format(formatter);
+    return localDateTime.format(TRANSACTION_DATE_TIME_FORMATTER);
   }
 
   public static String getTransactionDate(LocalDate localDate) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMdd");
-    return localDate.format(formatter);
+    return localDate.format(TRANSACTION_DATE_FORMATTER);
   }
 
   public static String getTransactionTime(LocalTime localTime) {
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HHmmss");
-    return localTime.format(formatter);
+    return localTime.format(TRANSACTION_TIME_FORMATTER);
   }
 
   public static String getStan() {
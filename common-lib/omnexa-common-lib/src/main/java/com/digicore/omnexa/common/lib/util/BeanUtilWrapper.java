@@ -7,78 +7,147 @@
 package com.digicore.omnexa.common.lib.util;
 
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
-import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
- * Utility class for copying non-null properties between objects. Provides methods to identify null
- * fields in a source object and exclude them during property copying.
+ * Utility class for copying non-null properties between objects.
  *
  * <p>Methods:
  *
  * <ul>
  *   <li>{@link #copyNonNullProperties(Object, Object)}: Copies non-null properties from the source
  *       object to the target object.
- *   <li>{@link #getNullFields(Object)}: Retrieves the names of fields in the source object that are
- *       null.
  * </ul>
  *
+ * <p>The property matching rules are the ones applied by {@link BeanUtils#copyProperties(Object,
+ * Object, String...)}: a readable source property is copied to a writable target property of the
+ * same name when the types are assignable. The matching is resolved once per source/target class
+ * pair into a {@link CopyPlan} of pre-bound {@link MethodHandle} accessors, so repeated copies pay
+ * neither descriptor lookups nor field reflection.
+ *
  * <p>Dependencies:
  *
  * <ul>
- *   <li>{@link BeanUtils}: Spring utility class for bean property copying.
- *   <li>{@link OmnexaException}: Custom exception for handling errors during reflection.
+ *   <li>{@link BeanUtils}: Spring utility class for bean property introspection.
+ *   <li>{@link OmnexaException}: Custom exception for handling errors during property access.
  * </ul>
  *
  * @author Oluwatobi Ogunwuyi
  * @createdOn Jun-25(Wed)-2025
  */
 public class BeanUtilWrapper {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final Map<Class<?>, Map<Class<?>, CopyPlan>> COPY_PLANS =
+      new ConcurrentHashMap<>();
+
+  private BeanUtilWrapper() {}
 
   /**
-   * Copies non-null properties from the source object to the target object. Excludes fields that
-   * are null in the source object during the copying process.
+   * Copies non-null properties from the source object to the target object. Properties that are
+   * null in the source object are left untouched on the target.
    *
    * @param source The source object from which properties are copied.
    * @param target The target object to which properties are copied.
    */
   public static void copyNonNullProperties(Object source, Object target) {
-    String[] nullFields = getNullFields(source);
-    BeanUtils.copyProperties(source, target, nullFields);
+    getCopyPlan(source.getClass(), target.getClass()).copy(source, target);
+  }
+
+  private static CopyPlan getCopyPlan(Class<?> sourceClass, Class<?> targetClass) {
+    return COPY_PLANS
+        .computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(targetClass, key -> CopyPlan.of(sourceClass, targetClass));
   }
 
   /**
-   * Retrieves the names of fields in the source object that are null. Uses reflection to access and
-   * evaluate the fields of the source object.
+   * Pre-resolved list of getter/setter pairs shared by a source and target class.
    *
-   * @param source The source object whose fields are evaluated.
-   * @return An array of field names that are null in the source object.
-   * @throws OmnexaException If an error occurs during field access.
+   * @param properties the names of the copied properties, kept for error reporting.
+   * @param getters the source read accessors, adapted to {@code (Object)Object}.
+   * @param setters the target write accessors, adapted to {@code (Object,Object)void}.
    */
-  private static String[] getNullFields(Object source) {
-    Field[] declaredFields = source.getClass().getDeclaredFields();
-    List<String> emptyFieldNames =
-        Arrays.stream(declaredFields)
-            .filter(
-                (field) -> {
-                  field.setAccessible(true);
+  private record CopyPlan(String[] properties, MethodHandle[] getters, MethodHandle[] setters) {
+
+    private static CopyPlan of(Class<?> sourceClass, Class<?> targetClass) {
+      List<String> properties = new ArrayList<>();
+      List<MethodHandle> getters = new ArrayList<>();
+      List<MethodHandle> setters = new ArrayList<>();
+
+      for (PropertyDescriptor targetPd : BeanUtils.getPropertyDescriptors(targetClass)) {
+        Method writeMethod = targetPd.getWriteMethod();
+        if (writeMethod == null) {
+          continue;
+        }
+        PropertyDescriptor sourcePd =
+            BeanUtils.getPropertyDescriptor(sourceClass, targetPd.getName());
+        if (sourcePd == null || sourcePd.getReadMethod() == null) {
+          continue;
+        }
+        Method readMethod = sourcePd.getReadMethod();
+        if (!isAssignable(readMethod, writeMethod)) {
+          continue;
+        }
+        properties.add(targetPd.getName());
+        getters.add(unreflect(readMethod).asType(GETTER_TYPE));
+        setters.add(unreflect(writeMethod).asType(SETTER_TYPE));
+      }
+
+      return new CopyPlan(
+          properties.toArray(String[]::new),
+          getters.toArray(MethodHandle[]::new),
+          setters.toArray(MethodHandle[]::new));
+    }
+
+    private void copy(Object source, Object target) {
+      for (int i = 0; i < getters.length; i++) {
+        try {
+          Object value = getters[i].invokeExact(source);
+          if (value != null) {
+            setters[i].invokeExact(target, value);
+          }
+        } catch (Throwable e) {
+          throw new OmnexaException(
+              "Could not copy property '" + properties[i] + "' from source to target", e);
+        }
+      }
+    }
 
-                  Object o;
-                  try {
-                    o = field.get(source);
-                  } catch (IllegalAccessException var4) {
-                    IllegalAccessException e = var4;
-                    throw new OmnexaException(e.getMessage());
-                  }
+    private static boolean isAssignable(Method readMethod, Method writeMethod) {
+      ResolvableType sourceType = ResolvableType.forMethodReturnType(readMethod);
+      ResolvableType targetType = ResolvableType.forMethodParameter(writeMethod, 0);
+      if (sourceType.hasUnresolvableGenerics() || targetType.hasUnresolvableGenerics()) {
+        return ClassUtils.isAssignable(
+            writeMethod.getParameterTypes()[0], readMethod.getReturnType());
+      }
+      return targetType.isAssignableFrom(sourceType);
+    }
 
-                  return Objects.isNull(o);
-                })
-            .map(Field::getName)
-            .toList();
-    String[] emptyFieldsArray = new String[emptyFieldNames.size()];
-    return emptyFieldNames.toArray(emptyFieldsArray);
+    private static MethodHandle unreflect(Method method) {
+      try {
+        return MethodHandles.lookup().unreflect(method);
+      } catch (IllegalAccessException e) {
+        ReflectionUtils.makeAccessible(method);
+        try {
+          return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException ex) {
+          throw new OmnexaException(ex.getMessage(), ex);
+        }
+      }
+    }
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the total row count of slice-paginated listings.
+ *
+ * <p>{@link #get(String, LongSupplier)} never runs the count on the caller's thread. It returns the
+ * last known total for the key, possibly stale or empty, and starts a background refresh when that
+ * total is older than the time-to-live ({@code omnexa.pagination.estimated-total-ttl}). Only one
+ * refresh per key runs at a time, on a pool of two threads that is shut down with the context. The
+ * cache is shared, so keys must name the listing and encode every filter its count depends on.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class EstimatedTotalCache implements DisposableBean {
+  static final int MAX_KEYS = 10_000;
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final long timeToLiveNanos;
+  private final ExecutorService countExecutor;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  @Autowired
+  public EstimatedTotalCache(
+      @Value("${omnexa.pagination.estimated-total-ttl:30s}") Duration timeToLive) {
+    this(
+        timeToLive,
+        Executors.newFixedThreadPool(
+            2,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "omnexa-total-count-" + THREAD_COUNT.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  EstimatedTotalCache(Duration timeToLive, ExecutorService countExecutor) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.countExecutor = countExecutor;
+  }
+
+  /**
+   * Returns the cached total for {@code key}, refreshing it with {@code counter} in the background
+   * when it is missing or older than the time-to-live.
+   */
+  public OptionalLong get(String key, LongSupplier counter) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      if (entries.size() >= MAX_KEYS) {
+        entries.clear();
+      }
+      entry = entries.computeIfAbsent(key, k -> new Entry());
+    }
+    if (System.nanoTime() - entry.refreshedAt >= timeToLiveNanos
+        && entry.refreshing.compareAndSet(false, true)) {
+      refresh(key, entry, counter);
+    }
+    return entry.total < 0 ? OptionalLong.empty() : OptionalLong.of(entry.total);
+  }
+
+  @Override
+  public void destroy() {
+    countExecutor.shutdownNow();
+  }
+
+  private void refresh(String key, Entry entry, LongSupplier counter) {
+    try {
+      countExecutor.execute(
+          () -> {
+            try {
+              entry.total = counter.getAsLong();
+              entry.refreshedAt = System.nanoTime();
+            } catch (RuntimeException e) {
+              log.warn("<<< could not refresh total for {} : {} >>>", key, e.getMessage());
+            } finally {
+              entry.refreshing.set(false);
+            }
+          });
+    } catch (RuntimeException e) {
+      entry.refreshing.set(false);
+      throw e;
+    }
+  }
+
+  private static final class Entry {
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long total = -1;
+    private volatile long refreshedAt = System.nanoTime() - Long.MAX_VALUE / 2;
+  }
+}
@@ -24,6 +24,8 @@ public class MoneyUtil {
   private static final BigDecimal TWO = new BigDecimal("2");
   private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
 
+  private static final Pattern DIGITS = Pattern.compile("\\d+");
+
   public BigDecimal getSum(BigDecimal... amountToSum) {
     return stream(amountToSum).reduce(BigDecimal.ZERO, BigDecimal::add);
   }
@@ -46,8 +48,7 @@ public class MoneyUtil {
   }
 
   private String stripNonNumeric(String amount) {
-    Pattern pattern = Pattern.compile("\\d+");
-    Matcher matcher = pattern.matcher(amount);
+    Matcher matcher = DIGITS.matcher(amount);
     if (matcher.find()) {
       return matcher.group(0);
     } else {
@@ -9,9 +9,12 @@ package com.digicore.omnexa.common.lib.util;
 import static com.digicore.omnexa.common.lib.util.RequestUtil.nullOrEmpty;
 
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
+import java.util.List;
+import java.util.OptionalLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 /**
@@ -158,6 +161,40 @@ public class PagenationUtil {
     return PageRequest.of(zeroBasedPageNumber, validatedPageSize, sort);
   }
 
+  /**
+   * Builds a paginated response from a {@link Slice}, for listings that skip the exact {@code
+   * COUNT(*)} a {@link org.springframework.data.domain.Page} runs on every request.
+   *
+   * <p>Whether this is the last page comes from the slice's has-next detection. On the last page
+   * the slice gives the exact total, which is reported as is. Otherwise totals come from {@code
+   * estimatedTotal}, typically an {@link EstimatedTotalCache}, and are never reported below the
+   * rows the slice proves to exist. Without an estimate the totals are that lower bound.
+   *
+   * @param slice the slice returned by the repository
+   * @param content the mapped content of the slice
+   * @param estimatedTotal the cached or estimated total, if known
+   * @return PaginatedResponse
+   */
+  public static <T> PaginatedResponse<T> buildPaginatedResponse(
+      Slice<?> slice, List<T> content, OptionalLong estimatedTotal) {
+    long knownItems =
+        (long) slice.getNumber() * slice.getSize()
+            + slice.getNumberOfElements()
+            + (slice.hasNext() ? 1 : 0);
+    boolean totalIsExact = !slice.hasNext() && (slice.hasContent() || slice.isFirst());
+    long totalItems = totalIsExact ? knownItems : Math.max(knownItems, estimatedTotal.orElse(0));
+    int totalPages =
+        slice.getSize() == 0 ? 1 : (int) ((totalItems + slice.getSize() - 1) / slice.getSize());
+    return PaginatedResponse.<T>builder()
+        .content(content)
+        .currentPage(slice.getNumber() + 1)
+        .totalItems(totalItems)
+        .totalPages(Math.max(totalPages, slice.getNumber() + 1))
+        .isFirstPage(slice.isFirst())
+        .isLastPage(slice.isLast())
+        .build();
+  }
+
   /**
    * Validates a search term to ensure it's not null or empty after trimming.
    *
@@ -10,6 +10,8 @@ import com.digicore.omnexa.common.lib.config.LocalDateTimeTypeAdapter;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.gson.Gson;
@@ -20,6 +22,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -55,7 +58,25 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
  */
 @Slf4j
 public class RequestUtil {
-  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private static final ObjectWriter objectWriter = objectMapper.writer();
+
+  private static final ClassValue<ObjectReader> objectReaders =
+      new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+          return objectMapper.readerFor(type);
+        }
+      };
+
+  private static final DateTimeFormatter ID_TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+  private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("(?<!^)(?=[A-Z])");
 
   private RequestUtil() {}
 
@@ -120,7 +141,7 @@ public class RequestUtil {
    */
   public static String generateProfileId() {
     return ZonedDateTime.now(ZoneOffset.UTC)
-        .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+        .format(ID_TIMESTAMP_FORMATTER)
         .concat(RandomStringUtils.secure().nextAlphanumeric(5))
         .toUpperCase();
   }
@@ -129,24 +150,48 @@ public class RequestUtil {
     return "S0_"
         .concat(
             ZonedDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+                .format(ID_TIMESTAMP_FORMATTER)
                 .concat(RandomStringUtils.secure().nextAlphanumeric(7))
                 .toUpperCase());
   }
 
   public static String generateTransactionRef() {
     return ZonedDateTime.now()
-        .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+        .format(ID_TIMESTAMP_FORMATTER)
         .concat(RandomStringUtils.secure().nextAlphanumeric(5))
         .toUpperCase();
   }
 
+  /**
+   * Returns the shared {@link ObjectMapper}, configured once with {@link JavaTimeModule} and ISO
+   * date output. The instance is shared across threads and must not be reconfigured by callers;
+   * prefer {@link #getObjectWriter()} and {@link #getObjectReader(Class)} on hot paths.
+   *
+   * @return the shared object mapper.
+   */
   public static ObjectMapper getObjectMapper() {
-    objectMapper.registerModule(new JavaTimeModule());
-    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     return objectMapper;
   }
 
+  /**
+   * Returns the immutable {@link ObjectWriter} derived from the shared mapper.
+   *
+   * @return the shared object writer.
+   */
+  public static ObjectWriter getObjectWriter() {
+    return objectWriter;
+  }
+
+  /**
+   * Returns an immutable {@link ObjectReader} bound to {@code type}, created once per type.
+   *
+   * @param type the type to read JSON into.
+   * @return the cached object reader for {@code type}.
+   */
+  public static ObjectReader getObjectReader(Class<?> type) {
+    return objectReaders.get(type);
+  }
+
   public static String getValueFromAccessToken(String value) {
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     if (auth instanceof JwtAuthenticationToken jwtAuthenticationToken) {
@@ -208,7 +253,7 @@ public class RequestUtil {
     }
 
     // Split the camelCase method name into words
-    String[] words = methodName.split("(?<!^)(?=[A-Z])");
+    String[] words = CAMEL_CASE_BOUNDARY.split(methodName);
 
     StringBuilder description = new StringBuilder("A request to ");
     for (int i = 0; i < words.length; i++) {
@@ -1,5 +1,6 @@
 package com.digicore.omnexa.gateway.server;
 
+import com.digicore.omnexa.gateway.server.config.StartupTimelineReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,6 +8,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class OmnexaGatewayServerApplication {
 
   public static void main(String[] args) {
-    SpringApplication.run(OmnexaGatewayServerApplication.class, args);
+    SpringApplication application = new SpringApplication(OmnexaGatewayServerApplication.class);
+    StartupTimelineReporter.register(application);
+    application.run(args);
   }
 }
@@ -6,7 +6,11 @@
 
 package com.digicore.omnexa.gateway.server.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -24,6 +28,30 @@ import org.springframework.stereotype.Component;
 @Setter
 public class GatewayServerPropertyConfig {
   private boolean encryptPayload = true;
+  // base64 AES key per client id, sent by clients in the X-Client-Id header
+  private Map<String, String> payloadEncryptionKeys = new HashMap<>();
+  private int payloadFrameSize = 16 * 1024;
+  // path pattern -> time to live of cached GET responses, first match wins,
+  // e.g. "[/omnexa-backoffice/v1/permissions/**]": 10m
+  private Map<String, Duration> responseCacheTtl = new LinkedHashMap<>();
+  private long responseCacheMaxBytes = 64L * 1024 * 1024;
+  private int responseCacheMaxBodySize = 1024 * 1024;
+  // path pattern -> token bucket per caller, first match wins,
+  // e.g. "[/omnexa-merchant/v1/authentication/**]": {capacity: 10, refill-per-second: 0.5}
+  private Map<String, RateLimit> rateLimits = new LinkedHashMap<>();
+  // path pattern -> requests in flight per gateway instance, for expensive routes
+  private Map<String, Integer> concurrencyLimits = new LinkedHashMap<>();
+  // only when a trusted proxy in front of the gateway sets X-Forwarded-For
+  private boolean rateLimitTrustForwardedFor = false;
+  // keystore holding the certificate the services sign tokens with, bearer tokens are verified
+  // at the edge when set
+  private String jwtKeyStorePath = "";
+  private String jwtKeyStorePassword = "";
+  private String jwtKeyAlias = "";
+  // how long a rejected token is remembered before it is verified again
+  private Duration jwtRejectionCacheTtl = Duration.ofMinutes(1);
+  // same value as omnexa.security.gateway-identity-secret of the services that trust the gateway
+  private String gatewayIdentitySecret = "";
   private List<String> corsAllowedOrigins = null;
   private List<String> corsAllowedMethods = null;
   private List<String> corsAllowedHeaders = null;
@@ -32,4 +60,11 @@ public class GatewayServerPropertyConfig {
   private String redisHost = "";
   private String redisPort = "";
   private String redisPassword = "";
+
+  @Getter
+  @Setter
+  public static class RateLimit {
+    private int capacity = 10;
+    private double refillPerSecond = 1;
+  }
 }
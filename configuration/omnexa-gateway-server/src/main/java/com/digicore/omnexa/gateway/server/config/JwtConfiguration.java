@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.proc.SingleKeyJWSKeySelector;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.interfaces.RSAPublicKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Verifies bearer tokens at the edge with the same RSA key and rules as the services' {@code
+ * NimbusJwtDecoder}: RS256 signature, then expiry and not-before when present. Only the
+ * certificate is read from the keystore; the gateway never needs the signing key.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "omnexa.gateway.server", name = "jwt-key-store-path")
+public class JwtConfiguration {
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+
+  @Bean
+  public JWTProcessor<SecurityContext> jwtProcessor() {
+    DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+    jwtProcessor.setJWSKeySelector(
+        new SingleKeyJWSKeySelector<>(JWSAlgorithm.RS256, jwtValidationKey()));
+    jwtProcessor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(null, null));
+    return jwtProcessor;
+  }
+
+  private RSAPublicKey jwtValidationKey() {
+    String path = gatewayServerPropertyConfig.getJwtKeyStorePath();
+    try (InputStream inputStream = new FileInputStream(Paths.get(path).toFile())) {
+      KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+      keyStore.load(
+          inputStream, gatewayServerPropertyConfig.getJwtKeyStorePassword().toCharArray());
+      Certificate certificate =
+          keyStore.getCertificate(gatewayServerPropertyConfig.getJwtKeyAlias());
+      PublicKey publicKey = certificate == null ? null : certificate.getPublicKey();
+      if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+        return rsaPublicKey;
+      }
+    } catch (IOException | CertificateException | NoSuchAlgorithmException | KeyStoreException e) {
+      log.error("Unable to load keystore: {}", path, e);
+    }
+
+    throw new IllegalStateException("Unable to load RSA public key");
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.config;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RedissonConfig {
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+
+  @Bean(destroyMethod = "shutdown")
+  public RedissonClient redissonClient() {
+    Config config = new Config();
+    config
+        .useSingleServer()
+        .setAddress(
+            "redis://"
+                + gatewayServerPropertyConfig.getRedisHost()
+                + ":"
+                + gatewayServerPropertyConfig.getRedisPort())
+        .setPassword(
+            gatewayServerPropertyConfig.getRedisPassword().isEmpty()
+                ? null
+                : gatewayServerPropertyConfig.getRedisPassword());
+
+    return Redisson.create(config);
+  }
+}
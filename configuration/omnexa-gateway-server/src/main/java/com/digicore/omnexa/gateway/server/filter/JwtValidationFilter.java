@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies bearer tokens once at the edge, so invalid tokens are rejected with 401 before they are
+ * routed, and tells the services which tokens it has verified.
+ *
+ * <p>Results are cached by a hash of the {@code Authorization} header: a valid token until it
+ * expires, a rejected one for {@code jwt-rejection-cache-ttl}. When {@code
+ * gateway-identity-secret} is set, requests with a valid token carry {@link #IDENTITY_HEADER}, the
+ * base64url HMAC-SHA256 of the token under that secret; services sharing the secret accept the
+ * token without checking its signature again. The header is always removed from incoming requests,
+ * so a client cannot supply its own. Requests without a bearer token are left to the services.
+ *
+ * <p>The {@code sub} claim of a valid token is kept in the {@link #PRINCIPAL_ATTRIBUTE} exchange
+ * attribute for the filters that run after this one, such as {@link RateLimitFilter}.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class JwtValidationFilter implements GlobalFilter, Ordered {
+  /** Must match {@code GatewayVerifiedJwtDecoder.IDENTITY_HEADER} in the common lib. */
+  public static final String IDENTITY_HEADER = "X-Omnexa-Gateway-Verified";
+
+  /** Exchange attribute holding the subject of the verified bearer token. */
+  public static final String PRINCIPAL_ATTRIBUTE =
+      JwtValidationFilter.class.getName() + ".principal";
+
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final Duration MAX_CACHE_TTL = Duration.ofHours(1);
+
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+  private final JWTProcessor<SecurityContext> jwtProcessor;
+  private final Cache<String, Verification> verifications =
+      Caffeine.newBuilder()
+          .maximumSize(100_000)
+          .expireAfter(Expiry.creating((String key, Verification result) -> result.ttl()))
+          .build();
+
+  public JwtValidationFilter(
+      GatewayServerPropertyConfig gatewayServerPropertyConfig,
+      ObjectProvider<JWTProcessor<SecurityContext>> jwtProcessor) {
+    this.gatewayServerPropertyConfig = gatewayServerPropertyConfig;
+    this.jwtProcessor = jwtProcessor.getIfAvailable();
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (jwtProcessor == null
+        || authorization == null
+        || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+      return chain.filter(withIdentity(exchange, null));
+    }
+
+    String token = authorization.substring(BEARER_PREFIX.length()).trim();
+    Verification verification =
+        verifications.get(RequestPrincipal.of(request), key -> verify(token));
+    if (!verification.valid()) {
+      ServerHttpResponse response = exchange.getResponse();
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+      return response.setComplete();
+    }
+    if (verification.subject() != null) {
+      exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, verification.subject());
+    }
+    return chain.filter(withIdentity(exchange, verification.identity()));
+  }
+
+  private Verification verify(String token) {
+    try {
+      JWTClaimsSet claims = jwtProcessor.process(token, null);
+      Date expiresAt = claims.getExpirationTime();
+      Duration ttl =
+          expiresAt == null
+              ? MAX_CACHE_TTL
+              : Duration.between(Instant.now(), expiresAt.toInstant());
+      // tokens within the allowed clock skew of their expiry are valid but not cached
+      ttl = ttl.isNegative() ? Duration.ZERO : ttl;
+      return new Verification(
+          true,
+          claims.getSubject(),
+          identity(token),
+          ttl.compareTo(MAX_CACHE_TTL) > 0 ? MAX_CACHE_TTL : ttl);
+    } catch (ParseException | BadJOSEException | JOSEException e) {
+      log.debug("<<< rejected bearer token : {} >>>", e.getMessage());
+      return new Verification(
+          false, null, null, gatewayServerPropertyConfig.getJwtRejectionCacheTtl());
+    }
+  }
+
+  private String identity(String token) {
+    String secret = gatewayServerPropertyConfig.getGatewayIdentitySecret();
+    if (secret == null || secret.isBlank()) {
+      return null;
+    }
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(mac.doFinal(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HmacSHA256 is not available", e);
+    }
+  }
+
+  private static ServerWebExchange withIdentity(ServerWebExchange exchange, String identity) {
+    if (identity == null && !exchange.getRequest().getHeaders().containsKey(IDENTITY_HEADER)) {
+      return exchange;
+    }
+    return exchange
+        .mutate()
+        .request(
+            request ->
+                request.headers(
+                    headers -> {
+                      headers.remove(IDENTITY_HEADER);
+                      if (identity != null) {
+                        headers.set(IDENTITY_HEADER, identity);
+                      }
+                    }))
+        .build();
+  }
+
+  private record Verification(boolean valid, String subject, String identity, Duration ttl) {}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implements {@link GatewayServerPropertyConfig#isEncryptPayload()}: decrypts request bodies before
+ * they are routed and encrypts response bodies before they leave the gateway, so services only see
+ * plaintext.
+ *
+ * <p>A client opts in per request with {@code X-Payload-Encryption: aes-gcm-stream} and names
+ * itself in {@code X-Client-Id}; its key comes from {@code payload-encryption-keys} and is cached
+ * per client. Both bodies use the {@link PayloadStreamCipher} framing and keep the {@code
+ * Content-Type} of their plaintext.
+ * Bodies are processed frame by frame as the buffers arrive, so at most one frame per direction is
+ * held in memory. A request body that fails authentication is rejected with 400; as the request is
+ * streamed, that can happen after routing has started.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class PayloadEncryptionFilter implements GlobalFilter, Ordered {
+  public static final String ENCRYPTION_HEADER = "X-Payload-Encryption";
+  public static final String ENCRYPTION_SCHEME = "aes-gcm-stream";
+  public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+  private final Cache<String, SecretKey> clientKeys =
+      Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(10)).build();
+
+  public PayloadEncryptionFilter(GatewayServerPropertyConfig gatewayServerPropertyConfig) {
+    this.gatewayServerPropertyConfig = gatewayServerPropertyConfig;
+  }
+
+  @Override
+  public int getOrder() {
+    // before NettyWriteResponseFilter, so the decorated response is the one it writes to, and
+    // before ResponseCacheFilter, so cached responses are stored in plaintext and encrypted per
+    // client
+    return ResponseCacheFilter.ORDER - 1;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    if (!gatewayServerPropertyConfig.isEncryptPayload()
+        || !ENCRYPTION_SCHEME.equalsIgnoreCase(request.getHeaders().getFirst(ENCRYPTION_HEADER))) {
+      return chain.filter(exchange);
+    }
+    String clientId = request.getHeaders().getFirst(CLIENT_ID_HEADER);
+    SecretKey key = clientId == null ? null : clientKeys.get(clientId, this::loadKey);
+    if (key == null) {
+      log.warn("<<< no payload encryption key for client {} >>>", clientId);
+      exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+      return exchange.getResponse().setComplete();
+    }
+    return chain.filter(
+        exchange
+            .mutate()
+            .request(new DecryptingRequest(request, key))
+            .response(new EncryptingResponse(exchange.getResponse(), key))
+            .build());
+  }
+
+  private SecretKey loadKey(String clientId) {
+    String encodedKey = gatewayServerPropertyConfig.getPayloadEncryptionKeys().get(clientId);
+    if (encodedKey == null) {
+      return null;
+    }
+    byte[] key;
+    try {
+      key = Base64.getDecoder().decode(encodedKey);
+    } catch (IllegalArgumentException e) {
+      key = new byte[0];
+    }
+    if (key.length != 16 && key.length != 24 && key.length != 32) {
+      log.error("<<< payload encryption key of client {} is not an AES key >>>", clientId);
+      return null;
+    }
+    return new SecretKeySpec(key, "AES");
+  }
+
+  private static byte[] read(DataBuffer buffer) {
+    try {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      return bytes;
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  private static Flux<DataBuffer> wrap(DataBufferFactory bufferFactory, List<byte[]> chunks) {
+    return Flux.fromIterable(chunks).map(bufferFactory::wrap);
+  }
+
+  private static class DecryptingRequest extends ServerHttpRequestDecorator {
+    private final SecretKey key;
+    private final HttpHeaders headers;
+
+    DecryptingRequest(ServerHttpRequest delegate, SecretKey key) {
+      super(delegate);
+      this.key = key;
+      this.headers = new HttpHeaders();
+      this.headers.putAll(delegate.getHeaders());
+      this.headers.remove(ENCRYPTION_HEADER);
+      // the plaintext length is only known once the body has been decrypted
+      if (this.headers.getContentLength() >= 0) {
+        this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        this.headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+      }
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+      return Flux.defer(
+          () -> {
+            PayloadStreamCipher.Decryptor decryptor = newDecryptor();
+            return super.getBody()
+                .concatMap(buffer -> decrypt(decryptor, buffer))
+                .concatWith(Mono.fromRunnable(() -> finish(decryptor)));
+          });
+    }
+
+    private PayloadStreamCipher.Decryptor newDecryptor() {
+      try {
+        return new PayloadStreamCipher.Decryptor(key);
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("AES-GCM is not available", e);
+      }
+    }
+
+    private static Flux<DataBuffer> decrypt(
+        PayloadStreamCipher.Decryptor decryptor, DataBuffer buffer) {
+      DataBufferFactory bufferFactory = buffer.factory();
+      try {
+        return wrap(bufferFactory, decryptor.update(read(buffer)));
+      } catch (GeneralSecurityException e) {
+        return Flux.error(invalidPayload(e));
+      }
+    }
+
+    private static void finish(PayloadStreamCipher.Decryptor decryptor) {
+      try {
+        decryptor.finish();
+      } catch (GeneralSecurityException e) {
+        throw invalidPayload(e);
+      }
+    }
+
+    private static ResponseStatusException invalidPayload(GeneralSecurityException e) {
+      log.warn("<<< rejected encrypted request body : {} >>>", e.getMessage());
+      return new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid encrypted payload", e);
+    }
+  }
+
+  private class EncryptingResponse extends ServerHttpResponseDecorator {
+    private final SecretKey key;
+    private PayloadStreamCipher.Encryptor encryptor;
+
+    EncryptingResponse(ServerHttpResponse delegate, SecretKey key) {
+      super(delegate);
+      this.key = key;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (bodyless()) {
+        return super.writeWith(body);
+      }
+      prepareHeaders();
+      return super.writeWith(encrypt(body).concatWith(finish()));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      if (bodyless()) {
+        return super.writeAndFlushWith(body);
+      }
+      prepareHeaders();
+      return super.writeAndFlushWith(
+          Flux.from(body).map(this::encrypt).concatWith(Mono.fromSupplier(this::finish)));
+    }
+
+    private boolean bodyless() {
+      HttpStatusCode status = getStatusCode();
+      return status != null
+          && (status.isSameCodeAs(HttpStatus.NO_CONTENT)
+              || status.isSameCodeAs(HttpStatus.NOT_MODIFIED));
+    }
+
+    private void prepareHeaders() {
+      encryptor = newEncryptor();
+      getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+      getHeaders().set(ENCRYPTION_HEADER, ENCRYPTION_SCHEME);
+    }
+
+    private Flux<DataBuffer> encrypt(Publisher<? extends DataBuffer> body) {
+      return Flux.from(body)
+          .concatMap(
+              buffer -> {
+                DataBufferFactory bufferFactory = buffer.factory();
+                try {
+                  return wrap(bufferFactory, encryptor.update(read(buffer)));
+                } catch (GeneralSecurityException e) {
+                  return Flux.error(new IllegalStateException("could not encrypt the response", e));
+                }
+              });
+    }
+
+    private Flux<DataBuffer> finish() {
+      return Flux.defer(
+          () -> {
+            try {
+              return wrap(bufferFactory(), encryptor.finish());
+            } catch (GeneralSecurityException e) {
+              return Flux.error(new IllegalStateException("could not encrypt the response", e));
+            }
+          });
+    }
+
+    private PayloadStreamCipher.Encryptor newEncryptor() {
+      try {
+        return new PayloadStreamCipher.Encryptor(
+            key, gatewayServerPropertyConfig.getPayloadFrameSize());
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("AES-GCM is not available", e);
+      }
+    }
+  }
+}
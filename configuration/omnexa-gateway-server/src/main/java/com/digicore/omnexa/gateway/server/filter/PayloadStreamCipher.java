@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Chunked AES-GCM framing for encrypted payloads, so a body can be encrypted or decrypted frame by
+ * frame without holding all of it.
+ *
+ * <pre>
+ * stream = version (1 byte) || salt (32 bytes) || frame*
+ * frame  = length (4 bytes, big-endian) || AES-GCM ciphertext and 16-byte tag
+ * </pre>
+ *
+ * <p>Every stream is encrypted under its own key, derived with HKDF-SHA256 (RFC 5869) from the
+ * client key and the random salt of its header, and of the client key's length. The client key
+ * itself never encrypts anything, so the number of streams per client key is bounded only by salt
+ * collisions, which 32 random bytes make negligible.
+ *
+ * <p>The high bit of the length marks the last frame, and the remaining bits give the ciphertext
+ * length. Each frame's 12-byte IV is seven zero bytes, the frame number (4 bytes) and the last flag
+ * (1 byte); the IV is unique because the key is. Frames that are reordered, dropped, replayed from
+ * another stream or appended after the last one fail authentication. A stream is complete only
+ * once its last frame is read.
+ *
+ * <p>Encryptors and decryptors hold the state of one stream and are not thread-safe.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+final class PayloadStreamCipher {
+  static final byte VERSION = 2;
+  static final int MAX_FRAME_SIZE = 64 * 1024;
+
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final String HMAC = "HmacSHA256";
+  private static final byte[] KEY_INFO =
+      "omnexa payload stream key".getBytes(StandardCharsets.US_ASCII);
+  private static final int SALT_LENGTH = 32;
+  private static final int HEADER_LENGTH = 1 + SALT_LENGTH;
+  private static final int IV_PADDING = 7;
+  private static final int LENGTH_FIELD = 4;
+  private static final int TAG_LENGTH = 16;
+  private static final int LAST_FRAME_FLAG = 0x80000000;
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private PayloadStreamCipher() {}
+
+  /** HKDF-SHA256 extract and expand of {@code clientKey} into a key of the same length. */
+  static SecretKey streamKey(SecretKey clientKey, byte[] salt) throws GeneralSecurityException {
+    byte[] inputKey = clientKey.getEncoded();
+    if (inputKey == null) {
+      throw new GeneralSecurityException("payload encryption key is not extractable");
+    }
+    Mac mac = Mac.getInstance(HMAC);
+    mac.init(new SecretKeySpec(salt, HMAC));
+    byte[] pseudoRandomKey = mac.doFinal(inputKey);
+    mac.init(new SecretKeySpec(pseudoRandomKey, HMAC));
+    mac.update(KEY_INFO);
+    mac.update((byte) 1);
+    // a single expand block covers every AES key length
+    return new SecretKeySpec(Arrays.copyOf(mac.doFinal(), inputKey.length), "AES");
+  }
+
+  private static byte[] iv(long frameNumber, boolean last) {
+    if (frameNumber > 0xFFFFFFFFL) {
+      throw new IllegalStateException("payload has too many frames");
+    }
+    return ByteBuffer.allocate(IV_PADDING + 5)
+        .position(IV_PADDING)
+        .putInt((int) frameNumber)
+        .put((byte) (last ? 1 : 0))
+        .array();
+  }
+
+  /** Encrypts one stream. Plaintext passed to {@link #update} is framed immediately. */
+  static final class Encryptor {
+    private final int frameSize;
+    private final byte[] salt = new byte[SALT_LENGTH];
+    private final SecretKey key;
+    private final Cipher cipher;
+    private long frameNumber;
+    private boolean headerWritten;
+    private boolean finished;
+
+    Encryptor(SecretKey clientKey, int frameSize) throws GeneralSecurityException {
+      this.frameSize = Math.min(Math.max(frameSize, 1), MAX_FRAME_SIZE);
+      RANDOM.nextBytes(salt);
+      this.key = streamKey(clientKey, salt);
+      this.cipher = Cipher.getInstance(TRANSFORMATION);
+    }
+
+    /** Returns the frames for {@code plaintext}, preceded by the stream header the first time. */
+    List<byte[]> update(byte[] plaintext) throws GeneralSecurityException {
+      List<byte[]> frames = new ArrayList<>(plaintext.length / frameSize + 2);
+      writeHeader(frames);
+      for (int offset = 0; offset < plaintext.length; offset += frameSize) {
+        frames.add(frame(plaintext, offset, Math.min(frameSize, plaintext.length - offset), false));
+      }
+      return frames;
+    }
+
+    /** Returns the empty last frame that closes the stream, preceded by the header if unsent. */
+    List<byte[]> finish() throws GeneralSecurityException {
+      if (finished) {
+        return List.of();
+      }
+      List<byte[]> frames = new ArrayList<>(2);
+      writeHeader(frames);
+      frames.add(frame(new byte[0], 0, 0, true));
+      finished = true;
+      return frames;
+    }
+
+    private void writeHeader(List<byte[]> frames) {
+      if (!headerWritten) {
+        frames.add(ByteBuffer.allocate(HEADER_LENGTH).put(VERSION).put(salt).array());
+        headerWritten = true;
+      }
+    }
+
+    private byte[] frame(byte[] plaintext, int offset, int length, boolean last)
+        throws GeneralSecurityException {
+      if (finished) {
+        throw new IllegalStateException("payload stream is already finished");
+      }
+      cipher.init(
+          Cipher.ENCRYPT_MODE,
+          key,
+          new GCMParameterSpec(TAG_LENGTH * 8, iv(frameNumber++, last)));
+      byte[] frame = new byte[LENGTH_FIELD + length + TAG_LENGTH];
+      int ciphertextLength = cipher.doFinal(plaintext, offset, length, frame, LENGTH_FIELD);
+      ByteBuffer.wrap(frame).putInt(last ? ciphertextLength | LAST_FRAME_FLAG : ciphertextLength);
+      return frame;
+    }
+  }
+
+  /**
+   * Decrypts one stream. Bytes may arrive split anywhere; at most one incomplete frame is kept
+   * between calls to {@link #update}.
+   */
+  static final class Decryptor {
+    private final SecretKey clientKey;
+    private final Cipher cipher;
+    private SecretKey key;
+    private byte[] pending = new byte[0];
+    private int pendingLength;
+    private long frameNumber;
+    private boolean started;
+    private boolean finished;
+
+    Decryptor(SecretKey clientKey) throws GeneralSecurityException {
+      this.clientKey = clientKey;
+      this.cipher = Cipher.getInstance(TRANSFORMATION);
+    }
+
+    /** Returns the plaintext of every frame completed by {@code ciphertext}. */
+    List<byte[]> update(byte[] ciphertext) throws GeneralSecurityException {
+      if (ciphertext.length == 0) {
+        return List.of();
+      }
+      started = true;
+      if (finished) {
+        throw new GeneralSecurityException("data after the last frame");
+      }
+      append(ciphertext);
+      List<byte[]> plaintexts = new ArrayList<>();
+      int offset = 0;
+      if (key == null) {
+        if (pendingLength < HEADER_LENGTH) {
+          return plaintexts;
+        }
+        if (pending[0] != VERSION) {
+          throw new GeneralSecurityException("unsupported payload version " + pending[0]);
+        }
+        key = streamKey(clientKey, Arrays.copyOfRange(pending, 1, HEADER_LENGTH));
+        offset = HEADER_LENGTH;
+      }
+      while (pendingLength - offset >= LENGTH_FIELD) {
+        int lengthField = ByteBuffer.wrap(pending, offset, LENGTH_FIELD).getInt();
+        boolean last = (lengthField & LAST_FRAME_FLAG) != 0;
+        int length = lengthField & ~LAST_FRAME_FLAG;
+        if (length < TAG_LENGTH || length > MAX_FRAME_SIZE + TAG_LENGTH) {
+          throw new GeneralSecurityException("invalid frame length " + length);
+        }
+        if (pendingLength - offset - LENGTH_FIELD < length) {
+          break;
+        }
+        if (finished) {
+          throw new GeneralSecurityException("data after the last frame");
+        }
+        cipher.init(
+            Cipher.DECRYPT_MODE,
+            key,
+            new GCMParameterSpec(TAG_LENGTH * 8, iv(frameNumber++, last)));
+        byte[] plaintext = cipher.doFinal(pending, offset + LENGTH_FIELD, length);
+        if (plaintext.length > 0) {
+          plaintexts.add(plaintext);
+        }
+        offset += LENGTH_FIELD + length;
+        finished = last;
+      }
+      if (finished && offset < pendingLength) {
+        throw new GeneralSecurityException("data after the last frame");
+      }
+      System.arraycopy(pending, offset, pending, 0, pendingLength - offset);
+      pendingLength -= offset;
+      return plaintexts;
+    }
+
+    /** Fails unless the stream was empty or ended with its last frame. */
+    void finish() throws GeneralSecurityException {
+      if (started && !finished) {
+        throw new GeneralSecurityException("payload ended before its last frame");
+      }
+    }
+
+    private void append(byte[] ciphertext) {
+      int required = pendingLength + ciphertext.length;
+      if (required > pending.length) {
+        pending = Arrays.copyOf(pending, Math.max(required, pending.length * 2));
+      }
+      System.arraycopy(ciphertext, 0, pending, pendingLength, ciphertext.length);
+      pendingLength = required;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig.RateLimit;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Protects routes such as login, OTP, KYC upload and exports from being saturated by one caller.
+ *
+ * <ul>
+ *   <li>{@code rate-limits}: a token bucket per route pattern and caller, shared through Redis (see
+ *       {@link TokenBucketRateLimiter}). The caller is the subject of a bearer token verified by
+ *       {@link JwtValidationFilter}, or the client IP for every other request, so a client cannot
+ *       pick its own bucket by sending an arbitrary {@code Authorization} header.
+ *   <li>{@code concurrency-limits}: requests in flight per route pattern on this instance; further
+ *       requests are shed until one completes.
+ * </ul>
+ *
+ * <p>Runs right after {@link JwtValidationFilter}; rejected requests get 429 with {@code
+ * Retry-After} before they are routed.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+  public static final int ORDER = JwtValidationFilter.ORDER + 100;
+
+  private static final long SHED_RETRY_AFTER_MILLIS = 1000;
+
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+  private final TokenBucketRateLimiter tokenBucketRateLimiter;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+  public RateLimitFilter(
+      GatewayServerPropertyConfig gatewayServerPropertyConfig,
+      TokenBucketRateLimiter tokenBucketRateLimiter) {
+    this.gatewayServerPropertyConfig = gatewayServerPropertyConfig;
+    this.tokenBucketRateLimiter = tokenBucketRateLimiter;
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    String path = exchange.getRequest().getPath().value();
+    Map.Entry<String, RateLimit> rateLimit =
+        firstMatch(gatewayServerPropertyConfig.getRateLimits(), path);
+    Map.Entry<String, Integer> concurrencyLimit =
+        firstMatch(gatewayServerPropertyConfig.getConcurrencyLimits(), path);
+    if (rateLimit == null && concurrencyLimit == null) {
+      return chain.filter(exchange);
+    }
+
+    Mono<TokenBucketRateLimiter.Decision> decision =
+        rateLimit == null
+            ? Mono.just(TokenBucketRateLimiter.Decision.ALLOWED)
+            : tokenBucketRateLimiter.tryConsume(
+                rateLimit.getKey() + ":" + caller(exchange), rateLimit.getValue());
+    return decision.flatMap(
+        taken -> {
+          if (!taken.allowed()) {
+            return reject(exchange, taken.retryAfterMillis(), "rate limit");
+          }
+          if (concurrencyLimit == null) {
+            return chain.filter(exchange);
+          }
+          Semaphore permits =
+              inFlight.computeIfAbsent(
+                  concurrencyLimit.getKey(), pattern -> new Semaphore(concurrencyLimit.getValue()));
+          if (!permits.tryAcquire()) {
+            return reject(exchange, SHED_RETRY_AFTER_MILLIS, "concurrency limit");
+          }
+          return Mono.defer(() -> chain.filter(exchange)).doFinally(signal -> permits.release());
+        });
+  }
+
+  private <T> Map.Entry<String, T> firstMatch(Map<String, T> limits, String path) {
+    for (Map.Entry<String, T> limit : limits.entrySet()) {
+      if (pathMatcher.match(limit.getKey(), path)) {
+        return limit;
+      }
+    }
+    return null;
+  }
+
+  private String caller(ServerWebExchange exchange) {
+    String principal = exchange.getAttribute(JwtValidationFilter.PRINCIPAL_ATTRIBUTE);
+    if (principal != null) {
+      return "principal:" + principal;
+    }
+    ServerHttpRequest request = exchange.getRequest();
+    if (gatewayServerPropertyConfig.isRateLimitTrustForwardedFor()) {
+      String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+      if (forwardedFor != null && !forwardedFor.isBlank()) {
+        return "ip:" + forwardedFor.split(",")[0].trim();
+      }
+    }
+    InetSocketAddress remoteAddress = request.getRemoteAddress();
+    return "ip:"
+        + (remoteAddress == null || remoteAddress.getAddress() == null
+            ? "unknown"
+            : remoteAddress.getAddress().getHostAddress());
+  }
+
+  private static Mono<Void> reject(
+      ServerWebExchange exchange, long retryAfterMillis, String reason) {
+    log.debug(
+        "<<< {} exceeded for {}, retry after {} ms >>>",
+        reason,
+        exchange.getRequest().getPath(),
+        retryAfterMillis);
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+    response
+        .getHeaders()
+        .set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+    return response.setComplete();
+  }
+}
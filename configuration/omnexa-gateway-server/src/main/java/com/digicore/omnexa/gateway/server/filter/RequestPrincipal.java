@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Identifies the credentials of a request for per-user caching, without keeping them: the SHA-256
+ * hash of the {@code Authorization} header. The header is not verified here, so the result must
+ * not be used as the caller's identity; see {@link JwtValidationFilter#PRINCIPAL_ATTRIBUTE}.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+final class RequestPrincipal {
+  private RequestPrincipal() {}
+
+  /** Returns the caller's identity, or {@code null} when the request carries no credentials. */
+  static String of(ServerHttpRequest request) {
+    String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (authorization == null || authorization.isBlank()) {
+      return null;
+    }
+    try {
+      return Base64.getEncoder()
+          .withoutPadding()
+          .encodeToString(
+              MessageDigest.getInstance("SHA-256")
+                  .digest(authorization.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
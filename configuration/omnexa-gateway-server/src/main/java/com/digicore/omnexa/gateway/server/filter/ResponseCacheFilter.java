@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches successful GET responses of the paths listed in {@code response-cache-ttl}, such as
+ * reference data and permission catalogs, so repeated reads do not reach the services.
+ *
+ * <p>Entries are keyed by path, query and a hash of the {@code Authorization} header, so a user
+ * only ever gets responses fetched with their own credentials. Each response carries an {@code
+ * ETag} (the service's own, or a hash of the body) and a matching {@code If-None-Match} is
+ * answered with 304. Responses that set cookies, say {@code no-store}, or are larger than {@code
+ * response-cache-max-body-size} are passed through uncached. Services drop entries early by
+ * publishing a path prefix on {@link #INVALIDATION_CHANNEL}.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+  /** Must match {@code GatewayResponseCacheInvalidator.INVALIDATION_CHANNEL} in the common lib. */
+  public static final String INVALIDATION_CHANNEL = "omnexa:gateway:response-cache:invalidate";
+
+  /** Runs after PayloadEncryptionFilter, so its response decorator sees the plaintext. */
+  public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+  private static final String CACHE_STATUS_HEADER = "X-Cache";
+  private static final String ANONYMOUS = "anonymous";
+  private static final int ENTRY_OVERHEAD = 512;
+  private static final List<String> UNCACHED_HEADERS =
+      List.of(
+          HttpHeaders.CONTENT_LENGTH,
+          HttpHeaders.TRANSFER_ENCODING,
+          HttpHeaders.CONNECTION,
+          "Keep-Alive",
+          HttpHeaders.DATE,
+          CACHE_STATUS_HEADER);
+
+  private final GatewayServerPropertyConfig gatewayServerPropertyConfig;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final Cache<CacheKey, CachedResponse> responses;
+
+  public ResponseCacheFilter(
+      GatewayServerPropertyConfig gatewayServerPropertyConfig, RedissonClient redissonClient) {
+    this.gatewayServerPropertyConfig = gatewayServerPropertyConfig;
+    this.responses =
+        Caffeine.newBuilder()
+            .maximumWeight(gatewayServerPropertyConfig.getResponseCacheMaxBytes())
+            .weigher((CacheKey key, CachedResponse response) -> response.weight())
+            .expireAfter(Expiry.creating((CacheKey key, CachedResponse response) -> response.ttl()))
+            .build();
+    redissonClient
+        .getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE)
+        .addListenerAsync(String.class, (channel, pathPrefix) -> invalidate(pathPrefix))
+        .whenComplete(
+            (listenerId, e) -> {
+              if (e != null) {
+                log.error("<<< could not subscribe to response cache invalidations >>>", e);
+              }
+            });
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    ServerHttpRequest request = exchange.getRequest();
+    if (!HttpMethod.GET.equals(request.getMethod())) {
+      return chain.filter(exchange);
+    }
+    String path = request.getPath().value();
+    Duration ttl = timeToLive(path);
+    if (ttl == null) {
+      return chain.filter(exchange);
+    }
+    String principal = RequestPrincipal.of(request);
+    CacheKey key =
+        new CacheKey(
+            principal == null ? ANONYMOUS : principal, path, request.getURI().getRawQuery());
+    CachedResponse cached = noCache(request.getHeaders()) ? null : responses.getIfPresent(key);
+    if (cached != null) {
+      return writeCached(exchange, cached);
+    }
+    return chain.filter(
+        exchange.mutate().response(new CachingResponse(exchange, key, ttl)).build());
+  }
+
+  /** Drops every entry whose path starts with {@code pathPrefix}; an empty prefix drops all. */
+  void invalidate(String pathPrefix) {
+    String prefix = pathPrefix == null ? "" : pathPrefix.trim();
+    responses.asMap().keySet().removeIf(key -> key.path().startsWith(prefix));
+    log.debug("<<< invalidated cached responses under {} >>>", prefix.isEmpty() ? "/" : prefix);
+  }
+
+  private Duration timeToLive(String path) {
+    for (Map.Entry<String, Duration> route :
+        gatewayServerPropertyConfig.getResponseCacheTtl().entrySet()) {
+      if (pathMatcher.match(route.getKey(), path)) {
+        return route.getValue().isPositive() ? route.getValue() : null;
+      }
+    }
+    return null;
+  }
+
+  private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    response.getHeaders().putAll(cached.headers());
+    response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+    if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+      response.setStatusCode(HttpStatus.NOT_MODIFIED);
+      response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+      return response.setComplete();
+    }
+    response.setStatusCode(HttpStatus.OK);
+    response.getHeaders().setContentLength(cached.body().length);
+    return response.writeWith(
+        Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+  }
+
+  private static boolean noCache(HttpHeaders headers) {
+    String cacheControl = headers.getCacheControl();
+    return cacheControl != null && cacheControl.contains("no-cache");
+  }
+
+  private static boolean cacheable(HttpHeaders headers) {
+    String cacheControl = headers.getCacheControl();
+    return !headers.containsKey(HttpHeaders.SET_COOKIE)
+        && (cacheControl == null
+            || !cacheControl.contains(CacheControl.noStore().getHeaderValue()));
+  }
+
+  private static boolean matches(List<String> ifNoneMatch, String etag) {
+    String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+    return ifNoneMatch.stream()
+        .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+        .anyMatch(tag -> tag.equals("*") || tag.equals(opaqueTag));
+  }
+
+  private static byte[] sha256(byte[] data) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(data);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] join(List<DataBuffer> buffers) {
+    byte[] bytes = new byte[buffers.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+    int offset = 0;
+    for (DataBuffer buffer : buffers) {
+      int length = buffer.readableByteCount();
+      buffer.read(bytes, offset, length);
+      offset += length;
+      DataBufferUtils.release(buffer);
+    }
+    return bytes;
+  }
+
+  private record CacheKey(String principal, String path, String query) {}
+
+  /** Counts the bytes of a response body as its buffers arrive. */
+  private static final class BodySize {
+    private final int limit;
+    private long size;
+
+    BodySize(int limit) {
+      this.limit = limit;
+    }
+
+    /** Adds {@code buffer} and returns whether the body is now larger than the limit. */
+    boolean exceededWith(DataBuffer buffer) {
+      size += buffer.readableByteCount();
+      return exceeded();
+    }
+
+    boolean exceeded() {
+      return size > limit;
+    }
+  }
+
+  private record CachedResponse(HttpHeaders headers, byte[] body, String etag, Duration ttl) {
+    int weight() {
+      return body.length + ENTRY_OVERHEAD;
+    }
+  }
+
+  private class CachingResponse extends ServerHttpResponseDecorator {
+    private final ServerWebExchange exchange;
+    private final CacheKey key;
+    private final Duration ttl;
+
+    CachingResponse(ServerWebExchange exchange, CacheKey key, Duration ttl) {
+      super(exchange.getResponse());
+      this.exchange = exchange;
+      this.key = key;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      HttpStatusCode status = getStatusCode();
+      if (status == null || !status.isSameCodeAs(HttpStatus.OK) || !cacheable(getHeaders())) {
+        return super.writeWith(body);
+      }
+      int maxBodySize = gatewayServerPropertyConfig.getResponseCacheMaxBodySize();
+      if (getHeaders().getContentLength() > maxBodySize) {
+        return super.writeWith(body);
+      }
+      // the ETag has to be known before the headers are sent, so the body is held until it
+      // completes; once it outgrows the limit, what was held and the rest are passed through
+      BodySize bodySize = new BodySize(maxBodySize);
+      return Flux.<DataBuffer>from(body)
+          .bufferUntil(bodySize::exceededWith)
+          .switchOnFirst(
+              (first, chunks) -> {
+                if (bodySize.exceeded()) {
+                  return super.writeWith(chunks.concatMapIterable(buffers -> buffers));
+                }
+                if (first.isOnError()) {
+                  return Mono.<Void>error(first.getThrowable());
+                }
+                return store(join(first.hasValue() ? first.get() : List.of()));
+              })
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+          .then();
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      // streamed responses are not cached
+      return super.writeAndFlushWith(body);
+    }
+
+    private Mono<Void> store(byte[] body) {
+      HttpHeaders headers = getHeaders();
+      if (headers.getETag() == null) {
+        headers.setETag(
+            "\""
+                + Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(Arrays.copyOf(sha256(body), 16))
+                + "\"");
+      }
+      HttpHeaders cachedHeaders = new HttpHeaders();
+      cachedHeaders.putAll(headers);
+      UNCACHED_HEADERS.forEach(cachedHeaders::remove);
+      responses.put(key, new CachedResponse(cachedHeaders, body, headers.getETag(), ttl));
+      headers.set(CACHE_STATUS_HEADER, "MISS");
+
+      if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), headers.getETag())) {
+        setStatusCode(HttpStatus.NOT_MODIFIED);
+        headers.remove(HttpHeaders.CONTENT_TYPE);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        return setComplete();
+      }
+      headers.setContentLength(body.length);
+      return super.writeWith(Mono.fromSupplier(() -> bufferFactory().wrap(body)));
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig.RateLimit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Token buckets shared by every gateway instance through Redis.
+ *
+ * <p>Each take is one Lua script, so refilling and taking a token are atomic across instances; the
+ * script uses the Redis clock and lets idle buckets expire. When Redis fails or answers slower
+ * than {@link #REDIS_TIMEOUT}, buckets are kept in memory for {@link #REDIS_BACKOFF}, which limits
+ * per instance rather than across the cluster.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+  static final String KEY_PREFIX = "omnexa:gateway:rate-limit:";
+  static final Duration REDIS_TIMEOUT = Duration.ofMillis(200);
+  static final Duration REDIS_BACKOFF = Duration.ofSeconds(5);
+
+  private static final String TOKEN_BUCKET_SCRIPT =
+      """
+      local capacity = tonumber(ARGV[1])
+      local refill_per_ms = tonumber(ARGV[2]) / 1000
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'refilled_at')
+      local tokens = tonumber(bucket[1]) or capacity
+      local refilled_at = tonumber(bucket[2]) or now
+      tokens = math.min(capacity, tokens + math.max(0, now - refilled_at) * refill_per_ms)
+      local allowed = 0
+      local retry_after = 0
+      if tokens >= 1 then
+        tokens = tokens - 1
+        allowed = 1
+      else
+        retry_after = math.ceil((1 - tokens) / refill_per_ms)
+      end
+      redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'refilled_at', now)
+      redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+      return {allowed, retry_after}
+      """;
+
+  private final RedissonClient redissonClient;
+  private final Cache<String, LocalTokenBucket> localBuckets =
+      Caffeine.newBuilder().maximumSize(100_000).expireAfterAccess(Duration.ofMinutes(10)).build();
+  private volatile long redisRetryAt;
+
+  public TokenBucketRateLimiter(RedissonClient redissonClient) {
+    this.redissonClient = redissonClient;
+  }
+
+  /** Outcome of a take; {@code retryAfterMillis} is when the next token is due if denied. */
+  public record Decision(boolean allowed, long retryAfterMillis) {
+    static final Decision ALLOWED = new Decision(true, 0);
+  }
+
+  /** Takes one token from the bucket of {@code key}, creating it full on first use. */
+  public Mono<Decision> tryConsume(String key, RateLimit rateLimit) {
+    if (rateLimit.getCapacity() <= 0 || rateLimit.getRefillPerSecond() <= 0) {
+      return Mono.just(new Decision(false, REDIS_BACKOFF.toMillis()));
+    }
+    if (System.currentTimeMillis() < redisRetryAt) {
+      return Mono.just(consumeLocally(key, rateLimit));
+    }
+    return Mono.fromCompletionStage(
+            () ->
+                redissonClient
+                    .getScript(StringCodec.INSTANCE)
+                    .<List<Object>>evalAsync(
+                        RScript.Mode.READ_WRITE,
+                        TOKEN_BUCKET_SCRIPT,
+                        RScript.ReturnType.MULTI,
+                        List.of(KEY_PREFIX + key),
+                        String.valueOf(rateLimit.getCapacity()),
+                        String.valueOf(rateLimit.getRefillPerSecond())))
+        .timeout(REDIS_TIMEOUT)
+        .map(
+            result ->
+                new Decision(
+                    ((Number) result.get(0)).longValue() == 1,
+                    ((Number) result.get(1)).longValue()))
+        .onErrorResume(
+            e -> {
+              redisRetryAt = System.currentTimeMillis() + REDIS_BACKOFF.toMillis();
+              log.warn(
+                  "<<< rate limiting in memory for {} s, Redis failed : {} >>>",
+                  REDIS_BACKOFF.toSeconds(),
+                  e.toString());
+              return Mono.just(consumeLocally(key, rateLimit));
+            });
+  }
+
+  private Decision consumeLocally(String key, RateLimit rateLimit) {
+    return localBuckets
+        .get(
+            key,
+            k ->
+                new LocalTokenBucket(
+                    rateLimit.getCapacity(),
+                    rateLimit.getRefillPerSecond(),
+                    System.currentTimeMillis()))
+        .tryConsume(System.currentTimeMillis());
+  }
+
+  /** In-memory counterpart of the Redis script. */
+  static final class LocalTokenBucket {
+    private final int capacity;
+    private final double refillPerMilli;
+    private double tokens;
+    private long refilledAt;
+
+    LocalTokenBucket(int capacity, double refillPerSecond, long now) {
+      this.capacity = capacity;
+      this.refillPerMilli = refillPerSecond / 1000;
+      this.tokens = capacity;
+      this.refilledAt = now;
+    }
+
+    synchronized Decision tryConsume(long now) {
+      tokens = Math.min(capacity, tokens + Math.max(0, now - refilledAt) * refillPerMilli);
+      refilledAt = Math.max(refilledAt, now);
+      if (tokens >= 1) {
+        tokens -= 1;
+        return Decision.ALLOWED;
+      }
+      return new Decision(false, (long) Math.ceil((1 - tokens) / refillPerMilli));
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.proc.SingleKeyJWSKeySelector;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for the JwtValidationFilter class, with tokens signed by a generated RSA key.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class JwtValidationFilterTest {
+  private KeyPair keyPair;
+  private JWTProcessor<SecurityContext> jwtProcessor;
+  private JwtValidationFilter jwtValidationFilter;
+  private final AtomicReference<ServerWebExchange> routed = new AtomicReference<>();
+  private final GatewayFilterChain chain =
+      exchange -> {
+        routed.set(exchange);
+        return Mono.empty();
+      };
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() throws Exception {
+    KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(2048);
+    keyPair = keyPairGenerator.generateKeyPair();
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(
+        new SingleKeyJWSKeySelector<>(JWSAlgorithm.RS256, (RSAPublicKey) keyPair.getPublic()));
+    processor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(null, null));
+    jwtProcessor = spy(processor);
+
+    GatewayServerPropertyConfig gatewayServerPropertyConfig = new GatewayServerPropertyConfig();
+    gatewayServerPropertyConfig.setGatewayIdentitySecret("shared-secret");
+    ObjectProvider<JWTProcessor<SecurityContext>> jwtProcessorProvider =
+        mock(ObjectProvider.class);
+    when(jwtProcessorProvider.getIfAvailable()).thenReturn(jwtProcessor);
+    jwtValidationFilter =
+        new JwtValidationFilter(gatewayServerPropertyConfig, jwtProcessorProvider);
+  }
+
+  @Test
+  void validTokenIsRoutedWithTheGatewayIdentity() {
+    MockServerWebExchange exchange = exchange("Bearer " + token(keyPair), "forged-by-the-client");
+
+    jwtValidationFilter.filter(exchange, chain).block();
+
+    assertNotNull(routed.get());
+    String identity =
+        routed.get().getRequest().getHeaders().getFirst(JwtValidationFilter.IDENTITY_HEADER);
+    assertNotNull(identity);
+    assertNotEquals("forged-by-the-client", identity);
+    assertEquals(
+        "admin@digicoreltds.com", exchange.getAttribute(JwtValidationFilter.PRINCIPAL_ATTRIBUTE));
+  }
+
+  @Test
+  void tokenSignedWithAnotherKeyIsRejected() throws Exception {
+    KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(2048);
+    MockServerWebExchange exchange =
+        exchange("Bearer " + token(keyPairGenerator.generateKeyPair()), null);
+
+    jwtValidationFilter.filter(exchange, chain).block();
+
+    assertNull(routed.get());
+    assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    assertNull(exchange.getAttribute(JwtValidationFilter.PRINCIPAL_ATTRIBUTE));
+  }
+
+  @Test
+  void verificationIsCachedPerToken() throws Exception {
+    String authorization = "Bearer " + token(keyPair);
+
+    jwtValidationFilter.filter(exchange(authorization, null), chain).block();
+    jwtValidationFilter.filter(exchange(authorization, null), chain).block();
+
+    verify(jwtProcessor, times(1)).process(anyString(), isNull());
+  }
+
+  @Test
+  void forgedIdentityIsRemovedFromRequestsWithoutToken() {
+    jwtValidationFilter.filter(exchange(null, "forged-by-the-client"), chain).block();
+
+    assertFalse(
+        routed.get().getRequest().getHeaders().containsKey(JwtValidationFilter.IDENTITY_HEADER));
+  }
+
+  private static MockServerWebExchange exchange(String authorization, String identity) {
+    MockServerHttpRequest.BaseBuilder<?> request =
+        MockServerHttpRequest.get("/omnexa-backoffice/v1/roles");
+    if (authorization != null) {
+      request.header(HttpHeaders.AUTHORIZATION, authorization);
+    }
+    if (identity != null) {
+      request.header(JwtValidationFilter.IDENTITY_HEADER, identity);
+    }
+    return MockServerWebExchange.from(request);
+  }
+
+  private static String token(KeyPair signingKeyPair) {
+    try {
+      SignedJWT jwt =
+          new SignedJWT(
+              new JWSHeader(JWSAlgorithm.RS256),
+              new JWTClaimsSet.Builder()
+                  .subject("admin@digicoreltds.com")
+                  .expirationTime(Date.from(Instant.now().plusSeconds(600)))
+                  .build());
+      jwt.sign(new RSASSASigner(signingKeyPair.getPrivate()));
+      return jwt.serialize();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
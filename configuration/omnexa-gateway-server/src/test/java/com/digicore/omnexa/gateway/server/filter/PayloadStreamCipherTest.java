@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PayloadStreamCipher class.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class PayloadStreamCipherTest {
+  private static final int FRAME_SIZE = 16;
+
+  private final Random random = new Random(20261019L);
+  private final SecretKey clientKey = new SecretKeySpec(bytes(32), "AES");
+
+  @Test
+  void decryptsStreamsSplitAtRandomPoints() throws Exception {
+    for (int run = 0; run < 200; run++) {
+      byte[] plaintext = bytes(random.nextInt(5 * FRAME_SIZE));
+      byte[] ciphertext = concat(encrypt(plaintext));
+
+      PayloadStreamCipher.Decryptor decryptor = new PayloadStreamCipher.Decryptor(clientKey);
+      ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+      int offset = 0;
+      while (offset < ciphertext.length) {
+        int length = Math.min(1 + random.nextInt(40), ciphertext.length - offset);
+        byte[] part = Arrays.copyOfRange(ciphertext, offset, offset + length);
+        for (byte[] decryptedPart : decryptor.update(part)) {
+          decrypted.write(decryptedPart);
+        }
+        offset += length;
+      }
+      decryptor.finish();
+
+      assertArrayEquals(plaintext, decrypted.toByteArray());
+    }
+  }
+
+  @Test
+  void streamsOfTheSameKeyUseDifferentSalts() throws Exception {
+    byte[] plaintext = bytes(FRAME_SIZE);
+
+    byte[] first = encrypt(plaintext).get(0);
+    byte[] second = encrypt(plaintext).get(0);
+
+    assertEquals(PayloadStreamCipher.VERSION, first[0]);
+    assertFalse(Arrays.equals(first, second));
+  }
+
+  @Test
+  void truncatedStreamIsRejected() throws Exception {
+    List<byte[]> frames = encrypt(bytes(3 * FRAME_SIZE));
+    byte[] ciphertext = concat(frames.subList(0, frames.size() - 1));
+
+    PayloadStreamCipher.Decryptor decryptor = new PayloadStreamCipher.Decryptor(clientKey);
+    decryptor.update(ciphertext);
+
+    assertThrows(GeneralSecurityException.class, decryptor::finish);
+  }
+
+  @Test
+  void tamperedFrameIsRejected() throws Exception {
+    List<byte[]> frames = encrypt(bytes(3 * FRAME_SIZE));
+    // first ciphertext byte of the first frame, after its length field
+    frames.get(1)[4] ^= 1;
+    byte[] ciphertext = concat(frames);
+
+    assertThrows(
+        GeneralSecurityException.class,
+        () -> new PayloadStreamCipher.Decryptor(clientKey).update(ciphertext));
+  }
+
+  @Test
+  void tamperedSaltIsRejected() throws Exception {
+    byte[] ciphertext = concat(encrypt(bytes(FRAME_SIZE)));
+    ciphertext[1] ^= 1;
+
+    assertThrows(
+        GeneralSecurityException.class,
+        () -> new PayloadStreamCipher.Decryptor(clientKey).update(ciphertext));
+  }
+
+  @Test
+  void reorderedFramesAreRejected() throws Exception {
+    List<byte[]> frames = new ArrayList<>(encrypt(bytes(3 * FRAME_SIZE)));
+    Collections.swap(frames, 1, 2);
+
+    assertThrows(
+        GeneralSecurityException.class,
+        () -> new PayloadStreamCipher.Decryptor(clientKey).update(concat(frames)));
+  }
+
+  @Test
+  void dataAfterTheLastFrameIsRejected() throws Exception {
+    List<byte[]> frames = new ArrayList<>(encrypt(bytes(FRAME_SIZE)));
+    byte[] ciphertext = concat(frames);
+    PayloadStreamCipher.Decryptor decryptor = new PayloadStreamCipher.Decryptor(clientKey);
+
+    assertThrows(
+        GeneralSecurityException.class,
+        () -> decryptor.update(concat(List.of(ciphertext, new byte[] {0}))));
+    PayloadStreamCipher.Decryptor splitDecryptor = new PayloadStreamCipher.Decryptor(clientKey);
+    splitDecryptor.update(ciphertext);
+    assertThrows(
+        GeneralSecurityException.class, () -> splitDecryptor.update(frames.get(frames.size() - 1)));
+  }
+
+  @Test
+  void streamOfAnotherKeyIsRejected() throws Exception {
+    byte[] ciphertext = concat(encrypt(bytes(FRAME_SIZE)));
+    SecretKey otherKey = new SecretKeySpec(bytes(32), "AES");
+
+    assertThrows(
+        GeneralSecurityException.class,
+        () -> new PayloadStreamCipher.Decryptor(otherKey).update(ciphertext));
+  }
+
+  private List<byte[]> encrypt(byte[] plaintext) throws GeneralSecurityException {
+    PayloadStreamCipher.Encryptor encryptor =
+        new PayloadStreamCipher.Encryptor(clientKey, FRAME_SIZE);
+    List<byte[]> frames = new ArrayList<>();
+    int offset = 0;
+    while (offset < plaintext.length) {
+      int length = Math.min(1 + random.nextInt(2 * FRAME_SIZE), plaintext.length - offset);
+      frames.addAll(encryptor.update(Arrays.copyOfRange(plaintext, offset, offset + length)));
+      offset += length;
+    }
+    frames.addAll(encryptor.finish());
+    return frames;
+  }
+
+  private byte[] bytes(int length) {
+    byte[] bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static byte[] concat(List<byte[]> parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    parts.forEach(out::writeBytes);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RFuture;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for the ResponseCacheFilter class, with an upstream that counts the requests reaching
+ * it and a mocked invalidation topic.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class ResponseCacheFilterTest {
+  private static final String CACHED_ROUTE = "/omnexa-merchant/v1/reference/**";
+  private static final String COUNTRIES = "/omnexa-merchant/v1/reference/countries";
+  private static final String BODY = "[\"NG\",\"GH\",\"KE\"]";
+  private static final int MAX_BODY_SIZE = 64;
+
+  private final AtomicInteger upstreamCalls = new AtomicInteger();
+  private MessageListener<String> invalidationListener;
+  private ResponseCacheFilter responseCacheFilter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    GatewayServerPropertyConfig gatewayServerPropertyConfig = new GatewayServerPropertyConfig();
+    gatewayServerPropertyConfig.getResponseCacheTtl().put(CACHED_ROUTE, Duration.ofMinutes(5));
+    gatewayServerPropertyConfig.setResponseCacheMaxBodySize(MAX_BODY_SIZE);
+
+    RTopic topic = mock(RTopic.class);
+    ArgumentCaptor<MessageListener<String>> listener =
+        ArgumentCaptor.forClass(MessageListener.class);
+    when(topic.addListenerAsync(eq(String.class), listener.capture()))
+        .thenReturn(mock(RFuture.class));
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    when(redissonClient.getTopic(ResponseCacheFilter.INVALIDATION_CHANNEL, StringCodec.INSTANCE))
+        .thenReturn(topic);
+
+    responseCacheFilter = new ResponseCacheFilter(gatewayServerPropertyConfig, redissonClient);
+    invalidationListener = listener.getValue();
+  }
+
+  @Test
+  void repeatedReadsAreServedFromTheCache() {
+    MockServerWebExchange miss = get(COUNTRIES, "Bearer merchant-a");
+    MockServerWebExchange hit = get(COUNTRIES, "Bearer merchant-a");
+
+    responseCacheFilter.filter(miss, upstream(BODY)).block();
+    responseCacheFilter.filter(hit, upstream(BODY)).block();
+
+    assertEquals(1, upstreamCalls.get());
+    assertEquals("MISS", cacheStatus(miss));
+    assertEquals("HIT", cacheStatus(hit));
+    assertEquals(BODY, body(hit));
+    assertEquals(HttpStatus.OK, hit.getResponse().getStatusCode());
+    assertEquals(
+        miss.getResponse().getHeaders().getETag(), hit.getResponse().getHeaders().getETag());
+  }
+
+  @Test
+  void entriesAreKeptPerPrincipal() {
+    responseCacheFilter.filter(get(COUNTRIES, "Bearer merchant-a"), upstream(BODY)).block();
+    MockServerWebExchange otherUser = get(COUNTRIES, "Bearer merchant-b");
+    responseCacheFilter.filter(otherUser, upstream(BODY)).block();
+
+    assertEquals(2, upstreamCalls.get());
+    assertEquals("MISS", cacheStatus(otherUser));
+  }
+
+  @Test
+  void matchingEtagsAreAnsweredWithNotModified() {
+    MockServerWebExchange miss = get(COUNTRIES, "Bearer merchant-a");
+    responseCacheFilter.filter(miss, upstream(BODY)).block();
+    String etag = miss.getResponse().getHeaders().getETag();
+    assertNotNull(etag);
+
+    MockServerWebExchange revalidation =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get(COUNTRIES)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer merchant-a")
+                .ifNoneMatch(etag));
+    responseCacheFilter.filter(revalidation, upstream(BODY)).block();
+
+    assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+    assertEquals("", body(revalidation));
+    assertEquals(1, upstreamCalls.get());
+  }
+
+  @Test
+  void noStoreResponsesAreNotCached() {
+    Consumer<HttpHeaders> noStore = headers -> headers.setCacheControl(CacheControl.noStore());
+    MockServerWebExchange first = get(COUNTRIES, "Bearer merchant-a");
+    MockServerWebExchange second = get(COUNTRIES, "Bearer merchant-a");
+
+    responseCacheFilter.filter(first, upstream(noStore, BODY)).block();
+    responseCacheFilter.filter(second, upstream(noStore, BODY)).block();
+
+    assertEquals(2, upstreamCalls.get());
+    assertNull(cacheStatus(second));
+    assertEquals(BODY, body(second));
+  }
+
+  @Test
+  void onlyGetRequestsToConfiguredPathsAreCached() {
+    for (int i = 0; i < 2; i++) {
+      responseCacheFilter
+          .filter(
+              MockServerWebExchange.from(
+                  MockServerHttpRequest.post(COUNTRIES)
+                      .header(HttpHeaders.AUTHORIZATION, "Bearer merchant-a")),
+              upstream(BODY))
+          .block();
+      responseCacheFilter
+          .filter(get("/omnexa-merchant/v1/profile", "Bearer merchant-a"), upstream(BODY))
+          .block();
+    }
+
+    assertEquals(4, upstreamCalls.get());
+  }
+
+  @Test
+  void invalidationMessagesDropTheEntriesUnderAPrefix() {
+    responseCacheFilter.filter(get(COUNTRIES, "Bearer merchant-a"), upstream(BODY)).block();
+
+    invalidationListener.onMessage(
+        ResponseCacheFilter.INVALIDATION_CHANNEL, "/omnexa-merchant/v1/reference");
+    MockServerWebExchange afterInvalidation = get(COUNTRIES, "Bearer merchant-a");
+    responseCacheFilter.filter(afterInvalidation, upstream(BODY)).block();
+
+    assertEquals(2, upstreamCalls.get());
+    assertEquals("MISS", cacheStatus(afterInvalidation));
+  }
+
+  @Test
+  void bodiesOverTheLimitStreamThroughUncached() {
+    String chunk = "x".repeat(MAX_BODY_SIZE / 2);
+    MockServerWebExchange first = get(COUNTRIES, "Bearer merchant-a");
+    MockServerWebExchange second = get(COUNTRIES, "Bearer merchant-a");
+
+    responseCacheFilter.filter(first, upstream(chunk, chunk, chunk)).block();
+    responseCacheFilter.filter(second, upstream(chunk, chunk, chunk)).block();
+
+    assertEquals(chunk.repeat(3), body(first));
+    assertNull(cacheStatus(first));
+    assertEquals(2, upstreamCalls.get());
+  }
+
+  @Test
+  void declaredLengthsOverTheLimitAreNotHeld() {
+    String large = "x".repeat(MAX_BODY_SIZE + 1);
+    MockServerWebExchange exchange = get(COUNTRIES, "Bearer merchant-a");
+
+    responseCacheFilter
+        .filter(exchange, upstream(headers -> headers.setContentLength(large.length()), large))
+        .block();
+
+    assertEquals(large, body(exchange));
+    assertNull(cacheStatus(exchange));
+  }
+
+  private GatewayFilterChain upstream(String... chunks) {
+    return upstream(headers -> {}, chunks);
+  }
+
+  /** An upstream that answers 200 with {@code chunks} as separate buffers. */
+  private GatewayFilterChain upstream(Consumer<HttpHeaders> headers, String... chunks) {
+    return exchange -> {
+      upstreamCalls.incrementAndGet();
+      ServerHttpResponse response = exchange.getResponse();
+      response.setStatusCode(HttpStatus.OK);
+      headers.accept(response.getHeaders());
+      return response.writeWith(
+          Flux.fromArray(chunks)
+              .map(
+                  chunk ->
+                      (DataBuffer)
+                          response
+                              .bufferFactory()
+                              .wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+    };
+  }
+
+  private static MockServerWebExchange get(String path, String authorization) {
+    return MockServerWebExchange.from(
+        MockServerHttpRequest.get(path).header(HttpHeaders.AUTHORIZATION, authorization));
+  }
+
+  private static String cacheStatus(MockServerWebExchange exchange) {
+    return exchange.getResponse().getHeaders().getFirst("X-Cache");
+  }
+
+  private static String body(MockServerWebExchange exchange) {
+    return exchange.getResponse().getBodyAsString().defaultIfEmpty("").block();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig.RateLimit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the token bucket script of the TokenBucketRateLimiter class against Redis.
+ *
+ * <p>Each test checks the bucket hash the script leaves in Redis, so a test cannot pass on the
+ * in-memory fallback.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenBucketRateLimiterRedisTest {
+
+  @Container
+  private static final GenericContainer<?> REDIS =
+      new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+  private static RedissonClient redissonClient;
+
+  @BeforeAll
+  static void connect() {
+    Config config = new Config();
+    config
+        .useSingleServer()
+        .setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+    redissonClient = Redisson.create(config);
+    // opens the connection, so the first script call is not cut short by the Redis timeout
+    redissonClient.getKeys().count();
+  }
+
+  @AfterAll
+  static void disconnect() {
+    redissonClient.shutdown();
+  }
+
+  @Test
+  void allowsTheCapacityThenDeniesUntilTheNextToken() {
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(redissonClient);
+    RateLimit rateLimit = rateLimit(3, 0.5);
+
+    for (int i = 0; i < 3; i++) {
+      assertTrue(rateLimiter.tryConsume("login:ip:10.0.0.1", rateLimit).block().allowed());
+    }
+    TokenBucketRateLimiter.Decision denied =
+        rateLimiter.tryConsume("login:ip:10.0.0.1", rateLimit).block();
+
+    assertFalse(denied.allowed());
+    assertTrue(denied.retryAfterMillis() > 1000 && denied.retryAfterMillis() <= 2000);
+    assertTrue(tokens("login:ip:10.0.0.1") < 1);
+    assertTrue(
+        redissonClient
+                .getBucket(TokenBucketRateLimiter.KEY_PREFIX + "login:ip:10.0.0.1")
+                .remainTimeToLive()
+            > 0);
+  }
+
+  @Test
+  void bucketsAreSharedAcrossInstancesAndSeparatePerKey() {
+    RateLimit rateLimit = rateLimit(1, 0.1);
+
+    assertTrue(
+        new TokenBucketRateLimiter(redissonClient)
+            .tryConsume("otp:ip:10.0.0.2", rateLimit)
+            .block()
+            .allowed());
+    TokenBucketRateLimiter otherInstance = new TokenBucketRateLimiter(redissonClient);
+
+    assertFalse(otherInstance.tryConsume("otp:ip:10.0.0.2", rateLimit).block().allowed());
+    assertTrue(otherInstance.tryConsume("otp:ip:10.0.0.3", rateLimit).block().allowed());
+  }
+
+  @Test
+  void bucketRefillsOverTime() throws InterruptedException {
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(redissonClient);
+    RateLimit rateLimit = rateLimit(1, 10);
+
+    assertTrue(rateLimiter.tryConsume("export:ip:10.0.0.4", rateLimit).block().allowed());
+    assertFalse(rateLimiter.tryConsume("export:ip:10.0.0.4", rateLimit).block().allowed());
+    Thread.sleep(250);
+
+    assertTrue(rateLimiter.tryConsume("export:ip:10.0.0.4", rateLimit).block().allowed());
+    assertNotNull(tokens("export:ip:10.0.0.4"));
+  }
+
+  private static Double tokens(String key) {
+    String tokens =
+        redissonClient
+            .<String, String>getMap(TokenBucketRateLimiter.KEY_PREFIX + key, StringCodec.INSTANCE)
+            .get("tokens");
+    return tokens == null ? null : Double.valueOf(tokens);
+  }
+
+  private static RateLimit rateLimit(int capacity, double refillPerSecond) {
+    RateLimit rateLimit = new RateLimit();
+    rateLimit.setCapacity(capacity);
+    rateLimit.setRefillPerSecond(refillPerSecond);
+    return rateLimit;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.gateway.server.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.gateway.server.config.GatewayServerPropertyConfig.RateLimit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+/**
+ * Unit tests for the TokenBucketRateLimiter class, with Redis stood in by a mocked {@link
+ * RScript}. The token bucket script itself runs against Redis in {@link
+ * TokenBucketRateLimiterRedisTest}.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class TokenBucketRateLimiterTest {
+
+  @Test
+  void localBucketAllowsItsCapacityThenDenies() {
+    TokenBucketRateLimiter.LocalTokenBucket bucket =
+        new TokenBucketRateLimiter.LocalTokenBucket(2, 1, 0);
+
+    assertTrue(bucket.tryConsume(0).allowed());
+    assertTrue(bucket.tryConsume(0).allowed());
+    TokenBucketRateLimiter.Decision denied = bucket.tryConsume(0);
+    assertFalse(denied.allowed());
+    assertEquals(1000, denied.retryAfterMillis());
+  }
+
+  @Test
+  void localBucketRefillsOverTime() {
+    TokenBucketRateLimiter.LocalTokenBucket bucket =
+        new TokenBucketRateLimiter.LocalTokenBucket(1, 2, 0);
+
+    assertTrue(bucket.tryConsume(0).allowed());
+    assertFalse(bucket.tryConsume(100).allowed());
+    assertTrue(bucket.tryConsume(500).allowed());
+  }
+
+  @Test
+  void usesTheRedisDecision() {
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    RScript script = mock(RScript.class);
+    when(redissonClient.getScript(any())).thenReturn(script);
+    doReturn(new CompletableFutureWrapper<>(List.<Object>of(0L, 1500L)))
+        .when(script)
+        .evalAsync(any(), anyString(), any(), anyList(), any(), any());
+
+    TokenBucketRateLimiter.Decision decision =
+        new TokenBucketRateLimiter(redissonClient)
+            .tryConsume("login:ip:1.2.3.4", rateLimit(5, 1))
+            .block();
+
+    assertNotNull(decision);
+    assertFalse(decision.allowed());
+    assertEquals(1500, decision.retryAfterMillis());
+  }
+
+  @Test
+  void fallsBackToMemoryWhenRedisFails() {
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    when(redissonClient.getScript(any())).thenThrow(new IllegalStateException("redis is down"));
+    TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(redissonClient);
+
+    assertTrue(rateLimiter.tryConsume("otp:ip:1.2.3.4", rateLimit(2, 0.1)).block().allowed());
+    assertTrue(rateLimiter.tryConsume("otp:ip:1.2.3.4", rateLimit(2, 0.1)).block().allowed());
+    assertFalse(rateLimiter.tryConsume("otp:ip:1.2.3.4", rateLimit(2, 0.1)).block().allowed());
+    // Redis is not retried until the backoff has passed
+    verify(redissonClient, times(1)).getScript(any());
+  }
+
+  private static RateLimit rateLimit(int capacity, double refillPerSecond) {
+    RateLimit rateLimit = new RateLimit();
+    rateLimit.setCapacity(capacity);
+    rateLimit.setRefillPerSecond(refillPerSecond);
+    return rateLimit;
+  }
+}
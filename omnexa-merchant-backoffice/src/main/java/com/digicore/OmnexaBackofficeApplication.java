@@ -1,5 +1,6 @@
 package com.digicore;
 
+import com.digicore.omnexa.common.lib.util.StartupTimelineReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -9,6 +10,8 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 public class OmnexaBackofficeApplication {
 
   public static void main(String[] args) {
-    SpringApplication.run(OmnexaBackofficeApplication.class, args);
+    SpringApplication application = new SpringApplication(OmnexaBackofficeApplication.class);
+    StartupTimelineReporter.register(application);
+    application.run(args);
   }
 }
@@ -29,8 +29,12 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @Profile({"dev", "pilot", "prod"})
 @Configuration
 @ComponentScan({"com.digicore.omnexa.backoffice", "com.digicore.common.lib"})
-@EntityScan({"com.digicore.omnexa.backoffice"})
-@EnableJpaRepositories(basePackages = {"com.digicore.omnexa.backoffice"})
+@EntityScan({"com.digicore.omnexa.backoffice", "com.digicore.omnexa.notification.lib.outbox"})
+@EnableJpaRepositories(
+    basePackages = {
+      "com.digicore.omnexa.backoffice",
+      "com.digicore.omnexa.notification.lib.outbox"
+    })
 @EnableConfigurationProperties
 @ConfigurationPropertiesScan({
   "com.digicore.common.lib.properties",
@@ -6,8 +6,13 @@
 
 package com.digicore.omnexa.backoffice.config;
 
+import static com.digicore.omnexa.common.lib.api.ApiVersion.API_V1;
 import static com.digicore.omnexa.common.lib.constant.system.SystemConstant.*;
+import static com.digicore.omnexa.common.lib.swagger.constant.authorization.AuthorizationSwaggerDocConstant.PERMISSION_API;
+import static com.digicore.omnexa.common.lib.swagger.constant.authorization.AuthorizationSwaggerDocConstant.ROLES_API;
 
+import com.digicore.omnexa.backoffice.modules.system.data.model.SystemSeedState;
+import com.digicore.omnexa.backoffice.modules.system.data.repository.SystemSeedStateRepository;
 import com.digicore.omnexa.backoffice.modules.user.authentication.data.model.BackOfficeUserAuthProfile;
 import com.digicore.omnexa.backoffice.modules.user.authentication.data.repository.BackOfficeUserAuthProfileRepository;
 import com.digicore.omnexa.backoffice.modules.user.authorization.data.model.BackOfficeUserPermission;
@@ -20,29 +25,47 @@ import com.digicore.omnexa.common.lib.authorization.contract.AuthorizationReques
 import com.digicore.omnexa.common.lib.authorization.contract.PermissionService;
 import com.digicore.omnexa.common.lib.authorization.dto.request.PermissionCreationDTO;
 import com.digicore.omnexa.common.lib.backgound.startup.StartupService;
+import com.digicore.omnexa.common.lib.cache.GatewayResponseCacheInvalidator;
 import com.digicore.omnexa.common.lib.enums.ProfileStatus;
 import com.digicore.omnexa.common.lib.enums.ProfileVerificationStatus;
 import com.digicore.omnexa.common.lib.security.SecurityPropertyConfig;
 import com.digicore.omnexa.common.lib.util.RequestUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
-import jakarta.transaction.Transactional;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
+ * Seeds the system permissions, roles and users.
+ *
+ * <p>Seeding runs on a background thread once the context is refreshed, so it is off the startup
+ * critical path. The permission file and the role and user definitions are fingerprinted; when the
+ * fingerprint matches the one stored in {@code system_seed_state}, nothing is read or written. When
+ * it differs, each step only writes rows that changed, and a default password is only hashed again
+ * when the stored one no longer matches it.
+ *
  * @author Oluwatobi Ogunwuyi
  * @createdOn Jul-18(Fri)-2025
  */
@@ -50,17 +73,101 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @RequiredArgsConstructor
 @Slf4j
 public class BackOfficeStartUpService implements StartupService {
+  private static final String SEED_NAME = "backoffice-system-data";
+
+  /** Bump when the seeding logic changes in a way the fingerprinted definitions do not show. */
+  private static final String SEED_VERSION = "1";
+
+  private static final String GATEWAY_ROUTE = "/omnexa-backoffice";
+
   private final SecurityPropertyConfig securityPropertyConfig;
   private final PermissionService backOfficeUserPermissionService;
   private final BackOfficeUserRoleRepository backOfficeUserRoleRepository;
   private final BackOfficeUserPermissionRepository backOfficeUserPermissionRepository;
   private final BackOfficeUserProfileRepository backOfficeUserProfileRepository;
   private final BackOfficeUserAuthProfileRepository backOfficeUserAuthProfileRepository;
+  private final SystemSeedStateRepository systemSeedStateRepository;
   private final PasswordEncoder passwordEncoder;
+  private final PlatformTransactionManager transactionManager;
+  private final GatewayResponseCacheInvalidator gatewayResponseCacheInvalidator;
+  private final AtomicBoolean seedingStarted = new AtomicBoolean();
 
-  @Override
   @EventListener(ContextRefreshedEvent.class)
-  @Order(1)
+  public void seedSystemData() {
+    if (!seedingStarted.compareAndSet(false, true)) {
+      return;
+    }
+    Thread seeder = new Thread(this::seedIfChanged, "omnexa-backoffice-seeder");
+    seeder.setDaemon(true);
+    seeder.start();
+  }
+
+  private void seedIfChanged() {
+    long startedAt = System.nanoTime();
+    try {
+      String fingerprint = fingerprint();
+      boolean unchanged =
+          systemSeedStateRepository
+              .findById(SEED_NAME)
+              .map(state -> fingerprint.equals(state.getFingerprint()))
+              .orElse(false);
+      if (unchanged) {
+        log.info("<<< system data unchanged, seeding skipped >>>");
+        return;
+      }
+
+      TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+      transactionTemplate.executeWithoutResult(status -> updateSystemPermissions());
+      transactionTemplate.executeWithoutResult(status -> updateSystemRoles());
+      transactionTemplate.executeWithoutResult(status -> updateSystemUsers());
+
+      SystemSeedState state = new SystemSeedState();
+      state.setSeedName(SEED_NAME);
+      state.setFingerprint(fingerprint);
+      state.setSeededAt(LocalDateTime.now());
+      systemSeedStateRepository.save(state);
+      gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROUTE + API_V1 + PERMISSION_API);
+      gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROUTE + API_V1 + ROLES_API);
+      log.info(
+          "<<< system data seeded in {} ms >>>",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    } catch (Exception e) {
+      log.error("<<< could not seed system data, it will be retried on the next start >>>", e);
+    }
+  }
+
+  /** SHA-256 over everything the seed steps write. */
+  private String fingerprint() {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+    try {
+      digest.update(
+          Files.readAllBytes(getSystemFile(securityPropertyConfig.getSystemDefinedPermissions())));
+    } catch (IOException | RuntimeException ignored) {
+      log.trace("<<< no system permission file >>>");
+    }
+    Stream.of(
+            SEED_VERSION,
+            SYSTEM_INITIATOR_ROLE_NAME,
+            SYSTEM_INITIATOR_ROLE_DESCRIPTION,
+            SYSTEM_AUTHORIZER_ROLE_NAME,
+            SYSTEM_AUTHORIZER_ROLE_DESCRIPTION,
+            VIEW_PERMISSION_PREFIX,
+            APPROVE_PERMISSION_PREFIX,
+            SYSTEM_TREAT_REQUEST_PERMISSION,
+            SYSTEM_INITIATOR_EMAIL_NAME,
+            SYSTEM_INITIATOR_DEFAULT_PASSWORD,
+            SYSTEM_AUTHORIZER_EMAIL_NAME,
+            SYSTEM_AUTHORIZER_DEFAULT_PASSWORD)
+        .forEach(value -> digest.update(("\0" + value).getBytes(StandardCharsets.UTF_8)));
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  @Override
   public void updateSystemPermissions() {
     File file = getSystemFile(securityPropertyConfig.getSystemDefinedPermissions());
     Set<PermissionCreationDTO> newAuthorities;
@@ -75,30 +182,20 @@ public class BackOfficeStartUpService implements StartupService {
   }
 
   @Override
-  @EventListener(ContextRefreshedEvent.class)
-  @Order(2)
   public void updateSystemRoles() {
     Permissions permissions = getPermissions();
 
-    BackOfficeUserRole initiatorRole =
-        buildRole(
-            SYSTEM_INITIATOR_ROLE_NAME,
-            SYSTEM_INITIATOR_ROLE_DESCRIPTION,
-            permissions.makerPermissions());
-
-    BackOfficeUserRole authorizerRole =
-        buildRole(
-            SYSTEM_AUTHORIZER_ROLE_NAME,
-            SYSTEM_AUTHORIZER_ROLE_DESCRIPTION,
-            permissions.checkerPermissions());
-
-    backOfficeUserRoleRepository.saveAll(List.of(initiatorRole, authorizerRole));
+    updateRole(
+        SYSTEM_INITIATOR_ROLE_NAME,
+        SYSTEM_INITIATOR_ROLE_DESCRIPTION,
+        permissions.makerPermissions());
+    updateRole(
+        SYSTEM_AUTHORIZER_ROLE_NAME,
+        SYSTEM_AUTHORIZER_ROLE_DESCRIPTION,
+        permissions.checkerPermissions());
   }
 
   @Override
-  @EventListener(ContextRefreshedEvent.class)
-  @Order(3)
-  @Transactional(rollbackOn = Exception.class)
   public void updateSystemUsers() {
     BackOfficeUserProfile initiatorProfile =
         buildUserProfile(
@@ -117,19 +214,29 @@ public class BackOfficeStartUpService implements StartupService {
     return path.toFile();
   }
 
-  private BackOfficeUserRole buildRole(
+  private void updateRole(
       String name, String description, Set<BackOfficeUserPermission> permissions) {
     BackOfficeUserRole role =
         backOfficeUserRoleRepository.findFirstByName(name).orElse(new BackOfficeUserRole());
 
+    boolean unchanged =
+        role.getId() != null
+            && role.isActive()
+            && description.equals(role.getDescription())
+            && permissionNames(role.getPermissions()).equals(permissionNames(permissions));
+    if (unchanged) {
+      return;
+    }
+
     role.setActive(true);
     role.setName(name);
     role.setDescription(description);
-    if (role.getId() == null) backOfficeUserRoleRepository.save(role);
-
     role.setPermissions(new HashSet<>(permissions));
+    backOfficeUserRoleRepository.save(role);
+  }
 
-    return role;
+  private static Set<String> permissionNames(Set<BackOfficeUserPermission> permissions) {
+    return permissions.stream().map(BackOfficeUserPermission::getName).collect(Collectors.toSet());
   }
 
   private BackOfficeUserProfile buildUserProfile(
@@ -137,6 +244,17 @@ public class BackOfficeStartUpService implements StartupService {
     BackOfficeUserProfile profile =
         backOfficeUserProfileRepository.findFirstByEmail(email).orElse(new BackOfficeUserProfile());
 
+    boolean unchanged =
+        profile.getId() != null
+            && firstName.equals(profile.getFirstName())
+            && lastName.equals(profile.getLastName())
+            && ProfileStatus.ACTIVE.equals(profile.getProfileStatus())
+            && ProfileVerificationStatus.VERIFIED.equals(profile.getProfileVerificationStatus())
+            && role.equals(profile.getRole());
+    if (unchanged) {
+      return profile;
+    }
+
     profile.setEmail(email);
     profile.setFirstName(firstName);
     profile.setLastName(lastName);
@@ -153,8 +271,16 @@ public class BackOfficeStartUpService implements StartupService {
             .findFirstByUsername(backOfficeUserProfile.getEmail())
             .orElse(new BackOfficeUserAuthProfile());
 
+    boolean passwordMatches =
+        profile.getPassword() != null && passwordEncoder.matches(password, profile.getPassword());
+    if (profile.getId() != null && passwordMatches) {
+      return;
+    }
+
     profile.setUsername(backOfficeUserProfile.getEmail());
-    profile.setPassword(passwordEncoder.encode(password));
+    if (!passwordMatches) {
+      profile.setPassword(passwordEncoder.encode(password));
+    }
     profile.setBackOfficeUserProfile(backOfficeUserProfile);
 
     backOfficeUserAuthProfileRepository.save(profile);
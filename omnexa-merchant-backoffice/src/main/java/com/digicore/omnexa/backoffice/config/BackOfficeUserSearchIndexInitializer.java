@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.backoffice.config;
+
+import java.sql.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the search key behind back office user search, which {@code ddl-auto} cannot declare.
+ *
+ * <p>{@code search_key} is a stored generated column holding the lower-cased first name, last name
+ * and email, so MySQL keeps it current on every write, including bulk JPQL updates. An ngram
+ * full-text index on it lets {@code BackOfficeUserProfileRepository#findUsersBySearchPaginated}
+ * answer prefix, substring and multi-word searches without scanning {@code
+ * backoffice_user_profile}.
+ *
+ * <p>The index is created with InnoDB stopwords disabled on the creating session. The ngram parser
+ * drops every token that contains a stopword, so with the default list most two-letter sequences
+ * containing "a" or "i" would never match. Search depends on the key and the index, so startup
+ * fails if either cannot be created.
+ *
+ * @author Onyekachi Ejemba
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+@Profile({"dev", "pilot", "prod"})
+@RequiredArgsConstructor
+public class BackOfficeUserSearchIndexInitializer {
+  static final String SEARCH_KEY_COLUMN = "search_key";
+  static final String SEARCH_INDEX_NAME = "ftx_backoffice_user_search";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ContextRefreshedEvent.class)
+  public void createSearchIndex() {
+    if (!exists("information_schema.columns", "column_name", SEARCH_KEY_COLUMN)) {
+      log.info("<<< adding back office user search key >>>");
+      alter(
+          "information_schema.columns",
+          "column_name",
+          SEARCH_KEY_COLUMN,
+          "ALTER TABLE backoffice_user_profile ADD COLUMN "
+              + SEARCH_KEY_COLUMN
+              + " VARCHAR(768) GENERATED ALWAYS AS"
+              + " (LOWER(CONCAT_WS(' ', first_name, last_name, email))) STORED");
+    }
+    if (!exists("information_schema.statistics", "index_name", SEARCH_INDEX_NAME)) {
+      log.info("<<< creating back office user search index {} >>>", SEARCH_INDEX_NAME);
+      alter(
+          "information_schema.statistics",
+          "index_name",
+          SEARCH_INDEX_NAME,
+          "ALTER TABLE backoffice_user_profile ADD FULLTEXT INDEX "
+              + SEARCH_INDEX_NAME
+              + " ("
+              + SEARCH_KEY_COLUMN
+              + ") WITH PARSER ngram");
+    }
+  }
+
+  /**
+   * Runs {@code ddl} with stopwords disabled on its session. Fails unless the object exists
+   * afterwards, which it may also do because another instance created it in the meantime.
+   */
+  private void alter(String catalog, String nameColumn, String name, String ddl) {
+    try {
+      jdbcTemplate.execute(
+          (ConnectionCallback<Void>)
+              connection -> {
+                try (Statement statement = connection.createStatement()) {
+                  statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                  try {
+                    statement.execute(ddl);
+                  } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                  }
+                }
+                return null;
+              });
+    } catch (DataAccessException e) {
+      if (!exists(catalog, nameColumn, name)) {
+        throw new IllegalStateException("could not create back office user search " + name, e);
+      }
+    }
+  }
+
+  private boolean exists(String catalog, String nameColumn, String name) {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM "
+                + catalog
+                + " WHERE table_schema = DATABASE()"
+                + " AND table_name = 'backoffice_user_profile' AND "
+                + nameColumn
+                + " = ?",
+            Integer.class,
+            name);
+    return count != null && count > 0;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.backoffice.modules.system.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Fingerprint of the system data last seeded at startup, so unchanged definitions are not seeded
+ * again.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Entity
+@Table(name = "system_seed_state")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SystemSeedState implements Serializable {
+
+  @Id
+  @Column(length = 64)
+  private String seedName;
+
+  @Column(nullable = false, length = 64)
+  private String fingerprint;
+
+  @Column(nullable = false)
+  private LocalDateTime seededAt;
+}
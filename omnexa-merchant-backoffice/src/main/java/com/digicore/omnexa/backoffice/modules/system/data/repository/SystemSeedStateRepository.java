@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.backoffice.modules.system.data.repository;
+
+import com.digicore.omnexa.backoffice.modules.system.data.model.SystemSeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+public interface SystemSeedStateRepository extends JpaRepository<SystemSeedState, String> {}
@@ -6,8 +6,10 @@
 
 package com.digicore.omnexa.backoffice.modules.user.authorization.service;
 
+import static com.digicore.omnexa.common.lib.api.ApiVersion.API_V1;
 import static com.digicore.omnexa.common.lib.constant.message.MessageConstant.NOT_FOUND;
 import static com.digicore.omnexa.common.lib.constant.system.SystemConstant.SYSTEM_DEFAULT_NOT_FOUND_ERROR;
+import static com.digicore.omnexa.common.lib.swagger.constant.authorization.AuthorizationSwaggerDocConstant.ROLES_API;
 
 import com.digicore.omnexa.backoffice.modules.user.authorization.data.model.BackOfficeUserPermission;
 import com.digicore.omnexa.backoffice.modules.user.authorization.data.model.BackOfficeUserRole;
@@ -17,6 +19,7 @@ import com.digicore.omnexa.common.lib.authorization.contract.AuthorizationReques
 import com.digicore.omnexa.common.lib.authorization.contract.AuthorizationResponse;
 import com.digicore.omnexa.common.lib.authorization.contract.RoleService;
 import com.digicore.omnexa.common.lib.authorization.dto.request.RoleCreationDTO;
+import com.digicore.omnexa.common.lib.cache.GatewayResponseCacheInvalidator;
 import com.digicore.omnexa.common.lib.exception.OmnexaException;
 import com.digicore.omnexa.common.lib.util.BeanUtilWrapper;
 import com.digicore.omnexa.common.lib.util.PagenationUtil;
@@ -47,7 +50,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class BackOfficeUserRoleService implements RoleService {
 
+  private static final String GATEWAY_ROLES_PATH = "/omnexa-backoffice" + API_V1 + ROLES_API;
+
   private final AuthorizationHelper authorizationHelper;
+  private final GatewayResponseCacheInvalidator gatewayResponseCacheInvalidator;
 
   /**
    * Creates a new role with comprehensive validation.
@@ -73,6 +79,7 @@ public class BackOfficeUserRoleService implements RoleService {
         authorizationHelper.retrieveSelectedPermissions(roleCreationDTO.getPermissions()));
 
     authorizationHelper.getBackOfficeUserRoleRepository().save(newRole);
+    gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROLES_PATH);
   }
 
   /**
@@ -123,6 +130,7 @@ public class BackOfficeUserRoleService implements RoleService {
     }
 
     authorizationHelper.getBackOfficeUserRoleRepository().save(existingRole);
+    gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROLES_PATH);
   }
 
   /**
@@ -142,6 +150,7 @@ public class BackOfficeUserRoleService implements RoleService {
     // Activate the role
     role.setActive(true);
     authorizationHelper.getBackOfficeUserRoleRepository().save(role);
+    gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROLES_PATH);
   }
 
   /**
@@ -161,6 +170,7 @@ public class BackOfficeUserRoleService implements RoleService {
     // Deactivate the role
     role.setActive(false);
     authorizationHelper.getBackOfficeUserRoleRepository().save(role);
+    gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROLES_PATH);
 
     log.info("Successfully deactivated role: {}", role.getName());
   }
@@ -177,6 +187,7 @@ public class BackOfficeUserRoleService implements RoleService {
     role.setDeleted(true);
     role.setActive(false);
     authorizationHelper.getBackOfficeUserRoleRepository().delete(role);
+    gatewayResponseCacheInvalidator.invalidate(GATEWAY_ROLES_PATH);
   }
 
   /**
@@ -13,6 +13,7 @@ import com.digicore.omnexa.common.lib.onboarding.dto.response.UserInviteResponse
 import com.digicore.omnexa.common.lib.profile.contract.ProfileService;
 import com.digicore.omnexa.notification.lib.contract.NotificationRequestType;
 import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.outbox.NotificationSender;
 import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +35,7 @@ import org.springframework.stereotype.Component;
 public class BackOfficeUserInvitationFacade implements Facade<OnboardingRequest, Void> {
   private final ProfileService backOfficeUserProfileService;
   private final PluggableEmailService pluggableEmailService;
+  private final NotificationSender notificationSender;
   public static final String INVITATION_LINK = "invitationLink";
   public static final String SEND_VERIFICATION_EMAIL_TEMPLATE = "SEND_VERIFICATION_EMAIL";
   public static final String FIRST_NAME = "firstName";
@@ -42,10 +44,8 @@ public class BackOfficeUserInvitationFacade implements Facade<OnboardingRequest,
   @Override
   public Optional<Void> process(OnboardingRequest request) {
     OnboardingResponse onboardingResponse = backOfficeUserProfileService.createProfile(request);
-    pluggableEmailService
-        .getEngine(pluggableEmailService.getNotificationPropConfig().getEmailChannelType())
-        .sendEmailAsync(
-            buildBackOfficeOnboardVerificationMail(castToUserInviteResponse(onboardingResponse)));
+    notificationSender.sendEmail(
+        buildBackOfficeOnboardVerificationMail(castToUserInviteResponse(onboardingResponse)));
     return Optional.empty();
   }
 
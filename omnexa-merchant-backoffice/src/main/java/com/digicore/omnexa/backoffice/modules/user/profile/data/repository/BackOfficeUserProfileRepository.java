@@ -13,8 +13,18 @@ import com.digicore.omnexa.backoffice.modules.user.profile.dto.response.BackOffi
 import com.digicore.omnexa.common.lib.enums.ProfileStatus;
 import com.digicore.omnexa.common.lib.enums.ProfileVerificationStatus;
 import jakarta.transaction.Transactional;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -134,45 +144,108 @@ public interface BackOfficeUserProfileRepository
       @Param("profileId") String profileId);
 
   /**
-   * Retrieves a paginated list of back office users based on search and filter criteria.
+   * Retrieves a paginated list of all back office users without any filters.
    *
-   * @param search the search term to filter users by name or email (optional)
-   * @param profileStatus the profile status to filter users by (optional)
    * @param pageable the pagination information
-   * @return a {@link Page} containing the list of {@link BackOfficeUserProfileDTO} matching the
-   *     criteria
+   * @return a {@link Page} containing the list of {@link BackOfficeUserProfileDTO}
    */
   @Query(
       "SELECT new "
           + BACKOFFICE_USER_PROFILE_DTO
-          + "(b.profileId, b.profileStatus, b.profileVerificationStatus, b.email, b.firstName, b.lastName, b.createdDate) "
-          + "FROM BackOfficeUserProfile b WHERE "
-          + "(:search IS NULL OR :search = '' OR "
-          + "LOWER(CONCAT(COALESCE(b.firstName, ''), ' ', COALESCE(b.lastName, ''))) LIKE LOWER(CONCAT('%', :search, '%')) OR "
-          + "LOWER(b.email) LIKE LOWER(CONCAT('%', :search, '%'))) AND "
-          + "(:profileStatus IS NULL OR b.profileStatus = :profileStatus) "
+          + "(b.email, b.firstName, b.lastName, b.profileId, b.role, b.profileStatus, b.profileVerificationStatus, b.createdDate) "
+          + "FROM BackOfficeUserProfile b "
           + "ORDER BY b.createdDate DESC")
-  Page<BackOfficeUserProfileDTO> findAllUsersPaginated(
-      @Param("search") String search,
-      @Param("profileStatus") ProfileStatus profileStatus,
-      Pageable pageable);
+  Page<BackOfficeUserProfileDTO> findAllUsersPaginated(Pageable pageable);
 
   /**
-   * Retrieves a paginated list of all back office users without any filters.
+   * Shortest search word the full-text index can answer; MySQL's ngram parser indexes tokens of
+   * {@code ngram_token_size} (2 by default) characters.
+   */
+  int MIN_FULL_TEXT_SEARCH_WORD_LENGTH = 2;
+
+  /**
+   * Retrieves a paginated list of back office users filtered by search term.
+   *
+   * <p>Every word of the search term must appear, as a prefix or substring, in the user's first
+   * name, last name or email. Words are looked up in the ngram full-text index on the {@code
+   * search_key} column, so the search does not scan the table. Users whose search key starts with
+   * the first word come first, then the rest by relevance. Words shorter than {@link
+   * #MIN_FULL_TEXT_SEARCH_WORD_LENGTH} are not indexed and are ignored, unless no word is long
+   * enough, in which case the search falls back to a table scan.
+   *
+   * <p>The order is fixed by relevance, so the sort of {@code pageable} is ignored; Spring Data
+   * would otherwise append it to the native query, whose columns do not match the entity fields.
    *
+   * @param search the search term to filter users by name or email (required)
    * @param pageable the pagination information
-   * @return a {@link Page} containing the list of {@link BackOfficeUserProfileDTO}
+   * @return a {@link Page} containing the list of {@link BackOfficeUserProfileDTO} matching the
+   *     search criteria
+   */
+  default Page<BackOfficeUserProfileDTO> findUsersBySearchPaginated(
+      String search, Pageable pageable) {
+    Pageable unsorted =
+        pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            : Pageable.unpaged();
+    List<String> words =
+        Arrays.stream(search.toLowerCase(Locale.ROOT).replace("\"", " ").trim().split("\\s+"))
+            .filter(word -> word.length() >= MIN_FULL_TEXT_SEARCH_WORD_LENGTH)
+            .toList();
+    if (words.isEmpty()) {
+      return scanUsersBySearchPaginated(search, unsorted);
+    }
+
+    String phrases =
+        words.stream().map(word -> "+\"" + word + "\"").collect(Collectors.joining(" "));
+    Page<String> profileIds = searchProfileIds(phrases, words.get(0), unsorted);
+    if (profileIds.isEmpty()) {
+      return profileIds.map(profileId -> null);
+    }
+    Map<String, BackOfficeUserProfileDTO> users =
+        findUsersByProfileIds(profileIds.getContent()).stream()
+            .collect(
+                Collectors.toMap(BackOfficeUserProfileDTO::getProfileId, Function.identity()));
+    // a user deleted between the two queries is dropped from the page rather than returned as null
+    return new PageImpl<>(
+        profileIds.getContent().stream().map(users::get).filter(Objects::nonNull).toList(),
+        profileIds.getPageable(),
+        profileIds.getTotalElements());
+  }
+
+  /**
+   * Returns the profile IDs of users whose search key contains every phrase, ranked for {@link
+   * #findUsersBySearchPaginated(String, Pageable)}. Backed by {@code ftx_backoffice_user_search}.
    */
+  @Query(
+      value =
+          """
+          SELECT b.profile_id FROM backoffice_user_profile b
+          WHERE MATCH(b.search_key) AGAINST (:phrases IN BOOLEAN MODE)
+          ORDER BY
+              b.search_key LIKE CONCAT(:prefix, '%') DESC,
+              MATCH(b.search_key) AGAINST (:phrases IN BOOLEAN MODE) DESC,
+              b.created_date DESC
+          """,
+      countQuery =
+          """
+          SELECT COUNT(*) FROM backoffice_user_profile b
+          WHERE MATCH(b.search_key) AGAINST (:phrases IN BOOLEAN MODE)
+          """,
+      nativeQuery = true)
+  Page<String> searchProfileIds(
+      @Param("phrases") String phrases, @Param("prefix") String prefix, Pageable pageable);
+
   @Query(
       "SELECT new "
           + BACKOFFICE_USER_PROFILE_DTO
-          + "(b.email, b.firstName, b.lastName, b.profileId, b.role, b.profileStatus, b.profileVerificationStatus, b.createdDate) "
-          + "FROM BackOfficeUserProfile b "
-          + "ORDER BY b.createdDate DESC")
-  Page<BackOfficeUserProfileDTO> findAllUsersPaginated(Pageable pageable);
+          + "(b.profileId, b.profileStatus, b.profileVerificationStatus, b.email, b.firstName, b.lastName, b.createdDate) "
+          + "FROM BackOfficeUserProfile b WHERE b.profileId IN :profileIds")
+  List<BackOfficeUserProfileDTO> findUsersByProfileIds(
+      @Param("profileIds") Collection<String> profileIds);
 
   /**
-   * Retrieves a paginated list of back office users filtered by search term.
+   * Matches the search term anywhere in name or email with a table scan. Only used for terms too
+   * short for the full-text index.
    *
    * @param search the search term to filter users by name or email (required)
    * @param pageable the pagination information
@@ -187,7 +260,7 @@ public interface BackOfficeUserProfileRepository
           + "LOWER(CONCAT(COALESCE(b.firstName, ''), ' ', COALESCE(b.lastName, ''))) LIKE LOWER(CONCAT('%', :search, '%')) OR "
           + "LOWER(b.email) LIKE LOWER(CONCAT('%', :search, '%')) "
           + "ORDER BY b.createdDate DESC")
-  Page<BackOfficeUserProfileDTO> findUsersBySearchPaginated(
+  Page<BackOfficeUserProfileDTO> scanUsersBySearchPaginated(
       @Param("search") String search, Pageable pageable);
 
   /**
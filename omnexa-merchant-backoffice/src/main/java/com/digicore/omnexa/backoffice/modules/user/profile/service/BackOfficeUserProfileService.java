@@ -42,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -255,9 +256,10 @@ public class BackOfficeUserProfileService implements ProfileService {
 
     PagenationUtil.ValidationResult validationResult =
         PagenationUtil.getValidatedPaginationParameters(pageNumber, pageSize);
+    // unsorted: search results are ordered by relevance
     Pageable pageable =
-        PagenationUtil.createPageable(
-            validationResult.validatedPageNumber(), validationResult.validatedPageSize());
+        PageRequest.of(
+            validationResult.validatedPageNumber() - 1, validationResult.validatedPageSize());
 
     Page<BackOfficeUserProfileDTO> userPage =
         backOfficeUserProfileRepository.findUsersBySearchPaginated(trimmedSearch, pageable);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.backoffice.modules.user.profile.data.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.digicore.omnexa.backoffice.config.BackOfficeUserSearchIndexInitializer;
+import com.digicore.omnexa.backoffice.modules.user.profile.data.model.BackOfficeUserProfile;
+import com.digicore.omnexa.backoffice.modules.user.profile.dto.response.BackOfficeUserProfileDTO;
+import com.digicore.omnexa.backoffice.modules.user.profile.service.BackOfficeUserProfileService;
+import com.digicore.omnexa.common.lib.profile.dto.response.ProfileInfoResponse;
+import com.digicore.omnexa.common.lib.properties.MessagePropertyConfig;
+import com.digicore.omnexa.common.lib.util.PagenationUtil;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tests back office user search against MySQL, with the search key and ngram index created by
+ * {@link BackOfficeUserSearchIndexInitializer}.
+ *
+ * <p>InnoDB full-text indexes only see committed rows, so the tests run outside a transaction and
+ * clear the table afterwards.
+ *
+ * @author Onyekachi Ejemba
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(
+    properties = {
+      // skip application.yml, which imports the configuration from the config server
+      "spring.config.name=backoffice-user-search-test",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BackOfficeUserProfileRepositorySearchTest {
+
+  @Container
+  @ServiceConnection
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired
+  private BackOfficeUserProfileRepository backOfficeUserProfileRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    new BackOfficeUserSearchIndexInitializer(jdbcTemplate).createSearchIndex();
+    saveUser("B000001", "Jane", "Adeyemi", "jane.adeyemi@digicoreltds.com");
+    saveUser("B000002", "Janet", "Okafor", "janet.okafor@digicoreltds.com");
+    saveUser("B000003", "Tunde", "Bello", "tunde@example.org");
+    saveUser("B000004", "Bisi", "Tunde", "bisi@digicoreltds.com");
+  }
+
+  @AfterEach
+  void tearDown() {
+    backOfficeUserProfileRepository.deleteAll();
+  }
+
+  @Test
+  void prefixMatchesComeFirst() {
+    assertEquals(List.of("B000003", "B000004"), search("tunde"));
+  }
+
+  @Test
+  void substringsMatch() {
+    assertEquals(Set.of("B000001", "B000002"), Set.copyOf(search("jane")));
+  }
+
+  @Test
+  void substringsContainingStopwordsMatch() {
+    assertEquals(List.of("B000001"), search("deyem"));
+    assertEquals(List.of("B000003"), search("ell"));
+  }
+
+  @Test
+  void everyWordMustMatch() {
+    assertEquals(List.of("B000001"), search("Jane ade"));
+    assertEquals(List.of("B000002"), search("oka jan"));
+  }
+
+  @Test
+  void emailIsSearched() {
+    assertEquals(List.of("B000003"), search("example"));
+  }
+
+  @Test
+  void termsTooShortForTheIndexAreScanned() {
+    assertEquals(Set.of("B000003", "B000004"), Set.copyOf(search("b")));
+  }
+
+  @Test
+  void sortedPageablesAreAccepted() {
+    assertEquals(
+        List.of("B000003", "B000004"),
+        backOfficeUserProfileRepository
+            .findUsersBySearchPaginated("tunde", PagenationUtil.createPageable(1, 10))
+            .map(BackOfficeUserProfileDTO::getProfileId)
+            .getContent());
+    assertEquals(
+        2,
+        backOfficeUserProfileRepository
+            .findUsersBySearchPaginated("b", PagenationUtil.createPageable(1, 10))
+            .getTotalElements());
+  }
+
+  @Test
+  void serviceSearchReturnsRankedUsers() {
+    BackOfficeUserProfileService backOfficeUserProfileService =
+        new BackOfficeUserProfileService(
+            backOfficeUserProfileRepository, mock(MessagePropertyConfig.class));
+
+    List<ProfileInfoResponse> users =
+        backOfficeUserProfileService.searchProfilesPaginated("tunde", 1, 10).getContent();
+
+    assertEquals(
+        List.of("B000003", "B000004"),
+        users.stream().map(user -> ((BackOfficeUserProfileDTO) user).getProfileId()).toList());
+  }
+
+  private List<String> search(String term) {
+    return backOfficeUserProfileRepository
+        .findUsersBySearchPaginated(term, PageRequest.of(0, 10))
+        .map(BackOfficeUserProfileDTO::getProfileId)
+        .getContent();
+  }
+
+  private void saveUser(String profileId, String firstName, String lastName, String email) {
+    BackOfficeUserProfile user = new BackOfficeUserProfile();
+    user.setProfileId(profileId);
+    user.setFirstName(firstName);
+    user.setLastName(lastName);
+    user.setEmail(email);
+    backOfficeUserProfileRepository.save(user);
+  }
+
+  @Configuration
+  @EntityScan(basePackageClasses = BackOfficeUserProfile.class)
+  @EnableJpaRepositories(basePackageClasses = BackOfficeUserProfileRepository.class)
+  static class JpaConfiguration {}
+}
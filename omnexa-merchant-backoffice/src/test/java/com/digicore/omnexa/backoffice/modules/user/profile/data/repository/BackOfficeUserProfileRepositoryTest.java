@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.backoffice.modules.user.profile.data.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.backoffice.modules.user.profile.dto.response.BackOfficeUserProfileDTO;
+import com.digicore.omnexa.common.lib.enums.ProfileStatus;
+import com.digicore.omnexa.common.lib.enums.ProfileVerificationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for the default methods of the BackOfficeUserProfileRepository interface.
+ *
+ * @author Onyekachi Ejemba
+ * @createdOn Oct-19(Mon)-2026
+ */
+class BackOfficeUserProfileRepositoryTest {
+
+  @Test
+  void usersDeletedBetweenTheQueriesAreLeftOutOfThePage() {
+    BackOfficeUserProfileRepository repository =
+        mock(BackOfficeUserProfileRepository.class, CALLS_REAL_METHODS);
+    PageRequest pageable = PageRequest.of(0, 10);
+    doReturn(new PageImpl<>(List.of("B000001", "B000002"), pageable, 2))
+        .when(repository)
+        .searchProfileIds(anyString(), anyString(), eq(pageable));
+    doReturn(List.of(user("B000002")))
+        .when(repository)
+        .findUsersByProfileIds(List.of("B000001", "B000002"));
+
+    Page<BackOfficeUserProfileDTO> users =
+        repository.findUsersBySearchPaginated("janet", pageable);
+
+    assertEquals(
+        List.of("B000002"), users.map(BackOfficeUserProfileDTO::getProfileId).getContent());
+    assertEquals(2, users.getTotalElements());
+  }
+
+  @Test
+  void theSortOfThePageableIsNotPassedToTheNativeQuery() {
+    BackOfficeUserProfileRepository repository =
+        mock(BackOfficeUserProfileRepository.class, CALLS_REAL_METHODS);
+    doReturn(Page.empty()).when(repository).searchProfileIds(anyString(), anyString(), any());
+
+    repository.findUsersBySearchPaginated(
+        "janet", PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdDate")));
+
+    verify(repository).searchProfileIds(anyString(), anyString(), eq(PageRequest.of(1, 10)));
+  }
+
+  private static BackOfficeUserProfileDTO user(String profileId) {
+    return new BackOfficeUserProfileDTO(
+        profileId,
+        ProfileStatus.ACTIVE,
+        ProfileVerificationStatus.VERIFIED,
+        "janet.okafor@digicoreltds.com",
+        "Janet",
+        "Okafor",
+        LocalDateTime.now());
+  }
+}
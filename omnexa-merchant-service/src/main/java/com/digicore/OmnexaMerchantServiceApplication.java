@@ -6,6 +6,7 @@
 
 package com.digicore;
 
+import com.digicore.omnexa.common.lib.util.StartupTimelineReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -42,6 +43,8 @@ public class OmnexaMerchantServiceApplication {
    * @param args command-line arguments passed to the application.
    */
   public static void main(String[] args) {
-    SpringApplication.run(OmnexaMerchantServiceApplication.class, args);
+    SpringApplication application = new SpringApplication(OmnexaMerchantServiceApplication.class);
+    StartupTimelineReporter.register(application);
+    application.run(args);
   }
 }
@@ -22,8 +22,12 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @Profile({"dev", "pilot", "prod"})
 @Configuration
 @ComponentScan({"com.digicore.omnexa.merchant.modules"})
-@EntityScan({"com.digicore.omnexa.merchant.modules"})
-@EnableJpaRepositories(basePackages = {"com.digicore.omnexa.merchant.modules"})
+@EntityScan({"com.digicore.omnexa.merchant.modules", "com.digicore.omnexa.notification.lib.outbox"})
+@EnableJpaRepositories(
+    basePackages = {
+      "com.digicore.omnexa.merchant.modules",
+      "com.digicore.omnexa.notification.lib.outbox"
+    })
 @RequiredArgsConstructor
 @EnableJpaAuditing
 public class DataSourceConfig {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.config;
+
+import static com.digicore.omnexa.merchant.modules.profile.service.MerchantKycProfileDocumentUploadService.normalizeDocumentType;
+import static com.digicore.omnexa.merchant.modules.profile.service.MerchantKycProfileDocumentUploadService.normalizeIdentifier;
+
+import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
+import com.digicore.omnexa.common.lib.util.RequestUtil;
+import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycDocument;
+import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycProfileDocument;
+import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantKycDocumentRepository;
+import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantKycProfileDocumentRepository;
+import com.google.gson.reflect.TypeToken;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves KYC documents from the legacy JSON column on {@code merchant_kyc_document} into one {@code
+ * merchant_kyc_profile_document} row per document.
+ *
+ * <p>Each legacy row is migrated in its own transaction and its JSON column is cleared afterwards,
+ * so the migration is resumable and is a no-op once every row has been moved. Documents that
+ * already have a row are left untouched.
+ *
+ * @author Hossana Chukwunyere
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+@SuppressWarnings("deprecation")
+public class MerchantKycDocumentMigration {
+  private final MerchantKycDocumentRepository merchantKycDocumentRepository;
+  private final MerchantKycProfileDocumentRepository merchantKycProfileDocumentRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  public MerchantKycDocumentMigration(
+      MerchantKycDocumentRepository merchantKycDocumentRepository,
+      MerchantKycProfileDocumentRepository merchantKycProfileDocumentRepository,
+      PlatformTransactionManager transactionManager) {
+    this.merchantKycDocumentRepository = merchantKycDocumentRepository;
+    this.merchantKycProfileDocumentRepository = merchantKycProfileDocumentRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateLegacyDocuments() {
+    long lastId = 0;
+    int migrated = 0;
+    List<MerchantKycDocument> batch;
+    do {
+      batch =
+          merchantKycDocumentRepository
+              .findTop100ByIdGreaterThanAndKycDocumentIsNotNullOrderByIdAsc(lastId);
+      for (MerchantKycDocument legacyDocument : batch) {
+        lastId = legacyDocument.getId();
+        try {
+          transactionTemplate.executeWithoutResult(status -> migrate(legacyDocument));
+          migrated++;
+        } catch (Exception e) {
+          log.error("<<< could not migrate kyc documents of row {} >>>", legacyDocument.getId(), e);
+        }
+      }
+    } while (!batch.isEmpty());
+
+    if (migrated > 0) {
+      log.info("<<< migrated kyc documents of {} merchant(s) >>>", migrated);
+    }
+  }
+
+  private void migrate(MerchantKycDocument legacyDocument) {
+    List<FileUploadedDTO> files =
+        RequestUtil.getGsonMapper()
+            .fromJson(
+                legacyDocument.getKycDocument(),
+                new TypeToken<List<FileUploadedDTO>>() {}.getType());
+    Long merchantProfileId = legacyDocument.getMerchantProfile().getId();
+
+    for (FileUploadedDTO file : files == null ? List.<FileUploadedDTO>of() : files) {
+      String documentType = normalizeDocumentType(file.getDocumentType());
+      String identifier = normalizeIdentifier(file.getIdentifier());
+      if (documentType == null
+          || merchantKycProfileDocumentRepository
+              .existsByMerchantProfileIdAndDocumentTypeIgnoreCaseAndIdentifierIgnoreCase(
+                  merchantProfileId, documentType, identifier)) {
+        continue;
+      }
+      MerchantKycProfileDocument document = new MerchantKycProfileDocument();
+      document.setMerchantProfile(legacyDocument.getMerchantProfile());
+      document.setDocumentType(documentType);
+      document.setIdentifier(identifier);
+      document.setFileId(file.getFileId());
+      document.setFilePath(file.getFilePath());
+      merchantKycProfileDocumentRepository.save(document);
+    }
+
+    legacyDocument.setKycDocument(null);
+    merchantKycDocumentRepository.save(legacyDocument);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.config;
+
+import java.sql.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the ngram full-text index behind merchant profile search, which {@code ddl-auto} cannot
+ * declare. The index splits business name and business email into short character sequences, so
+ * {@code MerchantProfileRepository#searchMerchantProfileInfo} can answer substring searches from
+ * the index instead of scanning {@code merchant_profile}.
+ *
+ * <p>The index is created with InnoDB stopwords disabled on the creating session. The ngram parser
+ * drops every token that contains a stopword, so with the default list most two-letter sequences
+ * containing "a" or "i" would never match. Search depends on the index, so startup fails if it
+ * cannot be created.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+@Profile({"dev", "pilot", "prod"})
+@RequiredArgsConstructor
+public class MerchantProfileSearchIndexInitializer {
+  static final String SEARCH_INDEX_NAME = "ftx_merchant_profile_search";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @EventListener(ContextRefreshedEvent.class)
+  public void createSearchIndex() {
+    if (searchIndexExists()) {
+      return;
+    }
+    log.info("<<< creating merchant profile search index {} >>>", SEARCH_INDEX_NAME);
+    try {
+      jdbcTemplate.execute(
+          (ConnectionCallback<Void>)
+              connection -> {
+                try (Statement statement = connection.createStatement()) {
+                  statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                  try {
+                    statement.execute(
+                        "ALTER TABLE merchant_profile ADD FULLTEXT INDEX "
+                            + SEARCH_INDEX_NAME
+                            + " (business_name, business_email) WITH PARSER ngram");
+                  } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                  }
+                }
+                return null;
+              });
+    } catch (DataAccessException e) {
+      // another instance may have created the index in the meantime
+      if (!searchIndexExists()) {
+        throw new IllegalStateException(
+            "could not create merchant profile search index " + SEARCH_INDEX_NAME, e);
+      }
+    }
+  }
+
+  private boolean searchIndexExists() {
+    Integer existing =
+        jdbcTemplate.queryForObject(
+            """
+            SELECT COUNT(*) FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'merchant_profile'
+              AND index_name = ?
+            """,
+            Integer.class,
+            SEARCH_INDEX_NAME);
+    return existing != null && existing > 0;
+  }
+}
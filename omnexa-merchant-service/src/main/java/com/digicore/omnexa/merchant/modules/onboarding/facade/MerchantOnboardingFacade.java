@@ -17,6 +17,7 @@ import com.digicore.omnexa.merchant.modules.profile.dto.response.MerchantOnboard
 import com.digicore.omnexa.merchant.modules.profile.user.dto.request.MerchantUserOnboardingRequest;
 import com.digicore.omnexa.notification.lib.contract.NotificationRequestType;
 import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.outbox.NotificationSender;
 import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,6 +58,7 @@ public class MerchantOnboardingFacade implements Facade<OnboardingRequest, Void>
   private final ProfileService merchantUserAuthProfileService;
   private final ProfileService merchantApiKeyProfileService;
   private final PluggableEmailService pluggableEmailService;
+  private final NotificationSender notificationSender;
 
   /**
    * Processes the merchant onboarding request atomically.
@@ -89,9 +91,7 @@ public class MerchantOnboardingFacade implements Facade<OnboardingRequest, Void>
           buildApiKeyOnboardingRequest(merchantOnboardingResponse);
       merchantApiKeyProfileService.createProfile(apiKeyRequest);
 
-      pluggableEmailService
-          .getEngine(pluggableEmailService.getNotificationPropConfig().getEmailChannelType())
-          .sendEmailAsync(buildMerchantOnboardVerificationMail(userOnboardingResponse));
+      notificationSender.sendEmail(buildMerchantOnboardVerificationMail(userOnboardingResponse));
 
       log.info(
           "Successfully completed merchant onboarding for merchant: {}",
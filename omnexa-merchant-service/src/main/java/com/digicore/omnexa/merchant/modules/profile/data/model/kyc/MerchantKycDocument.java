@@ -15,6 +15,10 @@ import lombok.Setter;
 import lombok.ToString;
 
 /**
+ * Legacy per-merchant KYC document list, stored as a JSON array in {@link #kycDocument}.
+ *
+ * @deprecated documents are stored one per row in {@link MerchantKycProfileDocument}; remaining
+ *     rows are migrated at startup by {@code MerchantKycDocumentMigration}.
  * @author Oluwatobi Ogunwuyi
  * @createdOn Jul-28(Mon)-2025
  */
@@ -23,6 +27,7 @@ import lombok.ToString;
 @Getter
 @Setter
 @ToString
+@Deprecated
 public class MerchantKycDocument extends Auditable<String> implements Serializable {
   @ManyToOne
   @JoinColumn(name = "merchant_profile_id", nullable = false)
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.modules.profile.data.model.kyc;
+
+import com.digicore.omnexa.common.lib.model.Auditable;
+import com.digicore.omnexa.merchant.modules.profile.data.model.MerchantProfile;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A single KYC document uploaded by a merchant.
+ *
+ * <p>There is one row per merchant profile, document type and identifier, enforced by a unique
+ * key. Adding or replacing a document therefore touches only its own row, and concurrent uploads of
+ * different documents never contend on the same record. The document type and identifier are
+ * stored as first submitted, trimmed; they are matched ignoring case, by the repository lookups and
+ * by the key through the case-insensitive default collation of MySQL.
+ *
+ * @author Hossana Chukwunyere
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Entity
+@Table(
+    name = "merchant_kyc_profile_document",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_kyc_document_profile_type_identifier",
+          columnNames = {"merchant_profile_id", "document_type", "identifier"})
+    })
+@Getter
+@Setter
+@ToString(exclude = "merchantProfile")
+public class MerchantKycProfileDocument extends Auditable<String> implements Serializable {
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "merchant_profile_id", nullable = false)
+  private MerchantProfile merchantProfile;
+
+  @Column(name = "document_type", nullable = false, length = 100)
+  private String documentType;
+
+  /** Distinguishes several documents of the same type; empty when the type occurs once. */
+  @Column(name = "identifier", nullable = false, length = 100)
+  private String identifier = "";
+
+  @Column(nullable = false)
+  private String fileId;
+
+  @Column(nullable = false, length = 500)
+  private String filePath;
+}
@@ -7,11 +7,15 @@
 package com.digicore.omnexa.merchant.modules.profile.data.repository;
 
 import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycDocument;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 /**
+ * Repository for the legacy {@link MerchantKycDocument} rows, read only to migrate them into
+ * {@code merchant_kyc_profile_document}.
+ *
  * @author Hossana Chukwunyere
  * @createdOn Aug-05(Tue)-2025
  */
@@ -19,4 +23,6 @@ import org.springframework.stereotype.Repository;
 public interface MerchantKycDocumentRepository extends JpaRepository<MerchantKycDocument, Long> {
   Optional<MerchantKycDocument> findFirstByMerchantProfileMerchantId(
       String merchantProfileMerchantId);
+
+  List<MerchantKycDocument> findTop100ByIdGreaterThanAndKycDocumentIsNotNullOrderByIdAsc(Long id);
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.modules.profile.data.repository;
+
+import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycProfileDocument;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Hossana Chukwunyere
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Repository
+public interface MerchantKycProfileDocumentRepository
+    extends JpaRepository<MerchantKycProfileDocument, Long> {
+  Optional<MerchantKycProfileDocument>
+      findFirstByMerchantProfileIdAndDocumentTypeIgnoreCaseAndIdentifierIgnoreCase(
+          Long merchantProfileId, String documentType, String identifier);
+
+  List<MerchantKycProfileDocument> findAllByMerchantProfileMerchantId(String merchantId);
+
+  boolean existsByMerchantProfileIdAndDocumentTypeIgnoreCaseAndIdentifierIgnoreCase(
+      Long merchantProfileId, String documentType, String identifier);
+}
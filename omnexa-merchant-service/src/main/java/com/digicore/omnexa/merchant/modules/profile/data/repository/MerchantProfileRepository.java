@@ -13,8 +13,15 @@ import com.digicore.omnexa.common.lib.enums.ProfileVerificationStatus;
 import com.digicore.omnexa.merchant.modules.profile.data.model.MerchantProfile;
 import com.digicore.omnexa.merchant.modules.profile.dto.response.MerchantProfileInfoResponse;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -88,9 +95,88 @@ public interface MerchantProfileRepository extends JpaRepository<MerchantProfile
           + "ORDER BY mp.createdDate DESC")
   Page<MerchantProfileInfoResponse> findAllMerchantProfileInfo(Pageable pageable);
 
+  /**
+   * Shortest term the full-text index can answer; MySQL's ngram parser indexes tokens of {@code
+   * ngram_token_size} (2 by default) characters.
+   */
+  int MIN_FULL_TEXT_SEARCH_TERM_LENGTH = 2;
+
   /**
    * Searches merchant profiles by business name or business email.
    *
+   * <p>Terms are matched as substrings through the ngram full-text index on business name and
+   * business email, so a search reads only matching rows instead of scanning the table. Profiles
+   * whose business name starts with the term come first, then the rest by relevance. Terms shorter
+   * than {@link #MIN_FULL_TEXT_SEARCH_TERM_LENGTH} fall back to a pattern scan.
+   *
+   * @param searchTerm the search term to match against business name or business email
+   * @param pageable the pagination information
+   * @return a page of merchant profile information responses matching the search criteria
+   */
+  default Page<MerchantProfileInfoResponse> searchMerchantProfileInfo(
+      String searchTerm, Pageable pageable) {
+    String phrase = searchTerm.replace("\"", " ").trim();
+    if (phrase.length() < MIN_FULL_TEXT_SEARCH_TERM_LENGTH) {
+      return scanMerchantProfileInfo(searchTerm, pageable);
+    }
+
+    Page<String> merchantIds = searchMerchantIds("\"" + phrase + "\"", phrase, pageable);
+    if (merchantIds.isEmpty()) {
+      return merchantIds.map(merchantId -> null);
+    }
+    Map<String, MerchantProfileInfoResponse> profiles =
+        findMerchantProfileInfoByMerchantIds(merchantIds.getContent()).stream()
+            .collect(
+                Collectors.toMap(MerchantProfileInfoResponse::getMerchantId, Function.identity()));
+    // a profile deleted between the two queries is dropped rather than returned as null
+    return new PageImpl<>(
+        merchantIds.getContent().stream().map(profiles::get).filter(Objects::nonNull).toList(),
+        merchantIds.getPageable(),
+        merchantIds.getTotalElements());
+  }
+
+  /**
+   * Returns the merchant IDs matching the full-text phrase, ranked for {@link
+   * #searchMerchantProfileInfo(String, Pageable)}. Backed by {@code ftx_merchant_profile_search}.
+   */
+  @Query(
+      value =
+          """
+          SELECT mp.merchant_id FROM merchant_profile mp
+          WHERE MATCH(mp.business_name, mp.business_email) AGAINST (:phrase IN BOOLEAN MODE)
+          ORDER BY
+              LOWER(mp.business_name) LIKE CONCAT(LOWER(:prefix), '%') DESC,
+              MATCH(mp.business_name, mp.business_email) AGAINST (:phrase IN BOOLEAN MODE) DESC,
+              mp.created_date DESC
+          """,
+      countQuery =
+          """
+          SELECT COUNT(*) FROM merchant_profile mp
+          WHERE MATCH(mp.business_name, mp.business_email) AGAINST (:phrase IN BOOLEAN MODE)
+          """,
+      nativeQuery = true)
+  Page<String> searchMerchantIds(
+      @Param("phrase") String phrase, @Param("prefix") String prefix, Pageable pageable);
+
+  @Query(
+      "SELECT new "
+          + MERCHANT_PROFILE_INFO_RESPONSE
+          + "("
+          + "mp.merchantId, "
+          + "mp.businessName, "
+          + "mp.businessEmail, "
+          + "mp.businessPhoneNumber, "
+          + "mp.profileStatus"
+          + ") "
+          + "FROM MerchantProfile mp "
+          + "WHERE mp.merchantId IN :merchantIds")
+  List<MerchantProfileInfoResponse> findMerchantProfileInfoByMerchantIds(
+      @Param("merchantIds") Collection<String> merchantIds);
+
+  /**
+   * Matches the search term anywhere in business name or business email with a table scan. Only
+   * used for terms too short for the full-text index.
+   *
    * @param searchTerm the search term to match against business name or business email
    * @param pageable the pagination information
    * @return a page of merchant profile information responses matching the search criteria
@@ -109,7 +195,7 @@ public interface MerchantProfileRepository extends JpaRepository<MerchantProfile
           + "WHERE LOWER(mp.businessName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) "
           + "OR LOWER(mp.businessEmail) LIKE LOWER(CONCAT('%', :searchTerm, '%')) "
           + "ORDER BY mp.createdDate DESC")
-  Page<MerchantProfileInfoResponse> searchMerchantProfileInfo(
+  Page<MerchantProfileInfoResponse> scanMerchantProfileInfo(
       @Param("searchTerm") String searchTerm, Pageable pageable);
 
   /**
@@ -16,196 +16,277 @@ import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
 import com.digicore.omnexa.common.lib.file.util.FileUtil;
 import com.digicore.omnexa.common.lib.properties.MessagePropertyConfig;
 import com.digicore.omnexa.common.lib.util.RequestUtil;
-import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycDocument;
-import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantKycDocumentRepository;
+import com.digicore.omnexa.merchant.modules.profile.data.model.MerchantProfile;
+import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycProfileDocument;
+import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantKycProfileDocumentRepository;
 import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantProfileRepository;
 import com.digicore.omnexa.merchant.modules.profile.dto.request.MerchantKycProfileDocumentUploadDTO;
-import com.google.gson.reflect.TypeToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
+ * Stores merchant KYC documents, one {@link MerchantKycProfileDocument} row per document type and
+ * identifier.
+ *
+ * <p>A submission is handled as a pipeline: every file is validated (type, content signature and
+ * size) before anything is written, the files are then written in parallel on a bounded pool, and
+ * all rows are inserted or updated in a single transaction. Files replaced by the submission are
+ * deleted after the commit; if the submission fails, the files it wrote are deleted instead.
+ *
  * @author Hossana Chukwunyere
  * @createdOn Aug-05(Tue)-2025
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class MerchantKycProfileDocumentUploadService
     implements DocumentUploadService<List<FileUploadedDTO>, MerchantKycProfileDocumentUploadDTO> {
 
+  /**
+   * A parallel upload of the same document can win a write; ours is then reapplied on top of it.
+   * Every round of a race commits at least one upload, so this many parallel uploads of one
+   * document all succeed.
+   */
+  private static final int MAX_WRITE_ATTEMPTS = 5;
+
+  private static final int MAX_PARALLEL_FILE_WRITES = 4;
+  private static final String UPLOAD_METRIC = "omnexa.kyc.documents.upload";
+
   private final FileUtil fileUtil;
   private final FilePropertyConfig filePropertyConfig;
-  private final MerchantKycDocumentRepository merchantKycDocumentRepository;
+  private final MerchantKycProfileDocumentRepository merchantKycProfileDocumentRepository;
   private final MerchantProfileRepository merchantProfileRepository;
   private final MessagePropertyConfig messagePropertyConfig;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService fileWriteExecutor;
+
+  public MerchantKycProfileDocumentUploadService(
+      FileUtil fileUtil,
+      FilePropertyConfig filePropertyConfig,
+      MerchantKycProfileDocumentRepository merchantKycProfileDocumentRepository,
+      MerchantProfileRepository merchantProfileRepository,
+      MessagePropertyConfig messagePropertyConfig,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.fileUtil = fileUtil;
+    this.filePropertyConfig = filePropertyConfig;
+    this.merchantKycProfileDocumentRepository = merchantKycProfileDocumentRepository;
+    this.merchantProfileRepository = merchantProfileRepository;
+    this.messagePropertyConfig = messagePropertyConfig;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.fileWriteExecutor =
+        Executors.newFixedThreadPool(
+            MAX_PARALLEL_FILE_WRITES,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "omnexa-kyc-file-writer-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    fileWriteExecutor.shutdown();
+  }
 
   @Override
   public List<FileUploadedDTO> uploadMultipleDocument(
       MerchantKycProfileDocumentUploadDTO merchantKycProfileDocumentUploadDTO) {
+    return uploadMultipleDocument(
+        merchantKycProfileDocumentUploadDTO,
+        RequestUtil.getValueFromAccessToken(SYSTEM_MERCHANT_ID_PLACEHOLDER));
+  }
 
-    MerchantKycDocument merchantKycDocument =
-        merchantKycDocumentRepository
-            .findFirstByMerchantProfileMerchantId(
-                RequestUtil.getValueFromAccessToken(SYSTEM_MERCHANT_ID_PLACEHOLDER))
-            .orElse(new MerchantKycDocument());
-
-    List<FileUploadedDTO> fileUploadedDTOS = new ArrayList<>();
-
-    if (!RequestUtil.nullOrEmpty(merchantKycDocument.getKycDocument())) {
-      fileUploadedDTOS =
-          RequestUtil.getGsonMapper()
-              .fromJson(
-                  merchantKycDocument.getKycDocument(),
-                  new TypeToken<List<FileUploadedDTO>>() {}.getType());
+  @Override
+  public List<FileUploadedDTO> uploadMultipleDocument(
+      MerchantKycProfileDocumentUploadDTO merchantKycProfileDocumentUploadDTO, String profileId) {
+    MerchantProfile merchantProfile =
+        merchantProfileRepository
+            .findByMerchantId(profileId)
+            .orElseThrow(
+                () ->
+                    new OmnexaException(
+                        messagePropertyConfig.getActivationMessage(NOT_FOUND),
+                        HttpStatus.NOT_FOUND));
+
+    List<MerchantKycProfileDocumentUploadDTO.MerchantDocument> merchantDocuments =
+        Arrays.stream(merchantKycProfileDocumentUploadDTO.getFiles())
+            .filter(merchantDocument -> merchantDocument.getFile() != null)
+            .toList();
+    long startedAt = System.nanoTime();
+    merchantDocuments.forEach(
+        merchantDocument -> fileUtil.validateFile(merchantDocument.getFile(), true));
+
+    List<StoredFile> storedFiles = writeFiles(merchantDocuments);
+    List<FileUploadedDTO> replacedFiles;
+    try {
+      replacedFiles = saveDocuments(merchantProfile, storedFiles);
+    } catch (RuntimeException e) {
+      deleteQuietly(storedFiles.stream().map(StoredFile::toFileUploadedDTO).toList());
+      throw e;
     }
+    deleteQuietly(replacedFiles);
+
+    Timer.builder(UPLOAD_METRIC)
+        .tag("documents", String.valueOf(storedFiles.size()))
+        .register(meterRegistry)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+    return merchantKycProfileDocumentRepository
+        .findAllByMerchantProfileMerchantId(profileId)
+        .stream()
+        .map(document -> toFileUploadedDTO(document, false))
+        .toList();
+  }
 
-    for (MerchantKycProfileDocumentUploadDTO.MerchantDocument merchantDocument :
-        merchantKycProfileDocumentUploadDTO.getFiles()) {
-      MultipartFile multipartFile = merchantDocument.getFile();
-      if (multipartFile != null) {
-        String documentType = merchantDocument.getDocumentType();
-        String identifier = merchantDocument.getIdentifier();
-
-        // Check if the document type already exists
-        Optional<FileUploadedDTO> existingFileOpt =
-            fileUploadedDTOS.stream()
-                .filter(
-                    file ->
-                        file.getDocumentType() != null
-                            && documentType.equalsIgnoreCase(file.getDocumentType())
-                            && file.getIdentifier() != null
-                            && identifier.equalsIgnoreCase(file.getIdentifier()))
-                .findFirst();
-
-        List<FileUploadedDTO> finalFileUploadedDTOS = fileUploadedDTOS;
-        existingFileOpt.ifPresent(
-            existingFile -> {
-              // Delete the existing file
-              fileUtil.deleteFile(existingFile);
-              // Remove from the list
-              finalFileUploadedDTOS.remove(existingFile);
-            });
-
-        String fileId =
-            filePropertyConfig.getFileUploadDirectory().concat(UUID.randomUUID().toString());
-
-        String pathToFile = fileUtil.saveFile(documentType, multipartFile, fileId);
-
-        // Create new file entry
-        FileUploadedDTO newFile = new FileUploadedDTO();
-        newFile.setFilePath(pathToFile);
-        newFile.setFileId(fileId);
-        newFile.setDocumentType(documentType);
-        newFile.setIdentifier(identifier);
-
-        // Add to list
-        fileUploadedDTOS.add(newFile);
+  /** Writes the files in parallel; if any write fails, the files already written are removed. */
+  private List<StoredFile> writeFiles(
+      List<MerchantKycProfileDocumentUploadDTO.MerchantDocument> merchantDocuments) {
+    List<CompletableFuture<StoredFile>> writes =
+        merchantDocuments.stream()
+            .map(
+                merchantDocument ->
+                    CompletableFuture.supplyAsync(
+                        () -> writeFile(merchantDocument), fileWriteExecutor))
+            .toList();
+    try {
+      CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      deleteQuietly(
+          writes.stream()
+              .filter(write -> write.isDone() && !write.isCompletedExceptionally())
+              .map(write -> write.join().toFileUploadedDTO())
+              .toList());
+      if (e.getCause() instanceof OmnexaException omnexaException) {
+        throw omnexaException;
       }
+      throw new OmnexaException("Could not save the file", e.getCause());
     }
-
-    // Update entity and save
-    merchantKycDocument.setKycDocument(RequestUtil.getGsonMapper().toJson(fileUploadedDTOS));
-
-    if (RequestUtil.nullOrEmpty(merchantKycDocument.getMerchantProfile()))
-      merchantKycDocument.setMerchantProfile(
-          merchantProfileRepository
-              .findByMerchantId(RequestUtil.getValueFromAccessToken(SYSTEM_MERCHANT_ID_PLACEHOLDER))
-              .orElseThrow(
-                  () ->
-                      new OmnexaException(
-                          messagePropertyConfig.getActivationMessage(NOT_FOUND),
-                          HttpStatus.NOT_FOUND)));
-
-    merchantKycDocumentRepository.save(merchantKycDocument);
-    fileUploadedDTOS.forEach(fileUploadedDTO -> fileUploadedDTO.setFilePath(null));
-    return fileUploadedDTOS;
+    return writes.stream().map(CompletableFuture::join).toList();
   }
 
+  private StoredFile writeFile(MerchantKycProfileDocumentUploadDTO.MerchantDocument document) {
+    String fileId =
+        filePropertyConfig.getFileUploadDirectory().concat(UUID.randomUUID().toString());
+    String documentType = normalizeDocumentType(document.getDocumentType());
+    String pathToFile = fileUtil.saveValidatedFile(documentType, document.getFile(), fileId);
+    return new StoredFile(
+        documentType, normalizeIdentifier(document.getIdentifier()), fileId, pathToFile);
+  }
 
-  @Override
-  public List<FileUploadedDTO> uploadMultipleDocument(
-      MerchantKycProfileDocumentUploadDTO merchantKycProfileDocumentUploadDTO, String profileId) {
-
-    MerchantKycDocument merchantKycDocument =
-        merchantKycDocumentRepository
-            .findFirstByMerchantProfileMerchantId(profileId)
-            .orElse(new MerchantKycDocument());
-
-    List<FileUploadedDTO> fileUploadedDTOS = new ArrayList<>();
+  /**
+   * Inserts or updates the rows of all stored files in one transaction, which is retried when a
+   * parallel submission for the same merchant wins a write: it inserted the same document first,
+   * updated the row since it was read ({@code @Version}), or won a lock.
+   *
+   * @return the files of the rows that were replaced.
+   */
+  private List<FileUploadedDTO> saveDocuments(
+      MerchantProfile merchantProfile, List<StoredFile> storedFiles) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(
+            status -> {
+              List<FileUploadedDTO> replacedFiles = new ArrayList<>();
+              for (StoredFile storedFile : storedFiles) {
+                saveDocument(merchantProfile, storedFile).ifPresent(replacedFiles::add);
+              }
+              return replacedFiles;
+            });
+      } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+        if (attempt >= MAX_WRITE_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
 
-    if (!RequestUtil.nullOrEmpty(merchantKycDocument.getKycDocument())) {
-      fileUploadedDTOS =
-          RequestUtil.getGsonMapper()
-              .fromJson(
-                  merchantKycDocument.getKycDocument(),
-                  new TypeToken<List<FileUploadedDTO>>() {}.getType());
+  private Optional<FileUploadedDTO> saveDocument(
+      MerchantProfile merchantProfile, StoredFile storedFile) {
+    MerchantKycProfileDocument document =
+        merchantKycProfileDocumentRepository
+            .findFirstByMerchantProfileIdAndDocumentTypeIgnoreCaseAndIdentifierIgnoreCase(
+                merchantProfile.getId(), storedFile.documentType(), storedFile.identifier())
+            .orElse(null);
+    FileUploadedDTO replacedFile = document == null ? null : toFileUploadedDTO(document, true);
+    if (document == null) {
+      document = new MerchantKycProfileDocument();
+      document.setMerchantProfile(merchantProfile);
+      document.setDocumentType(storedFile.documentType());
+      document.setIdentifier(storedFile.identifier());
     }
+    document.setFileId(storedFile.fileId());
+    document.setFilePath(storedFile.filePath());
+    merchantKycProfileDocumentRepository.saveAndFlush(document);
+    return Optional.ofNullable(replacedFile);
+  }
 
-    for (MerchantKycProfileDocumentUploadDTO.MerchantDocument merchantDocument :
-        merchantKycProfileDocumentUploadDTO.getFiles()) {
-      MultipartFile multipartFile = (MultipartFile) merchantDocument.getFile();
-      if (multipartFile != null) {
-        String documentType = merchantDocument.getDocumentType();
-        String identifier = merchantDocument.getIdentifier();
-
-        // Check if the document type already exists
-        Optional<FileUploadedDTO> existingFileOpt =
-            fileUploadedDTOS.stream()
-                .filter(
-                    file ->
-                        file.getDocumentType() != null
-                            && documentType.equalsIgnoreCase(file.getDocumentType())
-                            && file.getIdentifier() != null
-                            && identifier.equalsIgnoreCase(file.getIdentifier()))
-                .findFirst();
-
-        List<FileUploadedDTO> finalFileUploadedDTOS = fileUploadedDTOS;
-        existingFileOpt.ifPresent(
-            existingFile -> {
-              // Delete the existing file
-              fileUtil.deleteFile(existingFile);
-              // Remove from the list
-              finalFileUploadedDTOS.remove(existingFile);
-            });
+  private void deleteQuietly(List<FileUploadedDTO> files) {
+    for (FileUploadedDTO file : files) {
+      try {
+        fileUtil.deleteFile(file);
+      } catch (RuntimeException e) {
+        log.warn("<<< could not delete kyc file {} >>>", file.getFilePath(), e);
+      }
+    }
+  }
 
-        String fileId =
-            filePropertyConfig.getFileUploadDirectory().concat(UUID.randomUUID().toString());
+  private record StoredFile(
+      String documentType, String identifier, String fileId, String filePath) {
+    FileUploadedDTO toFileUploadedDTO() {
+      FileUploadedDTO fileUploadedDTO = new FileUploadedDTO();
+      fileUploadedDTO.setFileId(fileId);
+      fileUploadedDTO.setDocumentType(documentType);
+      fileUploadedDTO.setFilePath(filePath);
+      return fileUploadedDTO;
+    }
+  }
 
-        String pathToFile = fileUtil.saveFile(documentType, multipartFile, fileId);
+  /**
+   * Trims the document type. Its case is kept, since it is returned to clients and names the
+   * storage folder; documents are matched ignoring case instead.
+   */
+  public static String normalizeDocumentType(String documentType) {
+    return documentType == null ? null : documentType.strip();
+  }
 
-        // Create new file entry
-        FileUploadedDTO newFile = new FileUploadedDTO();
-        newFile.setFilePath(pathToFile);
-        newFile.setFileId(fileId);
-        newFile.setDocumentType(documentType);
-        newFile.setIdentifier(identifier);
+  /** See {@link #normalizeDocumentType(String)}; a missing identifier is stored as empty. */
+  public static String normalizeIdentifier(String identifier) {
+    return identifier == null ? "" : identifier.strip();
+  }
 
-        // Add to list
-        fileUploadedDTOS.add(newFile);
-      }
+  static FileUploadedDTO toFileUploadedDTO(
+      MerchantKycProfileDocument document, boolean includeFilePath) {
+    FileUploadedDTO fileUploadedDTO = new FileUploadedDTO();
+    fileUploadedDTO.setFileId(document.getFileId());
+    fileUploadedDTO.setDocumentType(document.getDocumentType());
+    fileUploadedDTO.setIdentifier(
+        document.getIdentifier().isEmpty() ? null : document.getIdentifier());
+    if (includeFilePath) {
+      fileUploadedDTO.setFilePath(document.getFilePath());
     }
-
-    // Update entity and save
-    merchantKycDocument.setKycDocument(RequestUtil.getGsonMapper().toJson(fileUploadedDTOS));
-
-    if (RequestUtil.nullOrEmpty(merchantKycDocument.getMerchantProfile()))
-      merchantKycDocument.setMerchantProfile(
-          merchantProfileRepository
-              .findByMerchantId(profileId)
-              .orElseThrow(
-                  () ->
-                      new OmnexaException(
-                          messagePropertyConfig.getActivationMessage(NOT_FOUND),
-                          HttpStatus.NOT_FOUND)));
-
-    merchantKycDocumentRepository.save(merchantKycDocument);
-    fileUploadedDTOS.forEach(fileUploadedDTO -> fileUploadedDTO.setFilePath(null));
-    return fileUploadedDTOS;
+    return fileUploadedDTO;
   }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.file.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the ContentAddressedFileStore class: deduplication of identical uploads, sharing
+ * of blobs between stored paths and removal of a blob with its last path.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class ContentAddressedFileStoreTest {
+  @TempDir private Path rootDirectory;
+
+  private ContentAddressedFileStore fileStore;
+
+  @BeforeEach
+  void setUp() {
+    fileStore = new ContentAddressedFileStore(rootDirectory);
+  }
+
+  @Test
+  void identicalUploadsShareOneBlob() throws IOException {
+    Path first = rootDirectory.resolve("Passport/first.pdf");
+    Path second = rootDirectory.resolve("Utility/second.pdf");
+
+    String firstDigest = store("same content", first);
+    String secondDigest = store("same content", second);
+
+    assertEquals(firstDigest, secondDigest);
+    assertEquals(1, countFiles("blobs"));
+    assertTrue(Files.isSameFile(first, second));
+    assertEquals("same content", Files.readString(second));
+  }
+
+  @Test
+  void differentUploadsGetTheirOwnBlob() throws IOException {
+    String firstDigest = store("first content", rootDirectory.resolve("Passport/first.pdf"));
+    String secondDigest = store("second content", rootDirectory.resolve("Passport/second.pdf"));
+
+    assertNotEquals(firstDigest, secondDigest);
+    assertEquals(2, countFiles("blobs"));
+  }
+
+  @Test
+  void blobIsKeptUntilItsLastPathIsDeleted() throws IOException {
+    Path first = rootDirectory.resolve("Passport/first.pdf");
+    Path second = rootDirectory.resolve("Utility/second.pdf");
+    store("same content", first);
+    store("same content", second);
+
+    fileStore.delete(first);
+
+    assertFalse(Files.exists(first));
+    assertEquals(1, countFiles("blobs"));
+    assertEquals("same content", Files.readString(second));
+
+    fileStore.delete(second);
+
+    assertFalse(Files.exists(second));
+    assertEquals(0, countFiles("blobs"));
+    assertEquals(0, countFiles("refs"));
+  }
+
+  @Test
+  void storingOverAPathReleasesThePreviousBlob() throws IOException {
+    Path target = rootDirectory.resolve("Passport/document.pdf");
+    store("old content", target);
+
+    store("new content", target);
+
+    assertEquals("new content", Files.readString(target));
+    assertEquals(1, countFiles("blobs"));
+    assertEquals(1, countFiles("refs"));
+  }
+
+  @Test
+  void filesStoredWithoutAnIndexEntryAreStillDeleted() throws IOException {
+    Path target = rootDirectory.resolve("Passport/document.pdf");
+    store("legacy content", target);
+    try (Stream<Path> refs = Files.walk(rootDirectory.resolve("refs"))) {
+      for (Path ref : refs.filter(Files::isRegularFile).toList()) {
+        Files.delete(ref);
+      }
+    }
+
+    fileStore.delete(target);
+
+    assertFalse(Files.exists(target));
+    assertEquals(0, countFiles("blobs"));
+  }
+
+  private String store(String content, Path target) throws IOException {
+    return fileStore.store(
+        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), target);
+  }
+
+  private long countFiles(String directory) throws IOException {
+    Path path = rootDirectory.resolve(directory);
+    if (!Files.exists(path)) {
+      return 0;
+    }
+    try (Stream<Path> files = Files.walk(path)) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
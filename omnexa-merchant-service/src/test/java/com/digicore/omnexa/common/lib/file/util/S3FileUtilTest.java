@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.file.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
+import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
+import java.net.URI;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Round-trip tests of the S3FileUtil class against a MinIO server started with Testcontainers.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3FileUtilTest {
+  private static final String BUCKET = "omnexa-test";
+  private static final int PART_SIZE = 5 * 1024 * 1024;
+
+  @Container
+  private static final MinIOContainer MINIO =
+      new MinIOContainer("minio/minio:RELEASE.2024-08-17T01-24-54Z");
+
+  private S3FileUtil s3FileUtil;
+
+  @BeforeAll
+  static void createBucket() {
+    try (S3Client s3Client =
+        S3Client.builder()
+            .region(Region.US_EAST_1)
+            .endpointOverride(URI.create(MINIO.getS3URL()))
+            .forcePathStyle(true)
+            .credentialsProvider(
+                StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+            .build()) {
+      s3Client.createBucket(request -> request.bucket(BUCKET));
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    FilePropertyConfig filePropertyConfig = new FilePropertyConfig();
+    filePropertyConfig.setFileUploadDirectory("");
+    filePropertyConfig.setMinFileUploadSize(1);
+    filePropertyConfig.setMaxFileUploadSize(4 * PART_SIZE);
+    filePropertyConfig.setStorage("s3");
+    filePropertyConfig.setS3BucketName(BUCKET);
+    filePropertyConfig.setS3AccessKey(MINIO.getUserName());
+    filePropertyConfig.setS3SecretKey(MINIO.getPassword());
+    filePropertyConfig.setS3Url(MINIO.getS3URL());
+    filePropertyConfig.setS3PartSize(PART_SIZE);
+    filePropertyConfig.setS3UploadConcurrency(2);
+    s3FileUtil = new S3FileUtil(filePropertyConfig);
+  }
+
+  @AfterEach
+  void tearDown() {
+    s3FileUtil.destroy();
+  }
+
+  @Test
+  void singlePutFileIsSavedReadAndDeleted() throws Exception {
+    assertRoundTrip("kyc", "passport.bin", content(1024));
+  }
+
+  @Test
+  void multipartFileIsSavedReadAndDeleted() throws Exception {
+    assertRoundTrip("kyc", "statement.bin", content(2 * PART_SIZE + 1024));
+  }
+
+  private void assertRoundTrip(String type, String fileName, byte[] content) throws Exception {
+    MockMultipartFile file =
+        new MockMultipartFile("file", fileName, MediaType.APPLICATION_OCTET_STREAM_VALUE, content);
+
+    String location = s3FileUtil.saveValidatedFile(type, file, fileName);
+
+    assertEquals("s3://" + BUCKET + "/lucid/" + type + "/" + fileName, location);
+    FileUploadedDTO savedFile = new FileUploadedDTO();
+    savedFile.setFilePath(location);
+    assertArrayEquals(content, s3FileUtil.getSavedFile(savedFile));
+
+    s3FileUtil.deleteFile(savedFile);
+
+    assertThrows(NoSuchKeyException.class, () -> s3FileUtil.getSavedFile(savedFile));
+  }
+
+  private static byte[] content(int size) {
+    byte[] content = new byte[size];
+    new Random(size).nextBytes(content);
+    return content;
+  }
+}
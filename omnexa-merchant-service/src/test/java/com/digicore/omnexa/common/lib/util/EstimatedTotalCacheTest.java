@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the EstimatedTotalCache class. Counts run on a single-thread executor, so a task
+ * queued after a request completes once the refresh that request started has finished, and a task
+ * queued before it holds the refresh back until the request has returned.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class EstimatedTotalCacheTest {
+  private final ExecutorService countExecutor = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void tearDown() {
+    countExecutor.shutdownNow();
+  }
+
+  @Test
+  void firstRequestHasNoTotalAndStartsTheCount() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ofHours(1), countExecutor);
+    CountDownLatch resume = pauseCounts();
+
+    assertEquals(OptionalLong.empty(), cache.get("listing", () -> 42));
+    resume.countDown();
+    awaitRefresh();
+
+    assertEquals(OptionalLong.of(42), cache.get("listing", () -> 43));
+  }
+
+  @Test
+  void freshTotalIsServedWithoutCountingAgain() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ofHours(1), countExecutor);
+    AtomicInteger counts = new AtomicInteger();
+    cache.get("listing", counts::incrementAndGet);
+    awaitRefresh();
+
+    cache.get("listing", counts::incrementAndGet);
+    cache.get("listing", counts::incrementAndGet);
+    awaitRefresh();
+
+    assertEquals(1, counts.get());
+  }
+
+  @Test
+  void staleTotalIsServedWhileItIsRefreshed() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ZERO, countExecutor);
+    AtomicLong rows = new AtomicLong(10);
+    cache.get("listing", rows::get);
+    awaitRefresh();
+    rows.set(11);
+    CountDownLatch resume = pauseCounts();
+
+    assertEquals(OptionalLong.of(10), cache.get("listing", rows::get));
+    resume.countDown();
+    awaitRefresh();
+
+    assertEquals(OptionalLong.of(11), cache.get("listing", rows::get));
+  }
+
+  @Test
+  void onlyOneRefreshPerKeyRunsAtATime() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ZERO, countExecutor);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger counts = new AtomicInteger();
+
+    for (int i = 0; i < 5; i++) {
+      cache.get(
+          "listing",
+          () -> {
+            counts.incrementAndGet();
+            await(release);
+            return 7;
+          });
+    }
+    release.countDown();
+    awaitRefresh();
+
+    assertEquals(1, counts.get());
+  }
+
+  @Test
+  void failedCountKeepsThePreviousTotal() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ZERO, countExecutor);
+    cache.get("listing", () -> 5);
+    awaitRefresh();
+
+    cache.get(
+        "listing",
+        () -> {
+          throw new IllegalStateException("database unavailable");
+        });
+    awaitRefresh();
+
+    assertEquals(OptionalLong.of(5), cache.get("listing", () -> 5));
+  }
+
+  @Test
+  void cacheIsClearedWhenItHoldsTheMaximumNumberOfKeys() throws Exception {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ofHours(1), countExecutor);
+    cache.get("key-0", () -> 1);
+    for (int i = 1; i < EstimatedTotalCache.MAX_KEYS; i++) {
+      cache.get("key-" + i, () -> 1);
+    }
+    awaitRefresh();
+    assertEquals(OptionalLong.of(1), cache.get("key-0", () -> 1));
+
+    CountDownLatch resume = pauseCounts();
+    cache.get("one-key-too-many", () -> 1);
+
+    assertEquals(OptionalLong.empty(), cache.get("key-0", () -> 1));
+    resume.countDown();
+    awaitRefresh();
+  }
+
+  @Test
+  void destroyStopsTheCountExecutor() {
+    EstimatedTotalCache cache = new EstimatedTotalCache(Duration.ofHours(1), countExecutor);
+
+    cache.destroy();
+
+    assertTrue(countExecutor.isShutdown());
+  }
+
+  private CountDownLatch pauseCounts() {
+    CountDownLatch resume = new CountDownLatch(1);
+    countExecutor.execute(() -> await(resume));
+    return resume;
+  }
+
+  private void awaitRefresh() throws Exception {
+    countExecutor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
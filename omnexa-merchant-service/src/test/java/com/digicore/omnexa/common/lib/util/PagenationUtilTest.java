@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.common.lib.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Unit tests for the totals PagenationUtil reports for slice-paginated listings.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+class PagenationUtilTest {
+  private static final int PAGE_SIZE = 10;
+
+  @Test
+  void firstRequestReportsTheLowerBoundTheSliceProves() {
+    PaginatedResponse<String> response = build(slice(0, PAGE_SIZE, true), OptionalLong.empty());
+
+    assertEquals(11, response.getTotalItems());
+    assertEquals(2, response.getTotalPages());
+    assertTrue(response.isFirstPage());
+    assertFalse(response.isLastPage());
+  }
+
+  @Test
+  void estimatedTotalIsReportedWhenMorePagesFollow() {
+    PaginatedResponse<String> response = build(slice(0, PAGE_SIZE, true), OptionalLong.of(95));
+
+    assertEquals(95, response.getTotalItems());
+    assertEquals(10, response.getTotalPages());
+  }
+
+  @Test
+  void staleEstimateIsNotReportedBelowTheRowsTheSliceProves() {
+    PaginatedResponse<String> response = build(slice(2, PAGE_SIZE, true), OptionalLong.of(5));
+
+    assertEquals(31, response.getTotalItems());
+    assertEquals(4, response.getTotalPages());
+    assertEquals(3, response.getCurrentPage());
+  }
+
+  @Test
+  void lastPageReportsTheExactTotalOverTheEstimate() {
+    PaginatedResponse<String> response = build(slice(1, 3, false), OptionalLong.of(40));
+
+    assertEquals(13, response.getTotalItems());
+    assertEquals(2, response.getTotalPages());
+    assertTrue(response.isLastPage());
+  }
+
+  @Test
+  void emptyListingHasNoItemsAndOnePage() {
+    PaginatedResponse<String> response = build(slice(0, 0, false), OptionalLong.of(3));
+
+    assertEquals(0, response.getTotalItems());
+    assertEquals(1, response.getTotalPages());
+  }
+
+  private static Slice<String> slice(int page, int elements, boolean hasNext) {
+    List<String> content = Collections.nCopies(elements, "row");
+    return new SliceImpl<>(content, PageRequest.of(page, PAGE_SIZE), hasNext);
+  }
+
+  private static PaginatedResponse<String> build(Slice<String> slice, OptionalLong estimate) {
+    return PagenationUtil.buildPaginatedResponse(slice, slice.getContent(), estimate);
+  }
+}
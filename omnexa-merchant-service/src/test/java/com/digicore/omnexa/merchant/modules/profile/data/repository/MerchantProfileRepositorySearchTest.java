@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.modules.profile.data.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.digicore.omnexa.merchant.config.MerchantProfileSearchIndexInitializer;
+import com.digicore.omnexa.merchant.modules.profile.dto.response.MerchantProfileInfoResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tests merchant profile search against MySQL, with the ngram index created by {@link
+ * MerchantProfileSearchIndexInitializer}.
+ *
+ * <p>InnoDB full-text indexes only see committed rows, so the tests run outside a transaction and
+ * clear the table afterwards.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(
+    properties = {
+      // skip application.yml, which imports the configuration from the config server
+      "spring.config.name=merchant-profile-search-test",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MerchantProfileRepositorySearchTest {
+
+  @Container
+  @ServiceConnection
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired
+  private MerchantProfileRepository merchantProfileRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    new MerchantProfileSearchIndexInitializer(jdbcTemplate).createSearchIndex();
+    insertMerchant("M0001", "Kola Adebayo Ventures", "hello@kolaventures.com", 3);
+    insertMerchant("M0002", "Adebayo Stores", "info@adebayostores.ng", 2);
+    insertMerchant("M0003", "Zenith Foods", "sales@zenithfoods.ng", 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM merchant_profile");
+  }
+
+  @Test
+  void prefixMatchesComeFirst() {
+    assertEquals(List.of("M0002", "M0001"), search("adebayo"));
+  }
+
+  @Test
+  void substringsContainingStopwordsMatch() {
+    assertEquals(List.of("M0002", "M0001"), search("deba"));
+    assertEquals(List.of("M0003"), search("nith"));
+  }
+
+  @Test
+  void businessEmailIsSearched() {
+    assertEquals(List.of("M0001"), search("kolaventures"));
+  }
+
+  @Test
+  void multiWordTermMatchesAsAPhrase() {
+    assertEquals(List.of("M0002"), search("Adebayo Stores"));
+  }
+
+  @Test
+  void termsTooShortForTheIndexAreScanned() {
+    assertEquals(List.of("M0003"), search("z"));
+  }
+
+  @Test
+  void unknownTermMatchesNothing() {
+    assertTrue(search("qwxz").isEmpty());
+  }
+
+  private List<String> search(String term) {
+    return merchantProfileRepository
+        .searchMerchantProfileInfo(term, PageRequest.of(0, 10))
+        .map(MerchantProfileInfoResponse::getMerchantId)
+        .getContent();
+  }
+
+  private void insertMerchant(String merchantId, String name, String email, int daysAgo) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO merchant_profile
+            (merchant_id, business_name, business_email, profile_type, profile_status,
+             deleted, terms_accepted, created_date)
+        VALUES (?, ?, ?, 'DIRECT_MERCHANT', 'ACTIVE', false, true, ?)
+        """,
+        merchantId,
+        name,
+        email,
+        LocalDateTime.now().minusDays(daysAgo));
+  }
+
+  @Configuration
+  @EntityScan("com.digicore.omnexa.merchant.modules")
+  @EnableJpaRepositories(basePackageClasses = MerchantProfileRepository.class)
+  static class JpaConfiguration {}
+}
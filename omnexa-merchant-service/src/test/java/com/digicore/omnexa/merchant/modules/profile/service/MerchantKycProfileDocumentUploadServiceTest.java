@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Digicore Limited. All Rights Reserved.
+ * Unauthorized use or distribution is strictly prohibited.
+ * For details, see the LICENSE file.
+ */
+
+package com.digicore.omnexa.merchant.modules.profile.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.common.lib.file.dto.FileUploadedDTO;
+import com.digicore.omnexa.common.lib.file.propeties.FilePropertyConfig;
+import com.digicore.omnexa.common.lib.file.util.FileUtil;
+import com.digicore.omnexa.common.lib.properties.MessagePropertyConfig;
+import com.digicore.omnexa.merchant.modules.profile.data.model.kyc.MerchantKycProfileDocument;
+import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantKycProfileDocumentRepository;
+import com.digicore.omnexa.merchant.modules.profile.data.repository.MerchantProfileRepository;
+import com.digicore.omnexa.merchant.modules.profile.dto.request.MerchantKycProfileDocumentUploadDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tests for the MerchantKycProfileDocumentUploadService class against MySQL, so that parallel
+ * submissions race on the real unique key and {@code @Version} checks.
+ *
+ * <p>The tests run outside a test-managed transaction, the way the service runs, and clear the
+ * tables afterwards.
+ *
+ * @author Hossana Chukwunyere
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(
+    properties = {
+      // skip application.yml, which imports the configuration from the config server
+      "spring.config.name=merchant-kyc-document-upload-test",
+      "spring.jpa.hibernate.ddl-auto=create-drop"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MerchantKycProfileDocumentUploadServiceTest {
+  private static final String MERCHANT_ID = "MER-0001";
+
+  @Container
+  @ServiceConnection
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired private MerchantKycProfileDocumentRepository documentRepository;
+  @Autowired private MerchantProfileRepository merchantProfileRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final FileUtil fileUtil = mock(FileUtil.class);
+  private MerchantKycProfileDocumentUploadService uploadService;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update(
+        """
+        INSERT INTO merchant_profile
+            (merchant_id, business_name, business_email, profile_type, profile_status,
+             deleted, terms_accepted, created_date)
+        VALUES (?, 'Kola Adebayo Ventures', 'hello@kolaventures.com', 'DIRECT_MERCHANT',
+                'ACTIVE', false, true, ?)
+        """,
+        MERCHANT_ID,
+        LocalDateTime.now());
+
+    FilePropertyConfig filePropertyConfig = new FilePropertyConfig();
+    filePropertyConfig.setFileUploadDirectory("kyc/");
+    when(fileUtil.saveValidatedFile(anyString(), any(), anyString()))
+        .thenAnswer(invocation -> "/files/" + invocation.getArgument(2));
+
+    uploadService =
+        new MerchantKycProfileDocumentUploadService(
+            fileUtil,
+            filePropertyConfig,
+            documentRepository,
+            merchantProfileRepository,
+            mock(MessagePropertyConfig.class),
+            transactionManager,
+            new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    uploadService.shutdown();
+    documentRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM merchant_profile");
+  }
+
+  @Test
+  void parallelUploadsOfTheSameDocumentKeepOneRow() throws Exception {
+    int uploads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(uploads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<List<FileUploadedDTO>>> results = new ArrayList<>();
+      for (int i = 0; i < uploads; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return uploadService.uploadMultipleDocument(
+                      request("passport", "director-1"), MERCHANT_ID);
+                }));
+      }
+      start.countDown();
+      for (Future<List<FileUploadedDTO>> result : results) {
+        assertEquals(1, result.get(30, TimeUnit.SECONDS).size());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    List<MerchantKycProfileDocument> rows = documentRepository.findAll();
+    assertEquals(1, rows.size());
+    ArgumentCaptor<FileUploadedDTO> deleted = ArgumentCaptor.forClass(FileUploadedDTO.class);
+    verify(fileUtil, times(uploads - 1)).deleteFile(deleted.capture());
+    String keptFileId = rows.get(0).getFileId();
+    assertTrue(deleted.getAllValues().stream().noneMatch(f -> keptFileId.equals(f.getFileId())));
+  }
+
+  @Test
+  void documentTypesAreStoredAsSubmitted() {
+    List<FileUploadedDTO> documents =
+        uploadService.uploadMultipleDocument(request(" Passport ", "Director-1 "), MERCHANT_ID);
+
+    assertEquals("Passport", documents.get(0).getDocumentType());
+    assertEquals("Director-1", documents.get(0).getIdentifier());
+    verify(fileUtil).saveValidatedFile(eq("Passport"), any(), anyString());
+  }
+
+  @Test
+  void reuploadInAnotherCaseReplacesTheDocument() {
+    uploadService.uploadMultipleDocument(request("passport", "director-1"), MERCHANT_ID);
+    MerchantKycProfileDocument replaced = documentRepository.findAll().get(0);
+
+    List<FileUploadedDTO> documents =
+        uploadService.uploadMultipleDocument(request(" PASSPORT", "Director-1 "), MERCHANT_ID);
+
+    assertEquals(1, documentRepository.count());
+    assertEquals(1, documents.size());
+    assertEquals("passport", documents.get(0).getDocumentType());
+    assertNotEquals(replaced.getFileId(), documents.get(0).getFileId());
+    verify(fileUtil).deleteFile(argThat(file -> replaced.getFileId().equals(file.getFileId())));
+  }
+
+  private static MerchantKycProfileDocumentUploadDTO request(
+      String documentType, String identifier) {
+    MerchantKycProfileDocumentUploadDTO.MerchantDocument document =
+        new MerchantKycProfileDocumentUploadDTO.MerchantDocument();
+    document.setDocumentType(documentType);
+    document.setIdentifier(identifier);
+    document.setFile(
+        new MockMultipartFile("file", "passport.pdf", "application/pdf", new byte[] {1, 2, 3}));
+    MerchantKycProfileDocumentUploadDTO request = new MerchantKycProfileDocumentUploadDTO();
+    request.setFiles(new MerchantKycProfileDocumentUploadDTO.MerchantDocument[] {document});
+    return request;
+  }
+
+  @Configuration
+  @EntityScan("com.digicore.omnexa.merchant.modules")
+  @EnableJpaRepositories(basePackageClasses = MerchantProfileRepository.class)
+  static class JpaConfiguration {}
+}
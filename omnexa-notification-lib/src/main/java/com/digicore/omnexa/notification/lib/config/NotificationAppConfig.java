@@ -1,5 +1,8 @@
 package com.digicore.omnexa.notification.lib.config;
 
+import com.digicore.omnexa.notification.lib.helper.LogHelper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
@@ -10,4 +13,12 @@ import org.springframework.scheduling.annotation.EnableAsync;
  */
 @EnableAsync
 @Configuration
-public class NotificationAppConfig {}
+@RequiredArgsConstructor
+public class NotificationAppConfig {
+  private final NotificationPropConfig notificationPropConfig;
+
+  @PostConstruct
+  public void configureLogPipeline() {
+    LogHelper.configure(notificationPropConfig.getLogPipeline());
+  }
+}
@@ -23,6 +23,9 @@ import org.springframework.stereotype.Component;
 public class NotificationPropConfig {
   private Map<String, String> templates;
   private String templatePath;
+
+  /** Evict cached templates when their files change under {@link #templatePath}. */
+  private boolean templateHotReload = true;
   private Map<String, String> subjects;
   private Map<String, String> senders;
   private String sender;
@@ -31,6 +34,8 @@ public class NotificationPropConfig {
   private SmsProvider smsProvider = SmsProvider.VANSO;
   private String smsSenderId;
   private Map<String, String> smsSenderIds;
+  private LogPipeline logPipeline = new LogPipeline();
+  private Outbox outbox = new Outbox();
 
   public String getTemplate(String key, String defaultValue) {
     return templates != null ? templates.getOrDefault(key, defaultValue) : null;
@@ -53,4 +58,45 @@ public class NotificationPropConfig {
     }
     return StringUtils.isNotBlank(smsSenderId) ? smsSenderId : defaultValue;
   }
+
+  /** Limits for the asynchronous payload logging done by {@code LogHelper}. */
+  @Getter
+  @Setter
+  public static class LogPipeline {
+    /** Ring buffer size; rounded up to a power of two. Events beyond it are dropped. */
+    private int capacity = 1024;
+
+    /** Queue depth from which only one in {@link #sampleRate} events is kept. */
+    private int sampleThreshold = 768;
+
+    private int sampleRate = 10;
+  }
+
+  /** Delivery workers for notifications queued through {@code NotificationOutboxService}. */
+  @Getter
+  @Setter
+  public static class Outbox {
+    /**
+     * Creates the outbox service and workers; only for services whose persistence unit registers
+     * the outbox entity and repository.
+     */
+    private boolean enabled = false;
+
+    private int workers = 4;
+
+    /** Rows claimed per worker poll. */
+    private int batchSize = 50;
+
+    private long pollIntervalMs = 1000;
+
+    /** Attempts before a row is moved to the dead-letter state. */
+    private int maxAttempts = 8;
+
+    private long initialBackoffMs = 5000;
+
+    private long maxBackoffMs = 900000;
+
+    /** Claims older than this are treated as abandoned and become pending again. */
+    private long claimTimeoutMs = 300000;
+  }
 }
@@ -14,4 +14,13 @@ public interface EmailEngine {
   void sendEmailAsync(EmailRequest emailRequest);
 
   EmailChannelType channelType();
+
+  /**
+   * Recipients that {@link #sendEmail} delivers with a single provider request. Requests with more
+   * recipients are split into several provider requests, which can fail independently; callers that
+   * retry should hand the engine one batch at a time.
+   */
+  default int maxRecipientsPerRequest() {
+    return Integer.MAX_VALUE;
+  }
 }
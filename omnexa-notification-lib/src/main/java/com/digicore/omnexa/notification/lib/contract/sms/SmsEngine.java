@@ -1,7 +1,9 @@
 package com.digicore.omnexa.notification.lib.contract.sms;
 
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsDeliveryResult;
 import com.digicore.omnexa.notification.lib.contract.sms.model.SmsProvider;
 import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import reactor.core.publisher.Mono;
 
 /**
  * @author mosh
@@ -10,9 +12,23 @@ import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
  */
 public interface SmsEngine {
 
+  /**
+   * Sends the SMS and waits for the outcome.
+   *
+   * @throws com.digicore.omnexa.notification.lib.exception.RequestException when the provider did
+   *     not accept the message.
+   */
   void sendSms(SmsRequest smsRequest);
 
   void sendSmsAsync(SmsRequest smsRequest);
 
+  /**
+   * Submits the SMS without holding the calling thread.
+   *
+   * @return the delivery result, emitted once the provider answered or the attempts ran out. The
+   *     mono never errors; failures are reported through {@link SmsDeliveryResult#getStatus()}.
+   */
+  Mono<SmsDeliveryResult> submitSms(SmsRequest smsRequest);
+
   SmsProvider provider();
 }
@@ -0,0 +1,37 @@
+package com.digicore.omnexa.notification.lib.contract.sms.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Status record of one SMS submission.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Builder
+@AllArgsConstructor
+@Getter
+public class SmsDeliveryResult {
+
+  private String traceId;
+
+  private SmsProvider provider;
+
+  private SmsDeliveryStatus status;
+
+  /** Number of calls made to the provider, including retries. */
+  private int attempts;
+
+  private long latencyMillis;
+
+  private String providerResponse;
+
+  private String error;
+
+  public boolean isSubmitted() {
+    return status == SmsDeliveryStatus.SUBMITTED;
+  }
+}
@@ -0,0 +1,24 @@
+package com.digicore.omnexa.notification.lib.contract.sms.model;
+
+/**
+ * Outcome of an SMS submission to the provider.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public enum SmsDeliveryStatus {
+  /** Accepted by the provider. */
+  SUBMITTED,
+  /** Rejected by the provider with a client error; retrying will not help. */
+  REJECTED,
+  /** No response within the request timeout. */
+  TIMED_OUT,
+  /**
+   * No connection to the provider became free within the acquire timeout, or too many submissions
+   * were already waiting for one. Nothing was sent, so the message can safely be submitted again.
+   */
+  POOL_EXHAUSTED,
+  /** Transport or server error that persisted after the allowed retries. */
+  FAILED
+}
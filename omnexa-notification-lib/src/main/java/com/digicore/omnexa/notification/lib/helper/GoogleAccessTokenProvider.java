@@ -2,6 +2,9 @@ package com.digicore.omnexa.notification.lib.helper;
 
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -10,78 +13,227 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 /**
+ * Supplies the FCM access token.
+ *
+ * <p>The token is refreshed ahead of expiry by a background task, so senders always read a valid
+ * cached token and never wait for a refresh. When the service has a {@code RedissonClient}, the
+ * current token is shared across nodes through {@link SharedAccessTokenStore}: a node that finds
+ * its token due first adopts a fresher one from Redis, and only the node holding the refresh lock
+ * mints a new token for the whole cluster. The token and its lock are keyed by the service account,
+ * so services using different Firebase projects do not adopt each other's tokens. Senders only
+ * refresh inline when no valid token exists yet, e.g. right after startup.
+ *
  * @author mosh
  * @role software engineer
  * @createdOn 31 Thu Jul, 2025
  */
+@Slf4j
 @Component
 public class GoogleAccessTokenProvider {
 
   private static final String FIREBASE_SCOPE = "https://www.googleapis.com/auth/firebase.messaging";
+  private static final String SHARED_TOKEN_KEY = "omnexa:notification:fcm-access-token";
+  private static final String SEPARATOR = "|";
+
+  /** Tokens closer to expiry than this are not handed to senders. */
+  private static final Duration MIN_VALIDITY = Duration.ofMinutes(1);
+
   private final GoogleCredentials credentials;
+  private final SharedAccessTokenStore sharedTokenStore;
+  private final Duration refreshAhead;
+  private final Duration refreshCheckInterval;
 
   private final ReentrantLock lock = new ReentrantLock();
   private volatile AccessToken cachedToken;
+  private ScheduledExecutorService refresher;
 
+  @Autowired
   public GoogleAccessTokenProvider(
       @Value("${firebase.service-account-path:/firebase/xtbank-4c6e1.json}")
-          String serviceAccountPath)
+          String serviceAccountPath,
+      @Value("${firebase.token-refresh-ahead:PT5M}") Duration refreshAhead,
+      @Value("${firebase.token-refresh-check-interval:PT30S}") Duration refreshCheckInterval,
+      BeanFactory beanFactory)
       throws IOException {
-    InputStream credentialsStream;
+    this(loadCredentials(serviceAccountPath), refreshAhead, refreshCheckInterval, beanFactory);
+  }
 
+  private GoogleAccessTokenProvider(
+      GoogleCredentials credentials,
+      Duration refreshAhead,
+      Duration refreshCheckInterval,
+      BeanFactory beanFactory) {
+    this(
+        credentials,
+        SharedAccessTokenStore.of(beanFactory, sharedTokenKey(credentials)),
+        refreshAhead,
+        refreshCheckInterval);
+  }
+
+  GoogleAccessTokenProvider(
+      GoogleCredentials credentials,
+      SharedAccessTokenStore sharedTokenStore,
+      Duration refreshAhead,
+      Duration refreshCheckInterval) {
+    this.credentials = credentials;
+    this.sharedTokenStore = sharedTokenStore;
+    this.refreshAhead = refreshAhead;
+    this.refreshCheckInterval = refreshCheckInterval;
+  }
+
+  /** The Redis key of the token shared by the nodes using the same service account. */
+  static String sharedTokenKey(GoogleCredentials credentials) {
+    String account =
+        credentials instanceof ServiceAccountCredentials serviceAccount
+            ? serviceAccount.getClientEmail()
+            : credentials.getQuotaProjectId();
+    return SHARED_TOKEN_KEY + ":" + (account == null ? "default" : account);
+  }
+
+  private static GoogleCredentials loadCredentials(String serviceAccountPath) throws IOException {
     Path filePath = Paths.get(serviceAccountPath);
-    if (Files.exists(filePath)) {
-      credentialsStream = Files.newInputStream(filePath);
-    } else {
-      ClassPathResource classPathResource =
-          new ClassPathResource(
-              serviceAccountPath.startsWith("/")
-                  ? serviceAccountPath.substring(1)
-                  : serviceAccountPath);
-      if (!classPathResource.exists()) {
-        throw new FileNotFoundException("Service account file not found at: " + serviceAccountPath);
-      }
-      credentialsStream = classPathResource.getInputStream();
+    ClassPathResource classPathResource =
+        new ClassPathResource(
+            serviceAccountPath.startsWith("/")
+                ? serviceAccountPath.substring(1)
+                : serviceAccountPath);
+    if (!Files.exists(filePath) && !classPathResource.exists()) {
+      throw new FileNotFoundException("Service account file not found at: " + serviceAccountPath);
+    }
+    try (InputStream credentialsStream =
+        Files.exists(filePath)
+            ? Files.newInputStream(filePath)
+            : classPathResource.getInputStream()) {
+      return GoogleCredentials.fromStream(credentialsStream).createScoped(List.of(FIREBASE_SCOPE));
     }
+  }
+
+  @PostConstruct
+  public void startRefresher() {
+    refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "omnexa-fcm-token-refresher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    refresher.scheduleWithFixedDelay(
+        this::scheduledRefresh, 0, refreshCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
 
-    this.credentials =
-        GoogleCredentials.fromStream(credentialsStream).createScoped(List.of(FIREBASE_SCOPE));
+  @PreDestroy
+  public void stopRefresher() {
+    if (refresher != null) {
+      refresher.shutdownNow();
+    }
   }
 
   @SneakyThrows
   public String getAccessToken() {
-    if (tokenNeedsRefresh()) {
-      refreshTokenSafely();
+    AccessToken token = this.cachedToken;
+    if (isValidFor(token, MIN_VALIDITY)) {
+      return token.getTokenValue();
     }
+    refreshIfDue();
     return cachedToken.getTokenValue();
   }
 
-  private boolean tokenNeedsRefresh() {
-    AccessToken token = this.cachedToken;
-    if (token == null || token.getExpirationTime() == null) {
-      return true;
+  private void scheduledRefresh() {
+    try {
+      refreshIfDue();
+    } catch (Exception e) {
+      log.warn("<<< could not refresh the FCM access token, will retry >>>", e);
     }
-    Instant expiresAt = token.getExpirationTime().toInstant();
-    return Instant.now().isAfter(expiresAt.minus(Duration.ofMinutes(1)));
   }
 
-  private void refreshTokenSafely() throws IOException {
+  void refreshIfDue() throws IOException {
     lock.lock();
     try {
-      if (tokenNeedsRefresh()) {
-        credentials.refreshIfExpired();
-        this.cachedToken = credentials.getAccessToken();
+      if (isValidFor(cachedToken, refreshAhead)) {
+        return;
       }
+      if (sharedTokenStore == null) {
+        cachedToken = mintToken();
+        return;
+      }
+      refreshShared();
     } finally {
       lock.unlock();
     }
   }
+
+  /** Adopts the cluster token when it is fresh enough, otherwise mints one under a shared lock. */
+  private void refreshShared() throws IOException {
+    if (adopt(sharedTokenStore.get())) {
+      return;
+    }
+
+    if (!sharedTokenStore.tryLock()) {
+      // another node is minting; keep the current token until it is published
+      if (!isValidFor(cachedToken, MIN_VALIDITY)) {
+        cachedToken = mintToken();
+      }
+      return;
+    }
+    try {
+      if (adopt(sharedTokenStore.get())) {
+        return;
+      }
+      AccessToken token = mintToken();
+      if (isValidFor(token, refreshAhead)) {
+        Date expiresAt = token.getExpirationTime();
+        sharedTokenStore.set(
+            expiresAt.getTime() + SEPARATOR + token.getTokenValue(),
+            Duration.between(Instant.now(), expiresAt.toInstant()));
+      }
+      cachedToken = token;
+    } finally {
+      sharedTokenStore.unlock();
+    }
+  }
+
+  private boolean adopt(String sharedValue) {
+    if (sharedValue == null) {
+      return false;
+    }
+    int separator = sharedValue.indexOf(SEPARATOR);
+    AccessToken token =
+        new AccessToken(
+            sharedValue.substring(separator + 1),
+            new Date(Long.parseLong(sharedValue.substring(0, separator))));
+    if (!isValidFor(token, refreshAhead)) {
+      return false;
+    }
+    cachedToken = token;
+    return true;
+  }
+
+  private AccessToken mintToken() throws IOException {
+    credentials.refresh();
+    log.info("<<< minted a new FCM access token >>>");
+    return credentials.getAccessToken();
+  }
+
+  private static boolean isValidFor(AccessToken token, Duration margin) {
+    if (token == null || token.getExpirationTime() == null) {
+      return false;
+    }
+    Instant expiresAt = token.getExpirationTime().toInstant();
+    return Instant.now().plus(margin).isBefore(expiresAt);
+  }
 }
@@ -1,24 +1,35 @@
 package com.digicore.omnexa.notification.lib.helper;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import com.digicore.omnexa.notification.lib.helper.log.LogEventRingBuffer;
+import com.digicore.omnexa.notification.lib.helper.log.LogPipelineMetrics;
+import com.digicore.omnexa.notification.lib.helper.log.SensitiveDataMaskingModule;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import lombok.SneakyThrows;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Asynchronous, bounded structured logging for notification payloads.
+ *
+ * <p>{@link #logObject(Object, String)} only publishes the payload to a lock-free ring buffer;
+ * masking and serialization happen on a single background writer, started on first use and parked
+ * while the buffer is empty until a producer wakes it. When the buffer is above the sampling
+ * threshold only one in {@code sampleRate} events is kept, and when it is full events are dropped,
+ * so request threads never block on, or run, log formatting. Output is one compact JSON document
+ * per event.
+ *
  * @author mosh
  * @role software engineer
  * @createdOn 01 Fri Aug, 2025
@@ -28,24 +39,25 @@ import lombok.extern.slf4j.Slf4j;
 public class LogHelper {
 
   private static final ObjectMapper OBJECT_MAPPER;
-
-  private static final Set<String> SENSITIVE_KEYS =
-      Set.of("password", "pin", "token", "secret", "otp", "headers", "topic", "tokens");
-
-  private static final String ANSI_RESET = "\u001B[0m";
-  private static final String ANSI_GREEN = "\u001B[32m";
-  private static final String ANSI_CYAN = "\u001B[36m";
-  private static final String ANSI_YELLOW = "\u001B[33m";
-
-  public static final ExecutorService LOG_EXECUTOR =
-      new ThreadPoolExecutor(
-          4, // corePoolSize (always kept alive)
-          16, // maxPoolSize (burst capacity)
-          60L,
-          TimeUnit.SECONDS, // idle thread keep-alive time
-          new ArrayBlockingQueue<>(1000), // work queue size
-          new ThreadPoolExecutor.CallerRunsPolicy() // fallback if full
-          );
+  private static final ObjectWriter LOG_WRITER;
+  private static final SensitiveDataMaskingModule MASKING_MODULE;
+
+  // upper bound on an idle park, in case a wake-up is missed
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final AtomicReference<Thread> writer = new AtomicReference<>();
+  private static volatile boolean writerParked;
+
+  private static volatile LogEventRingBuffer<LogEvent> buffer;
+  private static volatile int sampleThreshold;
+  private static volatile int sampleRate;
+
+  private static final AtomicLong sampleCounter = new AtomicLong();
+  private static final LongAdder accepted = new LongAdder();
+  private static final LongAdder dropped = new LongAdder();
+  private static final LongAdder sampledOut = new LongAdder();
+  private static final LongAdder written = new LongAdder();
+  private static final LongAdder totalLatencyNanos = new LongAdder();
+  private static final AtomicLong maxLatencyNanos = new AtomicLong();
 
   static {
     OBJECT_MAPPER =
@@ -53,110 +65,118 @@ public class LogHelper {
             .registerModules(new JavaTimeModule())
             .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-  }
+    MASKING_MODULE = new SensitiveDataMaskingModule(OBJECT_MAPPER);
+    LOG_WRITER = OBJECT_MAPPER.copy().registerModule(MASKING_MODULE).writer();
 
-  public <T> void logObject(T obj, String traceId) {
-    LOG_EXECUTOR.submit(
-        () -> {
-          if (obj == null) {
-            log.warn(ANSI_YELLOW + "Attempted to log null object." + ANSI_RESET);
-            return;
-          }
-
-          try {
-            Map<String, Object> map = convertToMap(obj);
-            map.put("omnexaTraceId", traceId);
-            sanitizeMap(map);
-            log.info(
-                ANSI_GREEN + "{}" + ANSI_RESET + ": " + ANSI_CYAN + "{}" + ANSI_RESET,
-                obj.getClass().getSimpleName(),
-                OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(map));
-          } catch (Exception e) {
-            log.error(ANSI_YELLOW + "Failed to log object: {}" + ANSI_RESET, obj);
-          }
-        });
+    configure(new NotificationPropConfig.LogPipeline());
   }
 
-  private <T> Map<String, Object> convertToMap(T obj) throws IOException {
-    if (obj instanceof String str && isJsonObject(str)) {
-      return OBJECT_MAPPER.readValue(str, new TypeReference<>() {});
+  /**
+   * Applies new pipeline limits. Events still queued in the previous buffer are discarded and
+   * counted as dropped.
+   *
+   * @param properties the configured capacity and sampling limits.
+   */
+  public static void configure(NotificationPropConfig.LogPipeline properties) {
+    LogEventRingBuffer<LogEvent> previous = buffer;
+    sampleThreshold = properties.getSampleThreshold();
+    sampleRate = Math.max(1, properties.getSampleRate());
+    buffer = new LogEventRingBuffer<>(properties.getCapacity());
+    if (previous != null) {
+      dropped.add(previous.size());
     }
-    return OBJECT_MAPPER.convertValue(obj, new TypeReference<>() {});
-  }
-
-  private boolean isJsonObject(String str) {
-    String trimmed = str.trim();
-    return trimmed.startsWith("{") && trimmed.endsWith("}");
   }
 
-  private void sanitizeMap(Map<String, Object> map) {
-    if (isNullOrEmpty(map)) return;
-
-    for (Map.Entry<String, Object> entry : map.entrySet()) {
-      processEntry(entry);
+  public <T> void logObject(T obj, String traceId) {
+    if (obj == null) {
+      log.warn("Attempted to log null object.");
+      return;
     }
-  }
-
-  @SneakyThrows
-  private void processEntry(Map.Entry<String, Object> entry) {
-    String key = entry.getKey();
-    Object value = entry.getValue();
 
-    if (value instanceof Map<?, ?> nestedMap) {
-      sanitizeMap(castToMap(nestedMap));
-    } else if (value instanceof List<?> list) {
-      sanitizeList(list);
+    LogEventRingBuffer<LogEvent> current = buffer;
+    if (current.size() >= sampleThreshold
+        && sampleCounter.incrementAndGet() % sampleRate != 0) {
+      sampledOut.increment();
+      return;
     }
-
-    try {
-      if (value instanceof String strVal && isJsonObject(strVal)) {
-        Map<String, Object> parsedMap =
-            OBJECT_MAPPER.readValue(strVal, new TypeReference<Map<String, Object>>() {});
-        sanitizeMap(parsedMap);
-        entry.setValue(parsedMap);
-      } else if (value instanceof Map) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> innerMap = (Map<String, Object>) value;
-        sanitizeMap(innerMap);
-      }
-      // Handle Lists of maps or JSON strings if needed
-    } catch (Exception e) {
-      log.warn(ANSI_YELLOW + "Could not process entry: {}" + ANSI_RESET, key, e);
-    }
-
-    if (shouldSanitize(key, value)) {
-      entry.setValue("***");
+    if (current.offer(new LogEvent(obj, traceId, System.nanoTime()))) {
+      accepted.increment();
+      wakeWriter();
+    } else {
+      dropped.increment();
     }
   }
 
-  private boolean shouldSanitize(String key, Object value) {
-    return SENSITIVE_KEYS.contains(key.toLowerCase())
-        && value != null
-        && (!(value instanceof String s) || !s.isBlank())
-        && (!(value instanceof List<?> l) || !l.isEmpty())
-        && (!(value instanceof Map<?, ?> m) || !m.isEmpty());
+  public static LogPipelineMetrics metrics() {
+    long writtenCount = written.sum();
+    long averageLatencyNanos = writtenCount == 0 ? 0 : totalLatencyNanos.sum() / writtenCount;
+    return new LogPipelineMetrics(
+        buffer.size(),
+        buffer.capacity(),
+        accepted.sum(),
+        dropped.sum(),
+        sampledOut.sum(),
+        writtenCount,
+        TimeUnit.NANOSECONDS.toMicros(averageLatencyNanos),
+        TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get()));
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<String, Object> castToMap(Map<?, ?> map) {
-    if (map == null) return Collections.emptyMap();
-    return (Map<String, Object>) map;
+  private static void wakeWriter() {
+    Thread current = writer.get();
+    if (current == null) {
+      Thread started = new Thread(LogHelper::drain, "omnexa-notification-log-writer");
+      started.setDaemon(true);
+      if (writer.compareAndSet(null, started)) {
+        started.start();
+      }
+    } else if (writerParked) {
+      LockSupport.unpark(current);
+    }
   }
 
-  private boolean isNullOrEmpty(Map<?, ?> map) {
-    return map == null || map.isEmpty();
+  private static void drain() {
+    while (!Thread.currentThread().isInterrupted()) {
+      LogEvent event = buffer.poll();
+      if (event == null) {
+        // announce the park before checking again, so an offer made in between unparks us
+        writerParked = true;
+        event = buffer.poll();
+        if (event == null) {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        writerParked = false;
+        if (event == null) {
+          continue;
+        }
+      }
+      write(event);
+    }
   }
 
-  @SuppressWarnings("unchecked")
-  private void sanitizeList(List<?> list) {
-    if (list == null || list.isEmpty()) return;
+  private static void write(LogEvent event) {
+    try {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("type", event.payload().getClass().getSimpleName());
+      entry.put("omnexaTraceId", event.traceId());
+      entry.put("payload", toLoggable(event.payload()));
+      log.info("{}", LOG_WRITER.writeValueAsString(entry));
+    } catch (Exception e) {
+      log.error("Failed to log object of type {}", event.payload().getClass().getName());
+    } finally {
+      long latency = System.nanoTime() - event.enqueuedAtNanos();
+      written.increment();
+      totalLatencyNanos.add(latency);
+      maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+  }
 
-    for (Object item : list) {
-      if (item instanceof Map<?, ?> nestedMap) {
-        sanitizeMap((Map<String, Object>) nestedMap);
-      } else if (item instanceof List<?> nestedList) {
-        sanitizeList(nestedList);
-      }
+  private static Object toLoggable(Object payload) {
+    if (payload instanceof String str && SensitiveDataMaskingModule.isJsonObject(str)) {
+      JsonNode tree = MASKING_MODULE.maskedTree(str);
+      return tree != null ? tree : str;
     }
+    return payload;
   }
+
+  private record LogEvent(Object payload, String traceId, long enqueuedAtNanos) {}
 }
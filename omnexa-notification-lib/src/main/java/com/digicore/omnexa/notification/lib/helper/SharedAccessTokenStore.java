@@ -0,0 +1,59 @@
+package com.digicore.omnexa.notification.lib.helper;
+
+import java.time.Duration;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The FCM access token shared through Redis, and the lock that lets a single node mint it for the
+ * cluster.
+ *
+ * <p>Redisson is an optional dependency of this library. It is only referenced from this class, so
+ * {@link GoogleAccessTokenProvider} also works in services that do not have it.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+final class SharedAccessTokenStore {
+
+  private static final String REDISSON_CLIENT = "org.redisson.api.RedissonClient";
+
+  private final RBucket<String> token;
+  private final RLock refreshLock;
+
+  SharedAccessTokenStore(RedissonClient redissonClient, String tokenKey) {
+    this.token = redissonClient.getBucket(tokenKey, StringCodec.INSTANCE);
+    this.refreshLock = redissonClient.getLock(tokenKey + ":refresh");
+  }
+
+  /** Returns a store on the service's {@link RedissonClient}, or {@code null} if it has none. */
+  static SharedAccessTokenStore of(BeanFactory beanFactory, String tokenKey) {
+    if (!ClassUtils.isPresent(REDISSON_CLIENT, SharedAccessTokenStore.class.getClassLoader())) {
+      return null;
+    }
+    RedissonClient redissonClient =
+        beanFactory.getBeanProvider(RedissonClient.class).getIfAvailable();
+    return redissonClient == null ? null : new SharedAccessTokenStore(redissonClient, tokenKey);
+  }
+
+  String get() {
+    return token.get();
+  }
+
+  void set(String value, Duration timeToLive) {
+    token.set(value, timeToLive);
+  }
+
+  boolean tryLock() {
+    return refreshLock.tryLock();
+  }
+
+  void unlock() {
+    refreshLock.unlock();
+  }
+}
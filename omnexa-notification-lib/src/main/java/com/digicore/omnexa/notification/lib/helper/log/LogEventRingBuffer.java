@@ -0,0 +1,88 @@
+package com.digicore.omnexa.notification.lib.helper.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free, multi-producer single-consumer ring buffer.
+ *
+ * <p>Producers claim a slot with a CAS on the enqueue cursor and never wait: when the ring is full
+ * {@link #offer(Object)} returns {@code false} immediately so callers can drop instead of blocking.
+ * Each slot carries a sequence number that tells the single consumer when the slot is published
+ * and tells producers when it has been released.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public final class LogEventRingBuffer<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong enqueueCursor = new AtomicLong();
+  private final AtomicLong dequeueCursor = new AtomicLong();
+
+  public LogEventRingBuffer(int requestedCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Publishes {@code event} if a slot is free.
+   *
+   * @return {@code false} when the ring is full.
+   */
+  public boolean offer(E event) {
+    long position = enqueueCursor.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (enqueueCursor.compareAndSet(position, position + 1)) {
+          slots.set(index, event);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = enqueueCursor.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = enqueueCursor.get();
+      }
+    }
+  }
+
+  /**
+   * Takes the next published event. Must only be called from the single consumer thread.
+   *
+   * @return the next event, or {@code null} when nothing is published yet.
+   */
+  public E poll() {
+    long position = dequeueCursor.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) - (position + 1) < 0) {
+      return null;
+    }
+    E event = slots.get(index);
+    slots.set(index, null);
+    sequences.set(index, position + mask + 1);
+    dequeueCursor.set(position + 1);
+    return event;
+  }
+
+  public int size() {
+    long size = enqueueCursor.get() - dequeueCursor.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
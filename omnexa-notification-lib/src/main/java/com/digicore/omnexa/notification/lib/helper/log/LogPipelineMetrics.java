@@ -0,0 +1,26 @@
+package com.digicore.omnexa.notification.lib.helper.log;
+
+/**
+ * Point-in-time view of the asynchronous notification log pipeline.
+ *
+ * @param queueDepth events waiting to be written.
+ * @param capacity size of the ring buffer.
+ * @param accepted events accepted since startup.
+ * @param dropped events rejected because the ring buffer was full.
+ * @param sampledOut events skipped by sampling while the queue was above the sampling threshold.
+ * @param written events formatted and written to the logger.
+ * @param averageLatencyMicros mean time between acceptance and write.
+ * @param maxLatencyMicros longest time between acceptance and write.
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public record LogPipelineMetrics(
+    int queueDepth,
+    int capacity,
+    long accepted,
+    long dropped,
+    long sampledOut,
+    long written,
+    long averageLatencyMicros,
+    long maxLatencyMicros) {}
@@ -0,0 +1,220 @@
+package com.digicore.omnexa.notification.lib.helper.log;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.MapType;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Jackson module that masks sensitive values while a payload is written for logging.
+ *
+ * <p>The masking decision is taken once per bean type, when Jackson builds and caches its
+ * serializer: properties whose name is sensitive get a masking serializer, other {@code String}
+ * properties get a serializer that masks embedded JSON documents (e.g. provider response bodies).
+ * Maps are masked per key and multipart attachments are summarized instead of read.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public final class SensitiveDataMaskingModule extends SimpleModule {
+
+  private static final String MASK = "***";
+
+  private static final Set<String> SENSITIVE_KEYS =
+      Set.of("password", "pin", "token", "secret", "otp", "headers", "topic", "tokens");
+
+  private final transient ObjectMapper treeMapper;
+
+  public SensitiveDataMaskingModule(ObjectMapper treeMapper) {
+    super("SensitiveDataMaskingModule");
+    this.treeMapper = treeMapper;
+    addSerializer(MultipartFile.class, new MultipartFileSummarySerializer());
+    setSerializerModifier(new MaskingSerializerModifier());
+  }
+
+  private static boolean isSensitive(String key) {
+    return key != null && SENSITIVE_KEYS.contains(key.toLowerCase(Locale.ROOT));
+  }
+
+  public static boolean isJsonObject(String value) {
+    String trimmed = value.trim();
+    return trimmed.startsWith("{") && trimmed.endsWith("}");
+  }
+
+  private static boolean hasContent(Object value) {
+    return value != null
+        && (!(value instanceof String s) || !s.isBlank())
+        && (!(value instanceof Collection<?> c) || !c.isEmpty())
+        && (!(value instanceof Map<?, ?> m) || !m.isEmpty());
+  }
+
+  /**
+   * Parses {@code json} and masks sensitive fields in the resulting tree.
+   *
+   * @return the masked tree, or {@code null} when {@code json} is not a JSON document.
+   */
+  public JsonNode maskedTree(String json) {
+    try {
+      JsonNode tree = treeMapper.readTree(json);
+      maskTree(tree);
+      return tree;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void maskTree(JsonNode node) {
+    if (node instanceof ObjectNode objectNode) {
+      Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        JsonNode value = field.getValue();
+        if (isSensitive(field.getKey()) && hasContent(value)) {
+          field.setValue(TextNode.valueOf(MASK));
+        } else if (value.isTextual() && isJsonObject(value.textValue())) {
+          JsonNode embedded = maskedTree(value.textValue());
+          if (embedded != null) {
+            field.setValue(embedded);
+          }
+        } else {
+          maskTree(value);
+        }
+      }
+    } else if (node instanceof ArrayNode arrayNode) {
+      arrayNode.forEach(this::maskTree);
+    }
+  }
+
+  private static boolean hasContent(JsonNode node) {
+    return !node.isNull()
+        && !(node.isTextual() && node.textValue().isBlank())
+        && !(node.isContainerNode() && node.isEmpty());
+  }
+
+  private void writeString(String value, JsonGenerator gen) throws IOException {
+    if (isJsonObject(value)) {
+      JsonNode tree = maskedTree(value);
+      if (tree != null) {
+        gen.writeTree(tree);
+        return;
+      }
+    }
+    gen.writeString(value);
+  }
+
+  private final class MaskingSerializerModifier extends BeanSerializerModifier {
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(
+        SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> writers) {
+      for (BeanPropertyWriter writer : writers) {
+        if (isSensitive(writer.getName())) {
+          writer.assignSerializer(new MaskedValueSerializer());
+        } else if (writer.getType().hasRawClass(String.class)) {
+          writer.assignSerializer(new EmbeddedJsonSerializer());
+        }
+      }
+      return writers;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyMapSerializer(
+        SerializationConfig config,
+        MapType valueType,
+        BeanDescription beanDesc,
+        JsonSerializer<?> serializer) {
+      return new MaskingMapSerializer();
+    }
+  }
+
+  private static final class MaskedValueSerializer extends StdSerializer<Object> {
+    private MaskedValueSerializer() {
+      super(Object.class);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      if (hasContent(value)) {
+        gen.writeString(MASK);
+      } else {
+        provider.defaultSerializeValue(value, gen);
+      }
+    }
+  }
+
+  private final class EmbeddedJsonSerializer extends StdSerializer<Object> {
+    private EmbeddedJsonSerializer() {
+      super(Object.class);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      writeString((String) value, gen);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private final class MaskingMapSerializer extends StdSerializer<Map> {
+    private MaskingMapSerializer() {
+      super(Map.class);
+    }
+
+    @Override
+    public void serialize(Map map, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject();
+      for (Object rawEntry : map.entrySet()) {
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) rawEntry;
+        String key = String.valueOf(entry.getKey());
+        Object value = entry.getValue();
+        gen.writeFieldName(key);
+        if (isSensitive(key) && hasContent(value)) {
+          gen.writeString(MASK);
+        } else if (value instanceof String str) {
+          writeString(str, gen);
+        } else {
+          provider.defaultSerializeValue(value, gen);
+        }
+      }
+      gen.writeEndObject();
+    }
+  }
+
+  private static final class MultipartFileSummarySerializer extends StdSerializer<MultipartFile> {
+    private MultipartFileSummarySerializer() {
+      super(MultipartFile.class);
+    }
+
+    @Override
+    public void serialize(MultipartFile file, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject();
+      gen.writeStringField("filename", file.getOriginalFilename());
+      gen.writeStringField("contentType", file.getContentType());
+      gen.writeNumberField("size", file.getSize());
+      gen.writeEndObject();
+    }
+  }
+}
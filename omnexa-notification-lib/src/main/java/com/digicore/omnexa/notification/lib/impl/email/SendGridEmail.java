@@ -5,26 +5,19 @@ import com.digicore.omnexa.notification.lib.contract.email.model.EmailChannelTyp
 import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
 import com.digicore.omnexa.notification.lib.exception.ExceptionOf;
 import com.digicore.omnexa.notification.lib.helper.LogHelper;
-import com.sendgrid.Method;
-import com.sendgrid.Request;
 import com.sendgrid.Response;
-import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
-import com.sendgrid.helpers.mail.objects.Attachments;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
 import com.sendgrid.helpers.mail.objects.Personalization;
-import java.io.IOException;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author mosh
@@ -35,31 +28,41 @@ import org.springframework.web.multipart.MultipartFile;
 @Component
 @RequiredArgsConstructor
 public class SendGridEmail implements EmailEngine {
-  @Value(
-      "${omnexa.sendgrid.api-key:SG.xxxxxxx}") // Replace with your SendGrid API key or use environment variable
-  private String sendGridApiKey;
-
+  private final SendGridTransport sendGridTransport;
+
+  /**
+   * Sends the email through the shared {@link SendGridTransport}. Recipients are carried as
+   * personalizations, so one API call serves up to {@link
+   * SendGridTransport#MAX_PERSONALIZATIONS_PER_REQUEST} recipients; larger lists are split. Each
+   * batch is accepted or rejected as a whole, but a failure leaves the earlier batches sent, so a
+   * retry of the whole request would deliver them twice. The notification outbox therefore queues
+   * one row per batch, and the error logged here names the recipients that were not sent.
+   */
   @Override
   public void sendEmail(EmailRequest emailRequest) {
     String traceId = UUID.randomUUID().toString();
     LogHelper.logObject(emailRequest, traceId);
+    List<List<String>> batches = partitionRecipients(emailRequest);
+    int sent = 0;
     try {
-      Mail mail = buildMail(emailRequest);
-      SendGrid sg = new SendGrid(sendGridApiKey);
-
-      Request request = new Request();
-      request.setMethod(Method.POST);
-      request.setEndpoint("mail/send");
-      request.setBody(mail.build());
+      for (List<String> recipients : batches) {
+        String mailJson = buildMail(emailRequest, recipients).build();
 
-      LogHelper.logObject(request, traceId);
+        LogHelper.logObject(mailJson, traceId);
 
-      Response response = sg.api(request);
+        Response response = sendGridTransport.send(mailJson, emailRequest.getAttachments());
 
-      LogHelper.logObject(response, traceId);
+        LogHelper.logObject(response, traceId);
+        sent++;
+      }
 
     } catch (Exception e) {
-      log.error("Failed to send email via SendGrid to {}", emailRequest.getRecipients(), e);
+      log.error(
+          "Failed to send email via SendGrid after {} of {} batches, not sent to {}",
+          sent,
+          batches.size(),
+          batches.subList(sent, batches.size()),
+          e);
       throw ExceptionOf.System.InternalError.SERVER_ERROR.exception(e);
     }
   }
@@ -69,26 +72,44 @@ public class SendGridEmail implements EmailEngine {
     sendEmail(emailRequest);
   }
 
-  private Mail buildMail(EmailRequest emailRequest) throws IOException {
+  @Override
+  public int maxRecipientsPerRequest() {
+    return SendGridTransport.MAX_PERSONALIZATIONS_PER_REQUEST;
+  }
+
+  private List<List<String>> partitionRecipients(EmailRequest emailRequest) {
+    List<String> recipients = new ArrayList<>(emailRequest.getRecipients());
+    List<List<String>> batches = new ArrayList<>();
+    for (int from = 0;
+        from < recipients.size();
+        from += SendGridTransport.MAX_PERSONALIZATIONS_PER_REQUEST) {
+      int to =
+          Math.min(recipients.size(), from + SendGridTransport.MAX_PERSONALIZATIONS_PER_REQUEST);
+      batches.add(recipients.subList(from, to));
+    }
+    return batches;
+  }
+
+  private Mail buildMail(EmailRequest emailRequest, List<String> recipients) {
     Mail mail = new Mail();
     mail.setFrom(new Email(emailRequest.getSender()));
     mail.setSubject(emailRequest.getSubject());
 
     if (emailRequest.isUseTemplate()) {
       mail.setTemplateId(emailRequest.getTemplateName());
-      addTemplatePersonalization(mail, emailRequest);
+      addTemplatePersonalization(mail, emailRequest, recipients);
     } else {
       mail.addContent(
           new Content(emailRequest.isHtml() ? "text/html" : "text/plain", emailRequest.getCopy()));
-      addBasicPersonalization(mail, emailRequest);
+      addBasicPersonalization(mail, emailRequest, recipients);
     }
 
-    addAttachments(mail, emailRequest.getAttachments());
     return mail;
   }
 
-  private void addTemplatePersonalization(Mail mail, EmailRequest request) {
-    for (String recipient : request.getRecipients()) {
+  private void addTemplatePersonalization(
+      Mail mail, EmailRequest request, List<String> recipients) {
+    for (String recipient : recipients) {
       Personalization personalization = createPersonalization(request, recipient);
 
       Object rawPlaceholders = request.getPlaceHolders();
@@ -107,8 +128,8 @@ public class SendGridEmail implements EmailEngine {
     }
   }
 
-  private void addBasicPersonalization(Mail mail, EmailRequest request) {
-    for (String recipient : request.getRecipients()) {
+  private void addBasicPersonalization(Mail mail, EmailRequest request, List<String> recipients) {
+    for (String recipient : recipients) {
       Personalization personalization = createPersonalization(request, recipient);
       mail.addPersonalization(personalization);
     }
@@ -129,17 +150,6 @@ public class SendGridEmail implements EmailEngine {
     return personalization;
   }
 
-  private void addAttachments(Mail mail, List<MultipartFile> attachments) throws IOException {
-    for (MultipartFile file : attachments) {
-      Attachments attachment = new Attachments();
-      attachment.setFilename(file.getOriginalFilename());
-      attachment.setType(file.getContentType());
-      attachment.setDisposition("attachment");
-      attachment.setContent(Base64.getEncoder().encodeToString(file.getBytes()));
-      mail.addAttachments(attachment);
-    }
-  }
-
   @Override
   public EmailChannelType channelType() {
     return EmailChannelType.SENDGRID;
@@ -0,0 +1,212 @@
+package com.digicore.omnexa.notification.lib.impl.email;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sendgrid.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Long-lived HTTP transport for the SendGrid v3 mail send API.
+ *
+ * <p>One pooled HTTP client is kept for the lifetime of the application, so TLS sessions and
+ * connections are reused across sends, and a semaphore bounds the number of in-flight requests.
+ * Attachments are never loaded into memory as a whole: the request body is written as it is sent,
+ * and each attachment is base64-encoded straight from its input stream into the JSON body after
+ * the already serialized mail fields.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Slf4j
+@Component
+public class SendGridTransport implements DisposableBean {
+
+  /** SendGrid rejects requests carrying more personalizations than this. */
+  public static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+  private static final String MAIL_SEND_PATH = "/v3/mail/send";
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final CloseableHttpClient httpClient;
+  private final Semaphore sendPermits;
+  private final String apiKey;
+  private final String sendUrl;
+  private final long acquireTimeoutMillis;
+
+  public SendGridTransport(
+      @Value("${omnexa.sendgrid.api-key:SG.xxxxxxx}") String apiKey,
+      @Value("${omnexa.sendgrid.base-url:https://api.sendgrid.com}") String baseUrl,
+      @Value("${omnexa.sendgrid.max-connections:20}") int maxConnections,
+      @Value("${omnexa.sendgrid.max-concurrent-sends:10}") int maxConcurrentSends,
+      @Value("${omnexa.sendgrid.acquire-timeout-ms:30000}") long acquireTimeoutMillis,
+      @Value("${omnexa.sendgrid.connect-timeout-ms:5000}") int connectTimeoutMillis,
+      @Value("${omnexa.sendgrid.socket-timeout-ms:60000}") int socketTimeoutMillis) {
+    this.apiKey = apiKey;
+    this.sendUrl = baseUrl.replaceAll("/+$", "") + MAIL_SEND_PATH;
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+    this.sendPermits = new Semaphore(maxConcurrentSends, true);
+
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+    this.httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectTimeout(connectTimeoutMillis)
+                    .setConnectionRequestTimeout(connectTimeoutMillis)
+                    .setSocketTimeout(socketTimeoutMillis)
+                    .build())
+            .evictIdleConnections(60, TimeUnit.SECONDS)
+            .build();
+  }
+
+  /**
+   * Sends {@code mailJson} with {@code attachments} streamed into the request body.
+   *
+   * @param mailJson the message without attachments, as built by {@link
+   *     com.sendgrid.helpers.mail.Mail#build()}; at most {@link #MAX_PERSONALIZATIONS_PER_REQUEST}
+   *     personalizations.
+   * @param attachments files to attach, read once while the request is written.
+   * @return the SendGrid response.
+   * @throws IOException when the request fails or SendGrid answers with a non-2xx status.
+   */
+  public Response send(String mailJson, List<MultipartFile> attachments) throws IOException {
+    HttpPost post = new HttpPost(sendUrl);
+    post.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey);
+    post.setEntity(new StreamingMailEntity(mailJson, attachments));
+
+    acquirePermit();
+    try (CloseableHttpResponse httpResponse = httpClient.execute(post)) {
+      int statusCode = httpResponse.getStatusLine().getStatusCode();
+      String body =
+          httpResponse.getEntity() == null
+              ? ""
+              : EntityUtils.toString(httpResponse.getEntity(), StandardCharsets.UTF_8);
+      if (statusCode < 200 || statusCode >= 300) {
+        throw new IOException("SendGrid returned status code " + statusCode + ", body: " + body);
+      }
+      Map<String, String> headers = new HashMap<>();
+      for (Header header : httpResponse.getAllHeaders()) {
+        headers.put(header.getName(), header.getValue());
+      }
+      return new Response(statusCode, body, headers);
+    } finally {
+      sendPermits.release();
+    }
+  }
+
+  private void acquirePermit() throws IOException {
+    try {
+      if (!sendPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new IOException("Timed out waiting for a free SendGrid send slot");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a free SendGrid send slot", e);
+    }
+  }
+
+  @Override
+  public void destroy() throws IOException {
+    httpClient.close();
+  }
+
+  /** Chunked JSON body: the mail fields followed by the attachments, encoded while written. */
+  private static final class StreamingMailEntity extends AbstractHttpEntity {
+    private final String mailJson;
+    private final List<MultipartFile> attachments;
+
+    private StreamingMailEntity(String mailJson, List<MultipartFile> attachments) {
+      this.mailJson = mailJson;
+      this.attachments = attachments;
+      setContentType("application/json");
+      setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return false;
+    }
+
+    @Override
+    public long getContentLength() {
+      return -1;
+    }
+
+    @Override
+    public InputStream getContent() {
+      throw new UnsupportedOperationException("mail body is only available as a stream");
+    }
+
+    @Override
+    public boolean isStreaming() {
+      return true;
+    }
+
+    /** Writes the mail JSON as is, reopening its closing brace to append the attachments. */
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+      if (attachments == null || attachments.isEmpty()) {
+        outputStream.write(mailJson.getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        return;
+      }
+      String fields = mailJson.substring(0, mailJson.lastIndexOf('}')).stripTrailing();
+
+      JsonGenerator gen = JSON_FACTORY.createGenerator(outputStream);
+      gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      gen.writeRaw(fields);
+      gen.writeRaw(fields.endsWith("{") ? "\"attachments\":[" : ",\"attachments\":[");
+      for (int i = 0; i < attachments.size(); i++) {
+        if (i > 0) {
+          gen.writeRaw(',');
+        }
+        writeAttachment(gen, attachments.get(i));
+      }
+      gen.writeRaw("]}");
+      gen.flush();
+    }
+
+    private static void writeAttachment(JsonGenerator gen, MultipartFile file) throws IOException {
+      gen.writeStartObject();
+      gen.writeStringField("filename", file.getOriginalFilename());
+      if (file.getContentType() != null) {
+        gen.writeStringField("type", file.getContentType());
+      }
+      gen.writeStringField("disposition", "attachment");
+      gen.writeFieldName("content");
+      try (InputStream content = file.getInputStream()) {
+        gen.writeBinary(content, -1);
+      }
+      gen.writeEndObject();
+    }
+  }
+}
@@ -1,20 +1,56 @@
 package com.digicore.omnexa.notification.lib.impl.sms;
 
 import com.digicore.omnexa.notification.lib.contract.sms.SmsEngine;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsDeliveryResult;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsDeliveryStatus;
 import com.digicore.omnexa.notification.lib.contract.sms.model.SmsProvider;
 import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.digicore.omnexa.notification.lib.exception.ExceptionOf;
 import com.digicore.omnexa.notification.lib.helper.LogHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.ConnectException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
 /**
+ * Vanso SMS engine.
+ *
+ * <p>Submissions are non-blocking: {@link #submitSms(SmsRequest)} returns a {@link Mono} backed by
+ * a dedicated Reactor Netty connection pool whose size bounds the number of concurrent calls to
+ * Vanso. Each attempt has its own timeout, on top of the time spent waiting for a connection; a
+ * submission that gets no connection in time is reported as {@link
+ * SmsDeliveryStatus#POOL_EXHAUSTED} rather than as a timeout, since nothing reached Vanso. Only
+ * failures where the message cannot have been accepted are retried (connection refused, 429, 503),
+ * with jittered exponential backoff, so a retry never sends a duplicate SMS. Gateway errors (502,
+ * 504) are not retried: as with a timeout, the upstream may already have accepted the message.
+ * Every outcome is recorded as an {@code omnexa.sms.submit} timer tagged with the provider and
+ * {@link SmsDeliveryStatus}.
+ *
  * @author mosh
  * @role software engineer
  * @createdOn 01 Fri Aug, 2025
@@ -24,7 +60,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class VansoSms implements SmsEngine {
 
-  private final WebClient webClient = WebClient.create();
+  private static final String SUBMIT_METRIC = "omnexa.sms.submit";
+
+  private final ObjectProvider<MeterRegistry> meterRegistryProvider;
 
   @Value("${vanso.sms.username:NG.101.0721}")
   private String username;
@@ -35,46 +73,216 @@ public class VansoSms implements SmsEngine {
   @Value("${vanso.sms.url:https://sms.vanso.com/rest/sms/submit/bulk}")
   private String vansoSmsUrl;
 
+  /** Upper bound of concurrent calls to Vanso; further submissions wait for a connection. */
+  @Value("${vanso.sms.max-concurrency:20}")
+  private int maxConcurrency;
+
+  @Value("${vanso.sms.max-pending:1000}")
+  private int maxPending;
+
+  @Value("${vanso.sms.acquire-timeout-ms:5000}")
+  private long acquireTimeoutMillis;
+
+  @Value("${vanso.sms.connect-timeout-ms:5000}")
+  private int connectTimeoutMillis;
+
+  @Value("${vanso.sms.request-timeout-ms:15000}")
+  private long requestTimeoutMillis;
+
+  @Value("${vanso.sms.max-retries:3}")
+  private int maxRetries;
+
+  @Value("${vanso.sms.retry-backoff-ms:500}")
+  private long retryBackoffMillis;
+
+  @Value("${vanso.sms.max-retry-backoff-ms:5000}")
+  private long maxRetryBackoffMillis;
+
+  private ConnectionProvider connectionProvider;
+  private WebClient webClient;
+  private MeterRegistry meterRegistry;
+
+  @PostConstruct
+  public void initialize() {
+    Duration requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+    connectionProvider =
+        ConnectionProvider.builder("vanso-sms")
+            .maxConnections(maxConcurrency)
+            .pendingAcquireMaxCount(maxPending)
+            .pendingAcquireTimeout(Duration.ofMillis(acquireTimeoutMillis))
+            .build();
+    HttpClient httpClient =
+        HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+            .responseTimeout(requestTimeout);
+    webClient =
+        WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    connectionProvider.dispose();
+  }
+
   @Override
   public void sendSms(SmsRequest smsRequest) {
-    String traceId = UUID.randomUUID().toString();
-    LogHelper.logObject(smsRequest, traceId);
-    try {
-
-      Map<String, Object> payload =
-          Map.of(
-              "destinations",
-              smsRequest.getRecipients(),
-              "src",
-              smsRequest.getSenderId(),
-              "text",
-              smsRequest.getCopy());
-
-      String response =
-          webClient
-              .post()
-              .uri(vansoSmsUrl)
-              .headers(
-                  headers -> {
-                    headers.setBasicAuth(username, password);
-                    headers.setContentType(MediaType.APPLICATION_JSON);
-                  })
-              .bodyValue(payload)
-              .retrieve()
-              .bodyToMono(String.class)
-              .block();
-
-      LogHelper.logObject(response, traceId);
-
-    } catch (Exception e) {
-      log.info("Failed to send to sms: {}", e.getMessage());
+    SmsDeliveryResult result = submitSms(smsRequest).block();
+    if (result == null || !result.isSubmitted()) {
+      throw ExceptionOf.System.InternalError.SERVER_ERROR.exception(
+          "Vanso did not accept the sms: " + (result == null ? null : result.getError()));
     }
   }
 
   @Override
-  @Async
   public void sendSmsAsync(SmsRequest smsRequest) {
-    sendSms(smsRequest);
+    submitSms(smsRequest).subscribe();
+  }
+
+  /** Each subscription is a separate submission, with its own trace id and latency. */
+  @Override
+  public Mono<SmsDeliveryResult> submitSms(SmsRequest smsRequest) {
+    return Mono.defer(() -> submit(smsRequest));
+  }
+
+  private Mono<SmsDeliveryResult> submit(SmsRequest smsRequest) {
+    String traceId = UUID.randomUUID().toString();
+    LogHelper.logObject(smsRequest, traceId);
+
+    Map<String, Object> payload =
+        Map.of(
+            "destinations",
+            smsRequest.getRecipients(),
+            "src",
+            smsRequest.getSenderId(),
+            "text",
+            smsRequest.getCopy());
+    AtomicInteger attempts = new AtomicInteger();
+    long startedAt = System.nanoTime();
+
+    return Mono.defer(
+            () -> {
+              attempts.incrementAndGet();
+              return post(payload);
+            })
+        .retryWhen(
+            Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMillis))
+                .maxBackoff(Duration.ofMillis(maxRetryBackoffMillis))
+                .jitter(0.5)
+                .filter(VansoSms::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+        .map(
+            response ->
+                result(traceId, SmsDeliveryStatus.SUBMITTED, attempts, startedAt, response, null))
+        .onErrorResume(
+            e ->
+                Mono.just(
+                    result(traceId, statusOf(e), attempts, startedAt, null, errorMessage(e))))
+        .doOnNext(this::record);
+  }
+
+  private Mono<String> post(Map<String, Object> payload) {
+    return webClient
+        .post()
+        .uri(vansoSmsUrl)
+        .headers(
+            headers -> {
+              headers.setBasicAuth(username, password);
+              headers.setContentType(MediaType.APPLICATION_JSON);
+            })
+        .bodyValue(payload)
+        .retrieve()
+        .bodyToMono(String.class)
+        .defaultIfEmpty("")
+        .timeout(Duration.ofMillis(acquireTimeoutMillis + requestTimeoutMillis));
+  }
+
+  /** True only for failures where Vanso cannot have accepted the message. */
+  private static boolean isRetryable(Throwable e) {
+    if (e instanceof WebClientResponseException responseException) {
+      int status = responseException.getStatusCode().value();
+      return status == 429 || status == 503;
+    }
+    return e instanceof WebClientRequestException
+        && NestedExceptionUtils.getRootCause(e) instanceof ConnectException;
+  }
+
+  private static SmsDeliveryStatus statusOf(Throwable e) {
+    if (isPoolExhausted(e)) {
+      return SmsDeliveryStatus.POOL_EXHAUSTED;
+    }
+    Throwable rootCause = NestedExceptionUtils.getRootCause(e);
+    // the response timeout of the HTTP client raises Netty's ReadTimeoutException
+    if (e instanceof TimeoutException
+        || rootCause instanceof TimeoutException
+        || rootCause instanceof ReadTimeoutException) {
+      return SmsDeliveryStatus.TIMED_OUT;
+    }
+    if (e instanceof WebClientResponseException responseException
+        && responseException.getStatusCode().is4xxClientError()
+        && responseException.getStatusCode().value() != 429) {
+      return SmsDeliveryStatus.REJECTED;
+    }
+    return SmsDeliveryStatus.FAILED;
+  }
+
+  /**
+   * True when the connection pool refused the submission. Reactor Netty shades its pool exceptions
+   * into an internal package, so they are matched by name; the acquire timeout one is also a {@link
+   * TimeoutException}, hence the check before the timeout one.
+   */
+  private static boolean isPoolExhausted(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      String name = cause.getClass().getSimpleName();
+      if (name.equals("PoolAcquireTimeoutException")
+          || name.equals("PoolAcquirePendingLimitException")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String errorMessage(Throwable e) {
+    if (e instanceof WebClientResponseException responseException) {
+      return responseException.getStatusCode().value()
+          + ": "
+          + responseException.getResponseBodyAsString();
+    }
+    return e.getClass().getSimpleName() + ": " + e.getMessage();
+  }
+
+  private SmsDeliveryResult result(
+      String traceId,
+      SmsDeliveryStatus status,
+      AtomicInteger attempts,
+      long startedAt,
+      String response,
+      String error) {
+    return SmsDeliveryResult.builder()
+        .traceId(traceId)
+        .provider(provider())
+        .status(status)
+        .attempts(attempts.get())
+        .latencyMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+        .providerResponse(response)
+        .error(error)
+        .build();
+  }
+
+  private void record(SmsDeliveryResult result) {
+    Timer.builder(SUBMIT_METRIC)
+        .tag("provider", result.getProvider().name())
+        .tag("status", result.getStatus().name())
+        .register(meterRegistry)
+        .record(result.getLatencyMillis(), TimeUnit.MILLISECONDS);
+    LogHelper.logObject(result, result.getTraceId());
+    if (!result.isSubmitted()) {
+      log.warn(
+          "<<< sms {} after {} attempt(s): {} >>>",
+          result.getStatus(),
+          result.getAttempts(),
+          result.getError());
+    }
   }
 
   @Override
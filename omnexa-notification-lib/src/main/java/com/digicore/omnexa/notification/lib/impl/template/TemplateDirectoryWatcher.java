@@ -0,0 +1,126 @@
+package com.digicore.omnexa.notification.lib.impl.template;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.thymeleaf.TemplateEngine;
+
+/**
+ * Watches the template directory and evicts changed templates from the Thymeleaf template cache.
+ *
+ * <p>Templates are resolved with caching enabled, so each one is read and parsed once. When a file
+ * under the directory is created, modified or deleted, only the cache entry for that template name
+ * is cleared; the next render re-parses it from disk. If the watch service overflows, the whole
+ * template cache is cleared.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Slf4j
+class TemplateDirectoryWatcher implements Closeable {
+
+  private final Path templateDirectory;
+  private final String suffix;
+  private final TemplateEngine templateEngine;
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+  private final Thread watcherThread;
+
+  TemplateDirectoryWatcher(Path templateDirectory, String suffix, TemplateEngine templateEngine)
+      throws IOException {
+    this.templateDirectory = templateDirectory.toAbsolutePath().normalize();
+    this.suffix = suffix;
+    this.templateEngine = templateEngine;
+    this.watchService = FileSystems.getDefault().newWatchService();
+    registerTree(this.templateDirectory);
+
+    this.watcherThread = new Thread(this::watch, "omnexa-template-watcher");
+    this.watcherThread.setDaemon(true);
+    this.watcherThread.start();
+  }
+
+  private void watch() {
+    while (!Thread.currentThread().isInterrupted()) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ClosedWatchServiceException e) {
+        return;
+      }
+
+      Path directory = watchedDirectories.get(key);
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == OVERFLOW || directory == null) {
+          log.info("<<< template watch overflowed, clearing the whole template cache >>>");
+          templateEngine.clearTemplateCache();
+          continue;
+        }
+        onChange(directory.resolve((Path) event.context()), event.kind());
+      }
+
+      if (!key.reset()) {
+        watchedDirectories.remove(key);
+      }
+    }
+  }
+
+  private void onChange(Path path, WatchEvent.Kind<?> kind) {
+    if (kind == ENTRY_CREATE && Files.isDirectory(path)) {
+      try {
+        registerTree(path);
+      } catch (IOException e) {
+        log.warn("<<< could not watch new template directory {} >>>", path, e);
+      }
+      return;
+    }
+
+    String templateName = templateName(path);
+    if (templateName != null) {
+      templateEngine.clearTemplateCacheFor(templateName);
+      log.info("<<< template {} changed, evicted from cache >>>", templateName);
+    }
+  }
+
+  private String templateName(Path path) {
+    String separator = path.getFileSystem().getSeparator();
+    String relativePath = templateDirectory.relativize(path).toString().replace(separator, "/");
+    if (!relativePath.endsWith(suffix)) {
+      return null;
+    }
+    return relativePath.substring(0, relativePath.length() - suffix.length());
+  }
+
+  private void registerTree(Path root) throws IOException {
+    try (Stream<Path> directories = Files.walk(root)) {
+      for (Path directory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+        WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        watchedDirectories.put(key, directory);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    watcherThread.interrupt();
+    watchService.close();
+  }
+}
@@ -5,6 +5,10 @@ import com.digicore.omnexa.notification.lib.contract.template.TemplateEngine;
 import com.digicore.omnexa.notification.lib.contract.template.model.TemplateProvider;
 import com.digicore.omnexa.notification.lib.exception.ExceptionOf;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,17 +29,50 @@ public class ThymeleafTemplate implements TemplateEngine {
   private final SpringTemplateEngine templateEngine;
   private final NotificationPropConfig notificationPropConfig;
 
+  private static final String TEMPLATE_SUFFIX = ".html";
+
+  private TemplateDirectoryWatcher templateDirectoryWatcher;
+
+  /**
+   * Registers the file template resolver. Parsed templates are cached; when hot reload is enabled
+   * the template directory is watched and changed templates are evicted from the cache. If the
+   * directory cannot be watched, caching is turned off so edits are still picked up.
+   */
   @PostConstruct
   public void templateResolver() {
+    boolean cacheable = !notificationPropConfig.isTemplateHotReload() || watchTemplateDirectory();
     FileTemplateResolver resolver = new FileTemplateResolver();
     resolver.setPrefix(notificationPropConfig.getTemplatePath());
-    resolver.setSuffix(".html");
+    resolver.setSuffix(TEMPLATE_SUFFIX);
     resolver.setTemplateMode("HTML5");
     resolver.setOrder(templateEngine.getTemplateResolvers().size());
-    resolver.setCacheable(false);
+    resolver.setCacheable(cacheable);
     templateEngine.addTemplateResolver(resolver);
   }
 
+  private boolean watchTemplateDirectory() {
+    String templatePath = notificationPropConfig.getTemplatePath();
+    if (templatePath == null || !Files.isDirectory(Path.of(templatePath))) {
+      log.warn("<<< template path {} is not a directory, cache disabled >>>", templatePath);
+      return false;
+    }
+    try {
+      templateDirectoryWatcher =
+          new TemplateDirectoryWatcher(Path.of(templatePath), TEMPLATE_SUFFIX, templateEngine);
+      return true;
+    } catch (IOException e) {
+      log.warn("<<< could not watch template path {}, cache disabled >>>", templatePath, e);
+      return false;
+    }
+  }
+
+  @PreDestroy
+  public void stopWatchingTemplates() throws IOException {
+    if (templateDirectoryWatcher != null) {
+      templateDirectoryWatcher.close();
+    }
+  }
+
   @Override
   public String parseTemplate(String templateName, Object placeHolders) {
     try {
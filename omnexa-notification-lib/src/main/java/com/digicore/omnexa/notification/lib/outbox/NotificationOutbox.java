@@ -0,0 +1,73 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A notification waiting to be delivered, written in the same transaction as the business change
+ * that triggered it.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"))
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private NotificationOutboxChannel channel;
+
+  /** Engine to dispatch through: the email channel type, SMS provider or push provider name. */
+  @Column(nullable = false, length = 32)
+  private String provider;
+
+  /** The serialized email, SMS or push request. */
+  @Column(nullable = false, columnDefinition = "LONGTEXT")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private NotificationOutboxStatus status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  private LocalDateTime claimedAt;
+
+  @Column(length = 1000)
+  private String lastError;
+
+  @Column(nullable = false)
+  private LocalDateTime createdDate;
+
+  private LocalDateTime sentDate;
+
+  /** Guards claims: a worker whose claim was released can no longer write to the row. */
+  @Version private long version;
+}
@@ -0,0 +1,12 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+/**
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public enum NotificationOutboxChannel {
+  EMAIL,
+  SMS,
+  PUSH
+}
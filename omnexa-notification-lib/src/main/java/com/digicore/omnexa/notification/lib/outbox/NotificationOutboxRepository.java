@@ -0,0 +1,41 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  /**
+   * Locks up to {@code batchSize} due rows. Rows already locked by another worker are skipped
+   * rather than waited on, so concurrent workers claim disjoint batches.
+   */
+  @Query(
+      value =
+          "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now"
+              + " ORDER BY next_attempt_at LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<NotificationOutbox> lockDueBatch(
+      @Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+  /**
+   * Returns rows whose worker stopped before recording an outcome to the pending state. The version
+   * is bumped so that a worker still holding such a row can no longer save it.
+   */
+  @Modifying
+  @Query(
+      "UPDATE NotificationOutbox o SET o.status = "
+          + "com.digicore.omnexa.notification.lib.outbox.NotificationOutboxStatus.PENDING,"
+          + " o.claimedAt = null, o.version = o.version + 1 WHERE o.status = "
+          + "com.digicore.omnexa.notification.lib.outbox.NotificationOutboxStatus.PROCESSING"
+          + " AND o.claimedAt < :claimedBefore")
+  int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+}
@@ -0,0 +1,124 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierProvider;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierRequest;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.digicore.omnexa.notification.lib.exception.ExceptionOf;
+import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues notifications in the {@code notification_outbox} table instead of sending them inline.
+ *
+ * <p>Each enqueue is a single insert that joins the caller's transaction, so the notification is
+ * stored only if the business change commits. {@link NotificationOutboxWorker} delivers the rows
+ * through the pluggable engine registries and retries failures.
+ *
+ * <p>Only created when {@code omnexa.notification.outbox.enabled} is set, by services that register
+ * {@link NotificationOutbox} and {@link NotificationOutboxRepository} with their persistence unit.
+ * Business code goes through {@link NotificationSender}, which falls back to inline sending when
+ * the outbox is not enabled.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "omnexa.notification.outbox", name = "enabled")
+public class NotificationOutboxService {
+
+  static final ObjectMapper PAYLOAD_MAPPER =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .addMixIn(EmailRequest.class, EmailRequestPayload.class)
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationPropConfig notificationPropConfig;
+  private final PluggableEmailService pluggableEmailService;
+
+  /**
+   * Queues an email for the configured email channel. Attachments cannot be stored in the outbox;
+   * {@link NotificationSender} sends requests carrying them inline instead.
+   *
+   * <p>Recipient lists longer than the engine sends in one provider request are queued as one row
+   * per batch, so a failed batch is retried on its own without resending the batches that went
+   * out.
+   */
+  @Transactional
+  public void enqueueEmail(EmailRequest emailRequest) {
+    if (!emailRequest.getAttachments().isEmpty()) {
+      throw ExceptionOf.System.InternalError.SERVER_ERROR.exception(
+          "Emails with attachments cannot be queued in the notification outbox");
+    }
+    String provider = notificationPropConfig.getEmailChannelType().name();
+    int batchSize =
+        pluggableEmailService
+            .getEngine(notificationPropConfig.getEmailChannelType())
+            .maxRecipientsPerRequest();
+    List<String> recipients =
+        emailRequest.getRecipients() == null
+            ? List.of()
+            : new ArrayList<>(emailRequest.getRecipients());
+    if (recipients.size() <= batchSize) {
+      enqueue(NotificationOutboxChannel.EMAIL, provider, emailRequest);
+      return;
+    }
+    ObjectNode payload = PAYLOAD_MAPPER.valueToTree(emailRequest);
+    for (int from = 0; from < recipients.size(); from += batchSize) {
+      List<String> batch = recipients.subList(from, Math.min(recipients.size(), from + batchSize));
+      payload.set("recipients", PAYLOAD_MAPPER.valueToTree(batch));
+      enqueue(NotificationOutboxChannel.EMAIL, provider, payload);
+    }
+  }
+
+  @Transactional
+  public void enqueueSms(SmsRequest smsRequest) {
+    enqueue(
+        NotificationOutboxChannel.SMS, notificationPropConfig.getSmsProvider().name(), smsRequest);
+  }
+
+  @Transactional
+  public void enqueuePush(PushNotifierRequest pushNotifierRequest, PushNotifierProvider provider) {
+    enqueue(NotificationOutboxChannel.PUSH, provider.name(), pushNotifierRequest);
+  }
+
+  private void enqueue(NotificationOutboxChannel channel, String provider, Object request) {
+    LocalDateTime now = LocalDateTime.now();
+    NotificationOutbox outbox = new NotificationOutbox();
+    outbox.setChannel(channel);
+    outbox.setProvider(provider);
+    outbox.setPayload(serialize(request));
+    outbox.setStatus(NotificationOutboxStatus.PENDING);
+    outbox.setNextAttemptAt(now);
+    outbox.setCreatedDate(now);
+    notificationOutboxRepository.save(outbox);
+  }
+
+  private static String serialize(Object request) {
+    try {
+      return PAYLOAD_MAPPER.writeValueAsString(request);
+    } catch (JsonProcessingException e) {
+      throw ExceptionOf.System.InternalError.SERVER_ERROR.exception(e);
+    }
+  }
+
+  @JsonIgnoreProperties("attachments")
+  private abstract static class EmailRequestPayload {}
+}
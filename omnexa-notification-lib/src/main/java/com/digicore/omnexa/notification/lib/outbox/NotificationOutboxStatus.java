@@ -0,0 +1,18 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+/**
+ * Delivery state of a {@link NotificationOutbox} row.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+public enum NotificationOutboxStatus {
+  /** Waiting for its next attempt. */
+  PENDING,
+  /** Claimed by a delivery worker. */
+  PROCESSING,
+  SENT,
+  /** Retries exhausted; kept for inspection and manual replay. */
+  DEAD_LETTER
+}
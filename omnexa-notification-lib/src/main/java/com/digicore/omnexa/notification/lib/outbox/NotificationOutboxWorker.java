@@ -0,0 +1,246 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import static com.digicore.omnexa.notification.lib.outbox.NotificationOutboxService.PAYLOAD_MAPPER;
+
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailChannelType;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierProvider;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierRequest;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsProvider;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
+import com.digicore.omnexa.notification.lib.service.PluggablePushNotifierService;
+import com.digicore.omnexa.notification.lib.service.PluggableSmsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pool of delivery workers for the notification outbox.
+ *
+ * <p>Each worker claims a batch of due rows with {@code SELECT ... FOR UPDATE SKIP LOCKED}, marks
+ * them as processing and commits, so the row locks are held only for the claim. The batch is then
+ * dispatched through the pluggable engine registries outside any transaction. Each row's claim is
+ * renewed just before it is sent, so only a single send has to fit in {@link
+ * NotificationPropConfig.Outbox#getClaimTimeoutMs()}, and each outcome is recorded on its own.
+ * Claims and outcomes are versioned writes: once a claim has been released as abandoned, the
+ * worker that held it can neither send the row nor overwrite the state written by the next one.
+ *
+ * <p>Failed rows are retried with exponential backoff and jitter until {@link
+ * NotificationPropConfig.Outbox#getMaxAttempts()} is reached, after which they are dead-lettered.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "omnexa.notification.outbox", name = "enabled")
+@Lazy(false) // nothing injects the worker, so it would never start under lazy initialization
+public class NotificationOutboxWorker {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final PluggableEmailService pluggableEmailService;
+  private final PluggableSmsService pluggableSmsService;
+  private final PluggablePushNotifierService pluggablePushNotifierService;
+  private final NotificationPropConfig.Outbox outboxConfig;
+  private final TransactionTemplate transactionTemplate;
+
+  private ScheduledExecutorService scheduler;
+  private volatile boolean stopped;
+
+  public NotificationOutboxWorker(
+      NotificationOutboxRepository notificationOutboxRepository,
+      PluggableEmailService pluggableEmailService,
+      PluggableSmsService pluggableSmsService,
+      PluggablePushNotifierService pluggablePushNotifierService,
+      NotificationPropConfig notificationPropConfig,
+      PlatformTransactionManager transactionManager) {
+    this.notificationOutboxRepository = notificationOutboxRepository;
+    this.pluggableEmailService = pluggableEmailService;
+    this.pluggableSmsService = pluggableSmsService;
+    this.pluggablePushNotifierService = pluggablePushNotifierService;
+    this.outboxConfig = notificationPropConfig.getOutbox();
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @PostConstruct
+  public void start() {
+    int workers = Math.max(1, outboxConfig.getWorkers());
+    AtomicInteger threadCount = new AtomicInteger();
+    scheduler =
+        Executors.newScheduledThreadPool(
+            workers + 1,
+            runnable -> {
+              Thread thread =
+                  new Thread(
+                      runnable, "omnexa-notification-outbox-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    for (int i = 0; i < workers; i++) {
+      scheduler.scheduleWithFixedDelay(
+          this::drain, 0, outboxConfig.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    scheduler.scheduleWithFixedDelay(
+        this::releaseStaleClaims,
+        outboxConfig.getClaimTimeoutMs(),
+        outboxConfig.getClaimTimeoutMs(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    stopped = true;
+    if (scheduler != null) {
+      scheduler.shutdown();
+      scheduler.awaitTermination(30, TimeUnit.SECONDS);
+    }
+  }
+
+  /** Claims and delivers batches until a poll returns less than a full batch. */
+  void drain() {
+    try {
+      List<NotificationOutbox> batch;
+      do {
+        batch = claimBatch();
+        batch.forEach(this::deliver);
+      } while (batch.size() >= outboxConfig.getBatchSize() && !stopped);
+    } catch (Exception e) {
+      log.error("<<< notification outbox poll failed >>>", e);
+    }
+  }
+
+  private List<NotificationOutbox> claimBatch() {
+    return transactionTemplate.execute(
+        status -> {
+          LocalDateTime now = LocalDateTime.now();
+          List<NotificationOutbox> batch =
+              notificationOutboxRepository.lockDueBatch(now, outboxConfig.getBatchSize());
+          batch.forEach(
+              outbox -> {
+                outbox.setStatus(NotificationOutboxStatus.PROCESSING);
+                outbox.setClaimedAt(now);
+              });
+          return notificationOutboxRepository.saveAll(batch);
+        });
+  }
+
+  private void deliver(NotificationOutbox claimed) {
+    NotificationOutbox outbox = renewClaim(claimed);
+    if (outbox == null) {
+      return;
+    }
+    try {
+      dispatch(outbox);
+      outbox.setStatus(NotificationOutboxStatus.SENT);
+      outbox.setSentDate(LocalDateTime.now());
+      outbox.setLastError(null);
+    } catch (Exception e) {
+      recordFailure(outbox, e);
+    }
+    outbox.setAttempts(outbox.getAttempts() + 1);
+    outbox.setClaimedAt(null);
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> notificationOutboxRepository.save(outbox));
+    } catch (OptimisticLockingFailureException e) {
+      log.warn(
+          "<<< notification outbox {} claim was released during the send, outcome {} dropped >>>",
+          outbox.getId(),
+          outbox.getStatus());
+    }
+  }
+
+  /**
+   * Restamps the claim of a row about to be sent. Returns {@code null} when the claim has been
+   * released in the meantime, in which case the row belongs to whoever claims it next.
+   */
+  private NotificationOutbox renewClaim(NotificationOutbox outbox) {
+    outbox.setClaimedAt(LocalDateTime.now());
+    try {
+      return transactionTemplate.execute(status -> notificationOutboxRepository.save(outbox));
+    } catch (OptimisticLockingFailureException e) {
+      log.warn("<<< notification outbox {} claim was released, skipping it >>>", outbox.getId());
+      return null;
+    }
+  }
+
+  private void dispatch(NotificationOutbox outbox) throws IOException {
+    String payload = outbox.getPayload();
+    switch (outbox.getChannel()) {
+      case EMAIL ->
+          pluggableEmailService
+              .getEngine(EmailChannelType.valueOf(outbox.getProvider()))
+              .sendEmail(PAYLOAD_MAPPER.readValue(payload, EmailRequest.class));
+      case SMS ->
+          pluggableSmsService
+              .getEngine(SmsProvider.valueOf(outbox.getProvider()))
+              .sendSms(PAYLOAD_MAPPER.readValue(payload, SmsRequest.class));
+      case PUSH ->
+          pluggablePushNotifierService
+              .getEngine(PushNotifierProvider.valueOf(outbox.getProvider()))
+              .sendPush(PAYLOAD_MAPPER.readValue(payload, PushNotifierRequest.class));
+    }
+  }
+
+  private void recordFailure(NotificationOutbox outbox, Exception e) {
+    int attempt = outbox.getAttempts() + 1;
+    outbox.setLastError(StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH));
+    if (attempt >= outboxConfig.getMaxAttempts()) {
+      outbox.setStatus(NotificationOutboxStatus.DEAD_LETTER);
+      log.error(
+          "<<< notification outbox {} dead-lettered after {} attempts >>>",
+          outbox.getId(),
+          attempt,
+          e);
+      return;
+    }
+    outbox.setStatus(NotificationOutboxStatus.PENDING);
+    outbox.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(attempt))));
+    log.warn("<<< notification outbox {} attempt {} failed, retrying >>>", outbox.getId(), attempt);
+  }
+
+  /** Exponential backoff with jitter: between half and all of {@code initial * 2^(attempt-1)}. */
+  private long backoffMillis(int attempt) {
+    long ceiling =
+        Math.min(
+            outboxConfig.getMaxBackoffMs(),
+            outboxConfig.getInitialBackoffMs() << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+  }
+
+  void releaseStaleClaims() {
+    try {
+      LocalDateTime cutoff =
+          LocalDateTime.now().minus(Duration.ofMillis(outboxConfig.getClaimTimeoutMs()));
+      Integer released =
+          transactionTemplate.execute(
+              status -> notificationOutboxRepository.releaseStaleClaims(cutoff));
+      if (released != null && released > 0) {
+        log.warn("<<< released {} abandoned notification outbox claims >>>", released);
+      }
+    } catch (Exception e) {
+      log.error("<<< could not release abandoned notification outbox claims >>>", e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import com.digicore.omnexa.notification.lib.contract.email.EmailEngine;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.PushNotifierEngine;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierProvider;
+import com.digicore.omnexa.notification.lib.contract.pushnotifier.model.PushNotifierRequest;
+import com.digicore.omnexa.notification.lib.contract.sms.SmsEngine;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
+import com.digicore.omnexa.notification.lib.service.PluggablePushNotifierService;
+import com.digicore.omnexa.notification.lib.service.PluggableSmsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Entry point for sending notifications from business code.
+ *
+ * <p>When the service enables the outbox ({@code omnexa.notification.outbox.enabled}), requests are
+ * queued through {@link NotificationOutboxService} and delivered by {@link
+ * NotificationOutboxWorker}. Otherwise they are sent inline through the async engine methods: after
+ * the caller's transaction commits when one is active, so a rolled back change sends nothing, and
+ * immediately when there is none.
+ *
+ * <p>Emails with attachments are always sent inline. The outbox stores requests as JSON and the
+ * attachments are uploaded files that only live for the duration of the request.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSender {
+
+  private static final boolean TRANSACTIONS_PRESENT =
+      ClassUtils.isPresent(
+          "org.springframework.transaction.support.TransactionSynchronizationManager",
+          NotificationSender.class.getClassLoader());
+
+  private final ObjectProvider<NotificationOutboxService> notificationOutboxService;
+  private final PluggableEmailService pluggableEmailService;
+  private final PluggableSmsService pluggableSmsService;
+  private final PluggablePushNotifierService pluggablePushNotifierService;
+
+  public void sendEmail(EmailRequest emailRequest) {
+    NotificationOutboxService outbox = notificationOutboxService.getIfAvailable();
+    if (outbox != null && emailRequest.getAttachments().isEmpty()) {
+      outbox.enqueueEmail(emailRequest);
+      return;
+    }
+    EmailEngine engine =
+        pluggableEmailService.getEngine(
+            pluggableEmailService.getNotificationPropConfig().getEmailChannelType());
+    afterCommit(() -> engine.sendEmailAsync(emailRequest));
+  }
+
+  public void sendSms(SmsRequest smsRequest) {
+    NotificationOutboxService outbox = notificationOutboxService.getIfAvailable();
+    if (outbox != null) {
+      outbox.enqueueSms(smsRequest);
+      return;
+    }
+    SmsEngine engine =
+        pluggableSmsService.getEngine(
+            pluggableEmailService.getNotificationPropConfig().getSmsProvider());
+    afterCommit(() -> engine.sendSmsAsync(smsRequest));
+  }
+
+  public void sendPush(PushNotifierRequest pushNotifierRequest, PushNotifierProvider provider) {
+    NotificationOutboxService outbox = notificationOutboxService.getIfAvailable();
+    if (outbox != null) {
+      outbox.enqueuePush(pushNotifierRequest, provider);
+      return;
+    }
+    PushNotifierEngine engine = pluggablePushNotifierService.getEngine(provider);
+    afterCommit(() -> engine.sendPushAsync(pushNotifierRequest));
+  }
+
+  private static void afterCommit(Runnable send) {
+    if (TRANSACTIONS_PRESENT && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              send.run();
+            }
+          });
+      return;
+    }
+    send.run();
+  }
+}
@@ -0,0 +1,229 @@
+package com.digicore.omnexa.notification.lib.helper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+/**
+ * Concurrency tests for {@link GoogleAccessTokenProvider}: however many threads and nodes find the
+ * token due at once, it is minted once per refresh window. Redis is stood in by an in-memory bucket
+ * and a lock with the same owner-thread semantics as {@link RLock}.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+class GoogleAccessTokenProviderTest {
+
+  private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+  private static final int THREADS_PER_NODE = 16;
+
+  private final ExecutorService callers = Executors.newFixedThreadPool(2 * THREADS_PER_NODE);
+  private final AtomicInteger mints = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+  }
+
+  @Test
+  void concurrentSendersOnOneNodeMintOnce() throws Exception {
+    GoogleAccessTokenProvider provider =
+        new GoogleAccessTokenProvider(
+            credentials(Duration.ofHours(1)), null, REFRESH_AHEAD, Duration.ofSeconds(30));
+
+    Callable<String> send = provider::getAccessToken;
+    List<String> tokens = runConcurrently(Collections.nCopies(THREADS_PER_NODE, send));
+
+    assertEquals(1, mints.get());
+    assertTrue(tokens.stream().allMatch(tokens.get(0)::equals));
+  }
+
+  @Test
+  void nodesRefreshingTheSameWindowMintOnce() throws Exception {
+    SharedAccessTokenStore sharedTokenStore =
+        new SharedAccessTokenStore(sharedRedis(), "omnexa:notification:fcm-access-token:test");
+    // the first mint on each node returns a token that is already inside the refresh window
+    GoogleAccessTokenProvider first =
+        new GoogleAccessTokenProvider(
+            credentials(Duration.ofMinutes(3), Duration.ofHours(1)),
+            sharedTokenStore,
+            REFRESH_AHEAD,
+            Duration.ofSeconds(30));
+    GoogleAccessTokenProvider second =
+        new GoogleAccessTokenProvider(
+            credentials(Duration.ofMinutes(3), Duration.ofHours(1)),
+            sharedTokenStore,
+            REFRESH_AHEAD,
+            Duration.ofSeconds(30));
+    first.getAccessToken();
+    second.getAccessToken();
+    mints.set(0);
+
+    List<Callable<String>> checks = new ArrayList<>();
+    for (int i = 0; i < 2 * THREADS_PER_NODE; i++) {
+      GoogleAccessTokenProvider node = i % 2 == 0 ? first : second;
+      checks.add(
+          () -> {
+            node.refreshIfDue();
+            return node.getAccessToken();
+          });
+    }
+    runConcurrently(checks);
+    // the node that lost the race adopts the published token on its next check
+    first.refreshIfDue();
+    second.refreshIfDue();
+
+    assertEquals(1, mints.get());
+    assertEquals(first.getAccessToken(), second.getAccessToken());
+  }
+
+  @Test
+  void serviceAccountsDoNotShareTokens() throws Exception {
+    RedissonClient redis = sharedRedis();
+    GoogleCredentials merchant = serviceAccount("fcm@merchant.iam.gserviceaccount.com");
+    GoogleCredentials backOffice = serviceAccount("fcm@backoffice.iam.gserviceaccount.com");
+    assertNotEquals(
+        GoogleAccessTokenProvider.sharedTokenKey(merchant),
+        GoogleAccessTokenProvider.sharedTokenKey(backOffice));
+
+    GoogleAccessTokenProvider first = provider(merchant, redis);
+    GoogleAccessTokenProvider second = provider(backOffice, redis);
+
+    assertNotEquals(first.getAccessToken(), second.getAccessToken());
+    assertEquals(2, mints.get());
+    // a node on the same account adopts the published token
+    assertEquals(first.getAccessToken(), provider(merchant, redis).getAccessToken());
+    assertEquals(2, mints.get());
+  }
+
+  private static GoogleAccessTokenProvider provider(
+      GoogleCredentials credentials, RedissonClient redis) {
+    return new GoogleAccessTokenProvider(
+        credentials,
+        new SharedAccessTokenStore(redis, GoogleAccessTokenProvider.sharedTokenKey(credentials)),
+        REFRESH_AHEAD,
+        Duration.ofSeconds(30));
+  }
+
+  private GoogleCredentials serviceAccount(String clientEmail) throws Exception {
+    ServiceAccountCredentials credentials = mock(ServiceAccountCredentials.class);
+    when(credentials.getClientEmail()).thenReturn(clientEmail);
+    return stubRefresh(credentials, Duration.ofHours(1));
+  }
+
+  /** Credentials whose successive refreshes yield tokens valid for the given durations. */
+  private GoogleCredentials credentials(Duration... validities) throws Exception {
+    return stubRefresh(mock(GoogleCredentials.class), validities);
+  }
+
+  private GoogleCredentials stubRefresh(GoogleCredentials credentials, Duration... validities)
+      throws Exception {
+    AtomicReference<AccessToken> current = new AtomicReference<>();
+    AtomicInteger refreshes = new AtomicInteger();
+    doAnswer(
+            invocation -> {
+              int refresh = refreshes.getAndIncrement();
+              mints.incrementAndGet();
+              Duration validity = validities[Math.min(refresh, validities.length - 1)];
+              current.set(
+                  new AccessToken(
+                      "token-" + System.identityHashCode(credentials) + "-" + refresh,
+                      Date.from(Instant.now().plus(validity))));
+              return null;
+            })
+        .when(credentials)
+        .refresh();
+    when(credentials.getAccessToken()).thenAnswer(invocation -> current.get());
+    return credentials;
+  }
+
+  /** A Redis stand-in with one bucket and one lock per name. */
+  private static RedissonClient sharedRedis() {
+    Map<String, RBucket<String>> buckets = new ConcurrentHashMap<>();
+    Map<String, RLock> locks = new ConcurrentHashMap<>();
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    doAnswer(invocation -> buckets.computeIfAbsent(invocation.getArgument(0), name -> bucket()))
+        .when(redissonClient)
+        .getBucket(anyString(), any(Codec.class));
+    when(redissonClient.getLock(anyString()))
+        .thenAnswer(invocation -> locks.computeIfAbsent(invocation.getArgument(0), name -> lock()));
+    return redissonClient;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RBucket<String> bucket() {
+    AtomicReference<String> value = new AtomicReference<>();
+    RBucket<String> bucket = mock(RBucket.class);
+    when(bucket.get()).thenAnswer(invocation -> value.get());
+    doAnswer(
+            invocation -> {
+              value.set(invocation.getArgument(0));
+              return null;
+            })
+        .when(bucket)
+        .set(anyString(), any(Duration.class));
+    return bucket;
+  }
+
+  private static RLock lock() {
+    ReentrantLock clusterLock = new ReentrantLock();
+    RLock refreshLock = mock(RLock.class);
+    when(refreshLock.tryLock()).thenAnswer(invocation -> clusterLock.tryLock());
+    doAnswer(
+            invocation -> {
+              clusterLock.unlock();
+              return null;
+            })
+        .when(refreshLock)
+        .unlock();
+    return refreshLock;
+  }
+
+  /** Starts all {@code calls} at the same instant and returns their results. */
+  private List<String> runConcurrently(List<Callable<String>> calls) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<String>> futures = new ArrayList<>();
+    for (Callable<String> call : calls) {
+      futures.add(
+          callers.submit(
+              () -> {
+                start.await();
+                return call.call();
+              }));
+    }
+    start.countDown();
+    List<String> results = new ArrayList<>();
+    for (Future<String> future : futures) {
+      results.add(future.get());
+    }
+    return results;
+  }
+}
@@ -0,0 +1,150 @@
+package com.digicore.omnexa.notification.lib.impl.email;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.exception.RequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * Tests {@link SendGridEmail} and {@link SendGridTransport} against a local HTTP server standing in
+ * for the SendGrid mail send API.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+class SendGridTransportTest {
+
+  private static final String API_KEY = "SG.test";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+  private final Queue<String> authorizations = new ConcurrentLinkedQueue<>();
+  private final Queue<JsonNode> bodies = new ConcurrentLinkedQueue<>();
+
+  private HttpServer sendGrid;
+  private SendGridTransport sendGridTransport;
+  private SendGridEmail sendGridEmail;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    sendGrid = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    sendGrid.createContext(
+        "/v3/mail/send",
+        exchange -> {
+          try (InputStream body = exchange.getRequestBody()) {
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            bodies.add(OBJECT_MAPPER.readTree(body));
+          }
+          Integer status = statuses.poll();
+          exchange.sendResponseHeaders(status == null ? 202 : status, -1);
+          exchange.close();
+        });
+    sendGrid.start();
+    sendGridTransport =
+        new SendGridTransport(
+            API_KEY,
+            "http://127.0.0.1:" + sendGrid.getAddress().getPort() + "/",
+            4,
+            2,
+            1000,
+            1000,
+            5000);
+    sendGridEmail = new SendGridEmail(sendGridTransport);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    sendGridTransport.destroy();
+    sendGrid.stop(0);
+  }
+
+  @Test
+  void recipientsAreSentInBatchesOfOneRequestEach() {
+    sendGridEmail.sendEmail(email(2500));
+
+    assertEquals(3, bodies.size());
+    assertTrue(authorizations.stream().allMatch(("Bearer " + API_KEY)::equals));
+    assertEquals(
+        List.of(1000, 1000, 500),
+        bodies.stream().map(body -> body.get("personalizations").size()).toList());
+    Set<String> delivered =
+        bodies.stream()
+            .flatMap(body -> body.get("personalizations").findValuesAsText("email").stream())
+            .collect(Collectors.toSet());
+    assertEquals(2500, delivered.size());
+  }
+
+  @Test
+  void attachmentsAreAppendedToTheMailFields() {
+    EmailRequest email = email(1);
+    byte[] statement = "%PDF-1.7 statement".getBytes(StandardCharsets.UTF_8);
+    email.setAttachments(
+        List.of(
+            new MockMultipartFile("statement", "statement.pdf", "application/pdf", statement),
+            new MockMultipartFile("notes", "notes.txt", "text/plain", new byte[0])));
+
+    sendGridEmail.sendEmail(email);
+
+    JsonNode body = bodies.remove();
+    assertEquals("Statement", body.get("subject").asText());
+    assertEquals("noreply@digicoreltds.com", body.get("from").get("email").asText());
+    JsonNode attachments = body.get("attachments");
+    assertEquals(2, attachments.size());
+    assertEquals("statement.pdf", attachments.get(0).get("filename").asText());
+    assertEquals("application/pdf", attachments.get(0).get("type").asText());
+    assertArrayEquals(
+        statement, Base64.getDecoder().decode(attachments.get(0).get("content").asText()));
+    assertEquals("notes.txt", attachments.get(1).get("filename").asText());
+  }
+
+  @Test
+  void aFailedBatchStopsTheSend() {
+    statuses.add(202);
+    statuses.add(500);
+
+    assertThrows(RequestException.class, () -> sendGridEmail.sendEmail(email(2500)));
+    assertEquals(2, bodies.size());
+  }
+
+  @Test
+  void rejectedRequestsFail() {
+    statuses.add(400);
+
+    IOException e =
+        assertThrows(
+            IOException.class, () -> sendGridTransport.send("{\"subject\":\"Statement\"}", null));
+    assertTrue(e.getMessage().contains("400"));
+  }
+
+  private static EmailRequest email(int recipients) {
+    return EmailRequest.builder()
+        .sender("noreply@digicoreltds.com")
+        .recipients(
+            IntStream.range(0, recipients)
+                .mapToObj(i -> "user" + i + "@digicoreltds.com")
+                .collect(Collectors.toCollection(LinkedHashSet::new)))
+        .subject("Statement")
+        .copy("Your statement is attached")
+        .build();
+  }
+}
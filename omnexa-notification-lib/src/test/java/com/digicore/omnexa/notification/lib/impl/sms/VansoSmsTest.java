@@ -0,0 +1,209 @@
+package com.digicore.omnexa.notification.lib.impl.sms;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsDeliveryResult;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsDeliveryStatus;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests {@link VansoSms} against a local HTTP server standing in for Vanso. Each queued reply is
+ * used for one request; once the queue is empty the server accepts the message.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+class VansoSmsTest {
+
+  private static final long REQUEST_TIMEOUT_MS = 500;
+
+  private final Queue<Reply> replies = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger requests = new AtomicInteger();
+  private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private HttpServer vanso;
+  private VansoSms vansoSms;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    vanso = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    vanso.setExecutor(serverThreads);
+    vanso.createContext("/rest/sms/submit/bulk", this::handle);
+    vanso.start();
+    vansoSms = vansoSms(20);
+  }
+
+  @AfterEach
+  void tearDown() {
+    vansoSms.shutdown();
+    vanso.stop(0);
+    serverThreads.shutdownNow();
+  }
+
+  @Test
+  void acceptedMessagesAreSubmitted() {
+    SmsDeliveryResult result = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.SUBMITTED, result.getStatus());
+    assertEquals(1, result.getAttempts());
+    assertEquals("accepted", result.getProviderResponse());
+    assertEquals(1, submitTimer(SmsDeliveryStatus.SUBMITTED));
+  }
+
+  @Test
+  void unavailableProvidersAreRetried() {
+    replies.add(new Reply(503, Duration.ZERO));
+    replies.add(new Reply(429, Duration.ZERO));
+
+    SmsDeliveryResult result = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.SUBMITTED, result.getStatus());
+    assertEquals(3, result.getAttempts());
+    assertEquals(3, requests.get());
+  }
+
+  @Test
+  void gatewayErrorsAreNotRetried() {
+    replies.add(new Reply(502, Duration.ZERO));
+
+    SmsDeliveryResult result = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.FAILED, result.getStatus());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void clientErrorsAreRejected() {
+    replies.add(new Reply(400, Duration.ZERO));
+
+    SmsDeliveryResult result = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.REJECTED, result.getStatus());
+    assertTrue(result.getError().startsWith("400"));
+  }
+
+  @Test
+  void slowResponsesTimeOutWithoutRetrying() {
+    replies.add(new Reply(200, Duration.ofMillis(4 * REQUEST_TIMEOUT_MS)));
+
+    SmsDeliveryResult result = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.TIMED_OUT, result.getStatus());
+    assertEquals(1, result.getAttempts());
+    assertEquals(1, submitTimer(SmsDeliveryStatus.TIMED_OUT));
+  }
+
+  @Test
+  void submissionsWaitingTooLongForAConnectionReportThePool() {
+    vansoSms.shutdown();
+    vansoSms = vansoSms(1);
+    replies.add(new Reply(200, Duration.ofMillis(REQUEST_TIMEOUT_MS / 2)));
+
+    Mono<SmsDeliveryResult> holdsTheConnection = vansoSms.submitSms(sms()).cache();
+    holdsTheConnection.subscribe();
+    SmsDeliveryResult waiting = vansoSms.submitSms(sms()).block();
+
+    assertEquals(SmsDeliveryStatus.POOL_EXHAUSTED, waiting.getStatus());
+    assertEquals(SmsDeliveryStatus.SUBMITTED, holdsTheConnection.block().getStatus());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void eachSubscriptionIsASeparateSubmission() {
+    Mono<SmsDeliveryResult> submission = vansoSms.submitSms(sms());
+
+    SmsDeliveryResult first = submission.block();
+    SmsDeliveryResult second = submission.block();
+
+    assertNotEquals(first.getTraceId(), second.getTraceId());
+    assertEquals(2, requests.get());
+  }
+
+  @SuppressWarnings("unchecked")
+  private VansoSms vansoSms(int maxConcurrency) {
+    ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    VansoSms engine = new VansoSms(meterRegistryProvider);
+    ReflectionTestUtils.setField(engine, "username", "NG.test");
+    ReflectionTestUtils.setField(engine, "password", "secret");
+    ReflectionTestUtils.setField(
+        engine,
+        "vansoSmsUrl",
+        "http://127.0.0.1:" + vanso.getAddress().getPort() + "/rest/sms/submit/bulk");
+    ReflectionTestUtils.setField(engine, "maxConcurrency", maxConcurrency);
+    ReflectionTestUtils.setField(engine, "maxPending", 10);
+    ReflectionTestUtils.setField(engine, "acquireTimeoutMillis", REQUEST_TIMEOUT_MS / 10);
+    ReflectionTestUtils.setField(engine, "connectTimeoutMillis", 1000);
+    ReflectionTestUtils.setField(engine, "requestTimeoutMillis", REQUEST_TIMEOUT_MS);
+    ReflectionTestUtils.setField(engine, "maxRetries", 3);
+    ReflectionTestUtils.setField(engine, "retryBackoffMillis", 10L);
+    ReflectionTestUtils.setField(engine, "maxRetryBackoffMillis", 50L);
+    engine.initialize();
+    return engine;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (InputStream body = exchange.getRequestBody()) {
+      body.readAllBytes();
+    }
+    requests.incrementAndGet();
+    Reply reply = replies.poll();
+    if (reply == null) {
+      reply = new Reply(200, Duration.ZERO);
+    }
+    try {
+      Thread.sleep(reply.delay().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    byte[] response =
+        (reply.status() == 200 ? "accepted" : "error").getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(reply.status(), response.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private long submitTimer(SmsDeliveryStatus status) {
+    return meterRegistry
+        .timer("omnexa.sms.submit", "provider", "VANSO", "status", status.name())
+        .count();
+  }
+
+  private static SmsRequest sms() {
+    return SmsRequest.builder()
+        .recipients(Set.of("2348030000000"))
+        .senderId("Omnexa")
+        .copy("Your code is 123456")
+        .build();
+  }
+
+  private record Reply(int status, Duration delay) {}
+}
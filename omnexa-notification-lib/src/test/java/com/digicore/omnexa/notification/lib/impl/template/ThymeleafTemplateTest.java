@@ -0,0 +1,101 @@
+package com.digicore.omnexa.notification.lib.impl.template;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+/**
+ * Tests that {@link ThymeleafTemplate} caches parsed templates and that {@link
+ * TemplateDirectoryWatcher} evicts a template once its file changes.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+class ThymeleafTemplateTest {
+
+  private static final long WATCH_TIMEOUT_MS = 10_000;
+
+  @TempDir Path templateDirectory;
+
+  private SpringTemplateEngine templateEngine;
+  private ThymeleafTemplate thymeleafTemplate;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    write("welcome.html", "<p th:text=\"'Hello ' + ${firstName}\"></p>");
+    templateEngine = new SpringTemplateEngine();
+    NotificationPropConfig notificationPropConfig = new NotificationPropConfig();
+    notificationPropConfig.setTemplatePath(templateDirectory + "/");
+    thymeleafTemplate = new ThymeleafTemplate(templateEngine, notificationPropConfig);
+    thymeleafTemplate.templateResolver();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    thymeleafTemplate.stopWatchingTemplates();
+  }
+
+  @Test
+  void renderedTemplatesAreCached() {
+    assertEquals("<p>Hello Jane</p>", render("welcome"));
+    assertEquals(1, cachedTemplates());
+  }
+
+  @Test
+  void editedTemplatesAreEvictedAndRenderedAgain() throws IOException {
+    assertEquals("<p>Hello Jane</p>", render("welcome"));
+
+    write("welcome.html", "<p th:text=\"'Welcome back ' + ${firstName}\"></p>");
+
+    assertEventually(() -> render("welcome").equals("<p>Welcome back Jane</p>"));
+  }
+
+  @Test
+  void templatesInNewDirectoriesAreWatched() throws IOException {
+    Files.createDirectories(templateDirectory.resolve("otp"));
+    write("otp/login.html", "<p th:text=\"'Code for ' + ${firstName}\"></p>");
+    assertEventually(() -> render("otp/login").equals("<p>Code for Jane</p>"));
+
+    write("otp/login.html", "<p th:text=\"'Login code for ' + ${firstName}\"></p>");
+
+    assertEventually(() -> render("otp/login").equals("<p>Login code for Jane</p>"));
+  }
+
+  private String render(String templateName) {
+    return thymeleafTemplate.parseTemplate(
+        templateName, new Context(null, Map.of("firstName", "Jane")));
+  }
+
+  private int cachedTemplates() {
+    return templateEngine.getCacheManager().getTemplateCache().size();
+  }
+
+  private void write(String name, String content) throws IOException {
+    Files.writeString(templateDirectory.resolve(name), content);
+  }
+
+  private static void assertEventually(Supplier<Boolean> condition) {
+    long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MS;
+    while (!condition.get()) {
+      assertTrue(System.currentTimeMillis() < deadline, "template change was not picked up");
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import com.digicore.omnexa.notification.lib.contract.email.EmailEngine;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailChannelType;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
+import com.digicore.omnexa.notification.lib.service.PluggablePushNotifierService;
+import com.digicore.omnexa.notification.lib.service.PluggableSmsService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tests the notification outbox against MySQL, which provides the {@code SKIP LOCKED} claims.
+ *
+ * <p>The tests run outside a test-managed transaction so that enqueues, claims and outcomes commit
+ * the way they do in a service, and clear the table afterwards.
+ *
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+  private static final long INITIAL_BACKOFF_MS = 60_000;
+  private static final int RECIPIENTS_PER_REQUEST = 2;
+
+  @Container
+  @ServiceConnection
+  private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired private NotificationOutboxRepository notificationOutboxRepository;
+  @Autowired private NotificationOutboxService notificationOutboxService;
+  @Autowired private NotificationPropConfig notificationPropConfig;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private EmailEngine emailEngine;
+  private NotificationOutboxWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    emailEngine = mock(EmailEngine.class);
+    PluggableEmailService pluggableEmailService = mock(PluggableEmailService.class);
+    when(pluggableEmailService.getEngine(EmailChannelType.SMTP)).thenReturn(emailEngine);
+    worker =
+        new NotificationOutboxWorker(
+            notificationOutboxRepository,
+            pluggableEmailService,
+            mock(PluggableSmsService.class),
+            mock(PluggablePushNotifierService.class),
+            notificationPropConfig,
+            transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    notificationOutboxRepository.deleteAll();
+  }
+
+  @Test
+  void enqueueJoinsTheCallerTransaction() {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          notificationOutboxService.enqueueEmail(email());
+          status.setRollbackOnly();
+        });
+    assertEquals(0, notificationOutboxRepository.count());
+
+    transactionTemplate.executeWithoutResult(
+        status -> notificationOutboxService.enqueueEmail(email()));
+    NotificationOutbox outbox = single();
+    assertEquals(NotificationOutboxStatus.PENDING, outbox.getStatus());
+    assertEquals(NotificationOutboxChannel.EMAIL, outbox.getChannel());
+    assertEquals(EmailChannelType.SMTP.name(), outbox.getProvider());
+  }
+
+  @Test
+  void longRecipientListsAreQueuedOneBatchPerRow() throws Exception {
+    EmailRequest email = email();
+    email.setRecipients(
+        new LinkedHashSet<>(
+            List.of("a@digicoreltds.com", "b@digicoreltds.com", "c@digicoreltds.com")));
+
+    notificationOutboxService.enqueueEmail(email);
+
+    List<Set<String>> batches = new ArrayList<>();
+    for (NotificationOutbox outbox : notificationOutboxRepository.findAll()) {
+      EmailRequest batch =
+          NotificationOutboxService.PAYLOAD_MAPPER.readValue(
+              outbox.getPayload(), EmailRequest.class);
+      assertEquals(email.getSubject(), batch.getSubject());
+      batches.add(batch.getRecipients());
+    }
+    assertEquals(
+        Set.of(
+            Set.of("a@digicoreltds.com", "b@digicoreltds.com"), Set.of("c@digicoreltds.com")),
+        Set.copyOf(batches));
+  }
+
+  @Test
+  void concurrentClaimsAreDisjoint() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      notificationOutboxService.enqueueEmail(email());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    CountDownLatch firstLocked = new CountDownLatch(1);
+    CountDownLatch secondLocked = new CountDownLatch(1);
+
+    CompletableFuture<Set<Long>> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                transactionTemplate.execute(
+                    status -> {
+                      Set<Long> ids = ids(notificationOutboxRepository.lockDueBatch(now, 6));
+                      firstLocked.countDown();
+                      await(secondLocked);
+                      return ids;
+                    }));
+    assertTrue(firstLocked.await(30, TimeUnit.SECONDS));
+    Set<Long> second =
+        transactionTemplate.execute(
+            status -> ids(notificationOutboxRepository.lockDueBatch(now, 10)));
+    secondLocked.countDown();
+
+    Set<Long> firstIds = first.get(30, TimeUnit.SECONDS);
+    assertEquals(6, firstIds.size());
+    assertEquals(4, second.size());
+    Set<Long> all = new HashSet<>(firstIds);
+    all.addAll(second);
+    assertEquals(10, all.size());
+  }
+
+  @Test
+  void successfulSendsAreMarkedSent() {
+    notificationOutboxService.enqueueEmail(email());
+
+    worker.drain();
+
+    verify(emailEngine).sendEmail(any(EmailRequest.class));
+    NotificationOutbox outbox = single();
+    assertEquals(NotificationOutboxStatus.SENT, outbox.getStatus());
+    assertEquals(1, outbox.getAttempts());
+    assertNotNull(outbox.getSentDate());
+    assertNull(outbox.getClaimedAt());
+  }
+
+  @Test
+  void failedSendsAreRetriedAfterABackoff() {
+    doThrow(new IllegalStateException("smtp down")).when(emailEngine).sendEmail(any());
+    notificationOutboxService.enqueueEmail(email());
+
+    LocalDateTime before = LocalDateTime.now();
+    worker.drain();
+    worker.drain();
+
+    verify(emailEngine, times(1)).sendEmail(any());
+    NotificationOutbox outbox = single();
+    assertEquals(NotificationOutboxStatus.PENDING, outbox.getStatus());
+    assertEquals(1, outbox.getAttempts());
+    assertEquals("smtp down", outbox.getLastError());
+    // jitter keeps the delay between half and all of the initial backoff
+    assertFalse(outbox.getNextAttemptAt().isBefore(before.plusNanos(INITIAL_BACKOFF_MS * 500_000)));
+    assertFalse(outbox.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(60)));
+  }
+
+  @Test
+  void rowsAreDeadLetteredAfterTheLastAttempt() {
+    doThrow(new IllegalStateException("smtp down")).when(emailEngine).sendEmail(any());
+    notificationOutboxService.enqueueEmail(email());
+
+    for (int i = 0; i < MAX_ATTEMPTS + 1; i++) {
+      makeDue();
+      worker.drain();
+    }
+
+    verify(emailEngine, times(MAX_ATTEMPTS)).sendEmail(any());
+    NotificationOutbox outbox = single();
+    assertEquals(NotificationOutboxStatus.DEAD_LETTER, outbox.getStatus());
+    assertEquals(MAX_ATTEMPTS, outbox.getAttempts());
+  }
+
+  @Test
+  void abandonedClaimsAreReleased() {
+    notificationOutboxService.enqueueEmail(email());
+    NotificationOutbox claimed = single();
+    claimed.setStatus(NotificationOutboxStatus.PROCESSING);
+    claimed.setClaimedAt(LocalDateTime.now().minusHours(1));
+    NotificationOutbox abandoned = notificationOutboxRepository.save(claimed);
+
+    worker.releaseStaleClaims();
+
+    NotificationOutbox released = single();
+    assertEquals(NotificationOutboxStatus.PENDING, released.getStatus());
+    assertNull(released.getClaimedAt());
+    // the worker that held the claim can no longer record its outcome
+    abandoned.setStatus(NotificationOutboxStatus.SENT);
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () -> notificationOutboxRepository.save(abandoned));
+  }
+
+  private void makeDue() {
+    NotificationOutbox outbox = single();
+    outbox.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+    notificationOutboxRepository.save(outbox);
+  }
+
+  private NotificationOutbox single() {
+    List<NotificationOutbox> rows = notificationOutboxRepository.findAll();
+    assertEquals(1, rows.size());
+    return rows.get(0);
+  }
+
+  private static Set<Long> ids(List<NotificationOutbox> rows) {
+    Set<Long> ids = new HashSet<>();
+    rows.forEach(row -> ids.add(row.getId()));
+    return ids;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(30, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static EmailRequest email() {
+    return EmailRequest.builder()
+        .recipients(Set.of("jane.adeyemi@digicoreltds.com"))
+        .subject("Onboarding verification")
+        .copy("Welcome")
+        .build();
+  }
+
+  @Configuration
+  @EntityScan(basePackageClasses = NotificationOutbox.class)
+  @EnableJpaRepositories(basePackageClasses = NotificationOutboxRepository.class)
+  static class OutboxTestConfig {
+
+    @Bean
+    NotificationPropConfig notificationPropConfig() {
+      NotificationPropConfig config = new NotificationPropConfig();
+      config.getOutbox().setEnabled(true);
+      config.getOutbox().setBatchSize(10);
+      config.getOutbox().setMaxAttempts(MAX_ATTEMPTS);
+      config.getOutbox().setInitialBackoffMs(INITIAL_BACKOFF_MS);
+      return config;
+    }
+
+    @Bean
+    NotificationOutboxService notificationOutboxService(
+        NotificationOutboxRepository notificationOutboxRepository,
+        NotificationPropConfig notificationPropConfig) {
+      EmailEngine emailEngine = mock(EmailEngine.class);
+      when(emailEngine.maxRecipientsPerRequest()).thenReturn(RECIPIENTS_PER_REQUEST);
+      PluggableEmailService pluggableEmailService = mock(PluggableEmailService.class);
+      when(pluggableEmailService.getEngine(EmailChannelType.SMTP)).thenReturn(emailEngine);
+      return new NotificationOutboxService(
+          notificationOutboxRepository, notificationPropConfig, pluggableEmailService);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.digicore.omnexa.notification.lib.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.digicore.omnexa.notification.lib.config.NotificationPropConfig;
+import com.digicore.omnexa.notification.lib.contract.email.EmailEngine;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailChannelType;
+import com.digicore.omnexa.notification.lib.contract.email.model.EmailRequest;
+import com.digicore.omnexa.notification.lib.contract.sms.SmsEngine;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsProvider;
+import com.digicore.omnexa.notification.lib.contract.sms.model.SmsRequest;
+import com.digicore.omnexa.notification.lib.service.PluggableEmailService;
+import com.digicore.omnexa.notification.lib.service.PluggablePushNotifierService;
+import com.digicore.omnexa.notification.lib.service.PluggableSmsService;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author mosh
+ * @role software engineer
+ * @createdOn 19 Mon Oct, 2026
+ */
+class NotificationSenderTest {
+
+  private NotificationOutboxService notificationOutboxService;
+  private ObjectProvider<NotificationOutboxService> outboxProvider;
+  private EmailEngine emailEngine;
+  private SmsEngine smsEngine;
+  private NotificationSender notificationSender;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    notificationOutboxService = mock(NotificationOutboxService.class);
+    outboxProvider = mock(ObjectProvider.class);
+    emailEngine = mock(EmailEngine.class);
+    smsEngine = mock(SmsEngine.class);
+    PluggableEmailService pluggableEmailService = mock(PluggableEmailService.class);
+    when(pluggableEmailService.getNotificationPropConfig())
+        .thenReturn(new NotificationPropConfig());
+    when(pluggableEmailService.getEngine(EmailChannelType.SMTP)).thenReturn(emailEngine);
+    PluggableSmsService pluggableSmsService = mock(PluggableSmsService.class);
+    when(pluggableSmsService.getEngine(SmsProvider.VANSO)).thenReturn(smsEngine);
+    notificationSender =
+        new NotificationSender(
+            outboxProvider,
+            pluggableEmailService,
+            pluggableSmsService,
+            mock(PluggablePushNotifierService.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void emailsAreQueuedWhenTheOutboxIsEnabled() {
+    when(outboxProvider.getIfAvailable()).thenReturn(notificationOutboxService);
+    EmailRequest email = email();
+
+    notificationSender.sendEmail(email);
+
+    verify(notificationOutboxService).enqueueEmail(email);
+    verifyNoInteractions(emailEngine);
+  }
+
+  @Test
+  void emailsWithAttachmentsAreSentInline() {
+    when(outboxProvider.getIfAvailable()).thenReturn(notificationOutboxService);
+    EmailRequest email = email();
+    email.setAttachments(
+        List.of(
+            new MockMultipartFile("statement", "statement.pdf", "application/pdf", new byte[1])));
+
+    notificationSender.sendEmail(email);
+
+    verify(emailEngine).sendEmailAsync(email);
+    verifyNoInteractions(notificationOutboxService);
+  }
+
+  @Test
+  void withoutTheOutboxNotificationsAreSentImmediatelyOutsideATransaction() {
+    SmsRequest sms = new SmsRequest();
+
+    notificationSender.sendSms(sms);
+
+    verify(smsEngine).sendSmsAsync(sms);
+  }
+
+  @Test
+  void withoutTheOutboxNotificationsAreSentAfterTheTransactionCommits() {
+    TransactionSynchronizationManager.initSynchronization();
+    EmailRequest email = email();
+
+    notificationSender.sendEmail(email);
+    verify(emailEngine, never()).sendEmailAsync(any());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(emailEngine).sendEmailAsync(email);
+  }
+
+  @Test
+  void withoutTheOutboxRolledBackTransactionsSendNothing() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    notificationSender.sendEmail(email());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verify(emailEngine, never()).sendEmailAsync(any());
+  }
+
+  private static EmailRequest email() {
+    return EmailRequest.builder()
+        .recipients(Set.of("jane.adeyemi@digicoreltds.com"))
+        .subject("Onboarding verification")
+        .copy("Welcome")
+        .build();
+  }
+}
@@ -1,5 +1,6 @@
 package com.digicore;
 
+import com.digicore.omni.root.services.config.StartupTimelineReporter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -11,7 +12,9 @@ import org.springframework.scheduling.annotation.EnableAsync;
 public class OmniRootServiceApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(OmniRootServiceApplication.class, args);
+		SpringApplication application = new SpringApplication(OmniRootServiceApplication.class);
+		StartupTimelineReporter.register(application);
+		application.run(args);
 	}
 
 }
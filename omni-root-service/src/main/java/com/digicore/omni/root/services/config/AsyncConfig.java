@@ -1,32 +1,170 @@
 package com.digicore.omni.root.services.config;
 
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Executors for {@code @Async} work.
+ *
+ * <ul>
+ *   <li>{@code ioTaskExecutor}, the default for {@code @Async}: for mostly-blocking work such as
+ *       notifications, approvals and calls to other services. It runs each task on its own virtual
+ *       thread when the JVM supports them (Java 21+) and {@code omni.async.io.virtual-threads} is
+ *       on, and otherwise on an elastic pool that grows to {@code omni.async.io.max-size}. Virtual
+ *       threads are unbounded, so at most {@code omni.async.io.max-concurrency} of them run at once
+ *       (by default the database pool size, {@code omni.datasource.maxPoolSize}); the others park
+ *       until a permit is free. This keeps tasks from piling up on the connection pool, and limits
+ *       how many carrier threads the MySQL driver, which blocks inside synchronized code, can pin.
+ *   <li>{@code exportTaskExecutor}, selected with {@code @Async("exportTaskExecutor")}: a pool
+ *       bounded by the CPU count for CPU-heavy report exports, so they cannot crowd out the
+ *       blocking work. When its queue is full the caller runs the export.
+ * </ul>
+ *
+ * <p>Both carry the caller's MDC and security context into the task and publish Micrometer
+ * executor metrics (task timings, and for pools their queue size) tagged with their name.
+ */
 @Configuration
 @EnableAsync
-public class AsyncConfig implements AsyncConfigurer {
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer, DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final List<ExecutorService> executorServices = new CopyOnWriteArrayList<>();
+
+    @Value("${omni.async.io.virtual-threads:true}")
+    private boolean ioVirtualThreads;
+
+    @Value("${omni.async.io.max-size:256}")
+    private int ioMaxSize;
+
+    @Value("${omni.async.io.max-concurrency:${omni.datasource.maxPoolSize:10}}")
+    private int ioMaxConcurrency;
+
+    @Value("${omni.async.export.pool-size:0}")
+    private int exportPoolSize;
+
+    @Value("${omni.async.export.queue-capacity:100}")
+    private int exportQueueCapacity;
+
+    private AsyncTaskExecutor ioTaskExecutor;
+
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Bean
+    public AsyncTaskExecutor ioTaskExecutor() {
+        if (ioTaskExecutor == null) {
+            ioTaskExecutor = Optional.of(ioVirtualThreads)
+                    .filter(Boolean::booleanValue)
+                    .flatMap(enabled -> newVirtualThreadPerTaskExecutor())
+                    .map(executorService -> adapt(executorService, "omni-io", ioPermits()))
+                    .orElseGet(() -> adapt(newElasticIoPool(), "omni-io", null));
+        }
+        return ioTaskExecutor;
+    }
+
+    @Bean
+    public AsyncTaskExecutor exportTaskExecutor() {
+        int poolSize = exportPoolSize > 0 ? exportPoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(exportQueueCapacity), new CustomizableThreadFactory("omni-export-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("<<< export executor: {} threads, queue of {} >>>", poolSize, exportQueueCapacity);
+        return adapt(pool, "omni-export", null);
+    }
 
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(5);
-        scheduler.initialize();
-        return scheduler;
+        return ioTaskExecutor();
     }
 
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (throwable, method, params) ->
+                log.error("<<< async task {} failed >>>", method.getName(), throwable);
+    }
 
+    @Override
+    public void destroy() {
+        executorServices.forEach(ExecutorService::shutdown);
+    }
 
+    private ExecutorService newElasticIoPool() {
+        // core equals max so the pool grows to the maximum before queueing, as blocking tasks
+        // mostly wait; idle threads time out again
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(ioMaxSize, ioMaxSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("omni-io-"));
+        pool.allowCoreThreadTimeOut(true);
+        log.info("<<< io executor: elastic pool of up to {} threads >>>", ioMaxSize);
+        return pool;
+    }
 
+    private Semaphore ioPermits() {
+        Semaphore permits = new Semaphore(ioMaxConcurrency);
+        Gauge.builder("omni.async.io.permits.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+        log.info("<<< io executor: at most {} virtual threads run at once >>>", ioMaxConcurrency);
+        return permits;
+    }
 
+    /** Looked up reflectively, as the service still compiles for Java 17. */
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            log.info("<<< io executor: virtual thread per task >>>");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            log.info("<<< virtual threads not available on this JVM >>>");
+            return Optional.empty();
+        }
+    }
 
+    /** Wraps the executor for Spring; when {@code permits} is given each task holds one while it runs. */
+    private AsyncTaskExecutor adapt(ExecutorService executorService, String name, Semaphore permits) {
+        executorServices.add(executorService);
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executorService, name);
+        TaskExecutorAdapter adapter = new TaskExecutorAdapter(monitored);
+        TaskDecorator contextDecorator = new ContextPropagatingTaskDecorator();
+        adapter.setTaskDecorator(permits == null ? contextDecorator : runnable -> {
+            Runnable task = contextDecorator.decorate(runnable);
+            return () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            };
+        });
+        return adapter;
+    }
 }
@@ -0,0 +1,44 @@
+package com.digicore.omni.root.services.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's MDC and security context into async tasks, and restores the
+ * worker thread's own context once the task completes.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        SecurityContext callerSecurityContext = SecurityContextHolder.getContext();
+        return () -> {
+            Map<String, String> workerMdc = MDC.getCopyOfContextMap();
+            SecurityContext workerSecurityContext = SecurityContextHolder.getContext();
+            setMdc(callerMdc);
+            SecurityContextHolder.setContext(callerSecurityContext);
+            try {
+                runnable.run();
+            } finally {
+                setMdc(workerMdc);
+                SecurityContextHolder.setContext(workerSecurityContext);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
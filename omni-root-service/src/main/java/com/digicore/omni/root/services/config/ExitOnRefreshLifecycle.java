@@ -0,0 +1,47 @@
+package com.digicore.omni.root.services.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Honours {@code -Dspring.context.exit=onRefresh}, which Spring Framework 6.0 does not know yet,
+ * the way Spring Framework 6.1 does: the JVM halts as soon as the refreshed context starts its
+ * lifecycle beans. This is before any {@code ContextRefreshedEvent} listener runs, so the class-data
+ * sharing training run in the Dockerfile never reaches {@code SystemStartUpBackGroundTasks} or any
+ * other refresh-time work that writes to the database.
+ *
+ * <p>Halting skips the shutdown hooks, which could not run anyway while the main thread still holds
+ * the context's startup monitor; the JVM still writes the class-data sharing archive.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.context.exit", havingValue = "onRefresh")
+public class ExitOnRefreshLifecycle implements SmartLifecycle {
+
+    @Override
+    public void start() {
+        log.info("<<< exiting after the context refresh, as requested by spring.context.exit >>>");
+        Runtime.getRuntime().halt(0);
+    }
+
+    @Override
+    public void stop() {
+        // never started
+    }
+
+    @Override
+    public boolean isRunning() {
+        return false;
+    }
+
+    /** Starts before every other lifecycle bean, such as the embedded web server. */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,61 @@
+package com.digicore.omni.root.services.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Comparator;
+import java.util.StringJoiner;
+
+/**
+ * Logs how long the service took to become ready and the slowest steps of its startup, taken from
+ * the {@code ApplicationStartup} events Spring records while the context refreshes.
+ *
+ * <p>The omnexa services carry their own copy of this class, in omnexa-common-lib and in the
+ * gateway; the root service is built against neither.
+ *
+ * @author Oluwatobi Ogunwuyi
+ * @createdOn Oct-19(Mon)-2026
+ */
+@Slf4j
+public class StartupTimelineReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int TIMELINE_CAPACITY = 8192;
+    private static final int SLOWEST_STEPS = 15;
+
+    private final BufferingApplicationStartup applicationStartup;
+
+    private StartupTimelineReporter(BufferingApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /** Buffers the startup events of {@code application} and reports them once it is ready. */
+    public static void register(SpringApplication application) {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(TIMELINE_CAPACITY);
+        application.setApplicationStartup(applicationStartup);
+        application.addListeners(new StartupTimelineReporter(applicationStartup));
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        StartupTimeline timeline = applicationStartup.getBufferedTimeline();
+        log.info("<<< ready in {} ms, {} startup steps recorded >>>",
+                event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(), timeline.getEvents().size());
+        timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_STEPS)
+                .forEach(timelineEvent -> log.info("<<< startup step {} ms : {} {} >>>",
+                        timelineEvent.getDuration().toMillis(), timelineEvent.getStartupStep().getName(),
+                        tags(timelineEvent.getStartupStep())));
+    }
+
+    private static String tags(StartupStep step) {
+        StringJoiner tags = new StringJoiner(", ", "[", "]");
+        step.getTags().forEach(tag -> tags.add(tag.getKey() + "=" + tag.getValue()));
+        return tags.toString();
+    }
+}
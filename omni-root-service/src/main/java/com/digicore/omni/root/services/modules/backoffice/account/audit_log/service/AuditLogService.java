@@ -9,18 +9,25 @@ import com.digicore.omni.root.lib.modules.common.utils.DateUtils;
 import com.digicore.omni.root.lib.modules.merchant.response.AuditResponse;
 import com.digicore.request.processor.dto.AuditLogDTO;
 import com.digicore.request.processor.enums.LogActivityType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 public class AuditLogService {
 
     private final BackOfficeAuditService backOfficeAuditService;
 
-    public AuditLogService(BackOfficeAuditService backOfficeAuditService) {
+    private final AsyncTaskExecutor exportTaskExecutor;
+
+    public AuditLogService(BackOfficeAuditService backOfficeAuditService,
+                           @Qualifier("exportTaskExecutor") AsyncTaskExecutor exportTaskExecutor) {
        this.backOfficeAuditService = backOfficeAuditService;
+       this.exportTaskExecutor = exportTaskExecutor;
        }
 
     public AuditResponse getLogDetails(long logId){
@@ -59,8 +66,14 @@ public class AuditLogService {
         return new PaginatedResponseApiModel<>();
     }
 
+    /**
+     * Starts the export on the export pool and returns without waiting for it; when the library export is
+     * asynchronous itself the pool thread only hands it over.
+     */
     public CompletableFuture<ReportGeneratorService.ReportResponse> downloadAllBackOfficeAuditLogInCsv(String activity, String startDate, String endDate)  {
-        return backOfficeAuditService.exportAllBackOfficeAuditLogs(activity, startDate, endDate);
+        return CompletableFuture.supplyAsync(
+                () -> backOfficeAuditService.exportAllBackOfficeAuditLogs(activity, startDate, endDate), exportTaskExecutor)
+                .thenCompose(Function.identity());
     }
 
 
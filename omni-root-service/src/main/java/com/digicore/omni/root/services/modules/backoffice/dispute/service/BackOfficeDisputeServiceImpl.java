@@ -18,10 +18,12 @@ import com.digicore.otp.service.NotificationDispatcher;
 import com.digicore.request.processor.annotations.MakerChecker;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * @author Monsuru
@@ -41,6 +43,9 @@ public class BackOfficeDisputeServiceImpl implements BackOfficeDisputeService {
 
   private final BackOfficeDisputeEmailScheduler backOfficeDisputeEmailScheduler;
 
+  // resolved by name among the AsyncConfig executors
+  private final AsyncTaskExecutor exportTaskExecutor;
+
   @MakerChecker(
       checkerPermission = "approve-accepted-or-declined-dispute",
       makerPermission = "accept-dispute",
@@ -244,6 +249,7 @@ public class BackOfficeDisputeServiceImpl implements BackOfficeDisputeService {
     }
   }
 
+  /** Starts the export on the export pool and returns without waiting for it. */
   public CompletableFuture<ReportGeneratorService.ReportResponse> downloadDisputeInCsvFormat(
       String paymentChannel,
       String paymentToken,
@@ -255,17 +261,22 @@ public class BackOfficeDisputeServiceImpl implements BackOfficeDisputeService {
       String startDate,
       String endDate) {
 
-   return   backOfficeMerchantDisputeService.exportAllDisputeAsCSV(
-        paymentChannel,
-        paymentToken,
-        disputeStatus,
-        payerName,
-        transactionStatus,
-        transactionMode,
-        merchantId,
-        startDate,
-        endDate,
-        ClientUtil.getLoggedInUsername());
+    String username = ClientUtil.getLoggedInUsername();
+    return CompletableFuture.supplyAsync(
+            () ->
+                backOfficeMerchantDisputeService.exportAllDisputeAsCSV(
+                    paymentChannel,
+                    paymentToken,
+                    disputeStatus,
+                    payerName,
+                    transactionStatus,
+                    transactionMode,
+                    merchantId,
+                    startDate,
+                    endDate,
+                    username),
+            exportTaskExecutor)
+        .thenCompose(Function.identity());
   }
 
   public PaginatedResponseApiModel<DisputeDTO> searchBackOfficeDispute(String searchKey, int page, int size) {
@@ -7,10 +7,13 @@ import com.digicore.omni.root.lib.modules.merchant.response.AuditResponse;
 import com.digicore.omni.root.lib.modules.merchant.service.MerchantAudit;
 import com.digicore.request.processor.dto.AuditLogDTO;
 import com.digicore.request.processor.enums.LogActivityType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 
 @Service
@@ -18,8 +21,12 @@ public class MerchantAuditService {
 
     private final MerchantAudit merchantAudit;
 
-    public MerchantAuditService(MerchantAudit merchantAudit) {
+    private final AsyncTaskExecutor exportTaskExecutor;
+
+    public MerchantAuditService(MerchantAudit merchantAudit,
+                                @Qualifier("exportTaskExecutor") AsyncTaskExecutor exportTaskExecutor) {
         this.merchantAudit = merchantAudit;
+        this.exportTaskExecutor = exportTaskExecutor;
     }
 
    public AuditResponse getLogDetailsForMerchant(long logId){
@@ -53,7 +60,10 @@ public class MerchantAuditService {
         return new PaginatedResponseApiModel<>();
     }
 
+    /** Starts the export on the export pool and returns without waiting for it. */
     public CompletableFuture<ReportGeneratorService.ReportResponse> downloadAllMerchantAuditLogInCsv(String activity, String startDate, String endDate)  {
-        return merchantAudit.exportAllMerchantAuditLogs(activity, startDate, endDate);
+        return CompletableFuture.supplyAsync(
+                () -> merchantAudit.exportAllMerchantAuditLogs(activity, startDate, endDate), exportTaskExecutor)
+                .thenCompose(Function.identity());
     }
 }
@@ -9,11 +9,13 @@ import com.digicore.omni.root.lib.modules.common.services.ReportGeneratorService
 import com.digicore.omni.root.lib.modules.merchant.service.MerchantDisputeService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * @author Monsuru
@@ -25,6 +27,9 @@ public class DisputeService {
 
     private final MerchantDisputeService merchantDisputeService;
 
+    // resolved by name among the AsyncConfig executors
+    private final AsyncTaskExecutor exportTaskExecutor;
+
     public DisputeDTO fetchDispute(String disputeId)  {
 
             return merchantDisputeService.fetchDispute(disputeId);
@@ -89,11 +94,15 @@ public class DisputeService {
         merchantDisputeService.exportAllMerchantDisputeAsCsvFileForMerchant(res, paymentChannel, paymentToken, disputeStatus,
                 payerName, transactionStatus, startDate, endDate, principal);
     }
+    /** Starts the export on the export pool and returns without waiting for it. */
     public CompletableFuture<ReportGeneratorService.ReportResponse> downloadAllMerchantDisputeInCsvForMerchant(String paymentChannel, String paymentToken,
                                                                                                                String disputeStatus, String payerName, String transactionStatus,
                                                                                                                String startDate, String endDate)  {
-       return merchantDisputeService.exportAllMerchantDisputeAsCSV(paymentChannel, paymentToken, disputeStatus,
-                payerName, transactionStatus, startDate, endDate, ClientUtil.getLoggedInUsername());
+       String username = ClientUtil.getLoggedInUsername();
+       return CompletableFuture.supplyAsync(
+               () -> merchantDisputeService.exportAllMerchantDisputeAsCSV(paymentChannel, paymentToken, disputeStatus,
+                       payerName, transactionStatus, startDate, endDate, username), exportTaskExecutor)
+               .thenCompose(Function.identity());
     }
 
     public PaginatedResponseApiModel<DisputeDTO> searchMerchantDispute(String searchKey, int page, int size) {
@@ -21,7 +21,10 @@ import com.digicore.omni.data.lib.modules.merchant.repository.PaymentLinkReposit
 import com.digicore.omni.data.lib.modules.merchant.repository.SettingRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -30,6 +33,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
@@ -43,6 +48,7 @@ import java.util.stream.Collectors;
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class SystemStartUpBackGroundTasks implements ApplicationListener<ContextRefreshedEvent> {
 
     private final UserRepository userRepository;
@@ -54,6 +60,8 @@ public class SystemStartUpBackGroundTasks implements ApplicationListener<Context
 
     private final SettingRepository settingRepository;
     private final PaymentLinkRepository paymentLinkRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
 
     @Value("#{${available.roles}}")
     private List<String> availableRoles;
@@ -80,6 +88,7 @@ public class SystemStartUpBackGroundTasks implements ApplicationListener<Context
 
     private static final String SUPER_MAN = "SUPERMAN";
     private static final String SUPER_MAN_EMAIL = "SUPERMAN";
+    private static final int STARTUP_JDBC_BATCH_SIZE = 50;
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
@@ -123,18 +132,24 @@ public class SystemStartUpBackGroundTasks implements ApplicationListener<Context
             List<PaymentProcessor> paymentProcessors = mapper.readValue(Paths.get(paymentProcessorFilePath).toFile(), new TypeReference<List<PaymentProcessor>>() {
             });
 
-            for(PaymentProcessor p: paymentProcessors){
-                Optional<PaymentProcessor> optionalProcessor = paymentProcessorRepository.findFirstByProcessorAndFeeConfigurationTypeOrderByCreatedOnDesc(p.getProcessor(), p.getFeeConfigurationType());
-
-                if(optionalProcessor.isPresent()){
-                    PaymentProcessor paymentProcessor = optionalProcessor.get();
-                    paymentProcessor.setActive(p.getActive());
-                    paymentProcessor.setFeeConfigurationType(p.getFeeConfigurationType());
-                    paymentProcessorRepository.save(paymentProcessor);
-                }else {
-                    paymentProcessorRepository.save(p);
+            List<PaymentProcessor> changedProcessors = new ArrayList<>();
+            inBatchingTransaction(() -> {
+                for(PaymentProcessor p: paymentProcessors){
+                    Optional<PaymentProcessor> optionalProcessor = paymentProcessorRepository.findFirstByProcessorAndFeeConfigurationTypeOrderByCreatedOnDesc(p.getProcessor(), p.getFeeConfigurationType());
+
+                    if(optionalProcessor.isPresent()){
+                        PaymentProcessor paymentProcessor = optionalProcessor.get();
+                        if (!Objects.equals(paymentProcessor.getActive(), p.getActive())) {
+                            paymentProcessor.setActive(p.getActive());
+                            changedProcessors.add(paymentProcessor);
+                        }
+                    }else {
+                        changedProcessors.add(p);
+                    }
                 }
-            }
+                paymentProcessorRepository.saveAll(changedProcessors);
+            });
+            log.info("<<< payment processors synchronized: {} of {} changed >>>", changedProcessors.size(), paymentProcessors.size());
         } catch (IOException e) {
             throw new ZeusRuntimeException(e.getMessage());
         }
@@ -146,13 +161,11 @@ public class SystemStartUpBackGroundTasks implements ApplicationListener<Context
             List<Setting> settings = mapper.readValue(Paths.get(generalSettingFilePath).toFile(), new TypeReference<List<Setting>>() {
             });
 
-            for(Setting s: settings){
-                Optional<Setting> optionalSetting = settingRepository.findByName(s.getName());
-
-                if(optionalSetting.isEmpty()){
-                    settingRepository.save(s);
-                }
-            }
+            List<Setting> newSettings = settings.stream()
+                    .filter(s -> settingRepository.findByName(s.getName()).isEmpty())
+                    .toList();
+            inBatchingTransaction(() -> settingRepository.saveAll(newSettings));
+            log.info("<<< general settings synchronized: {} of {} added >>>", newSettings.size(), settings.size());
         } catch (IOException e) {
             throw new ZeusRuntimeException(e.getMessage());
         }
@@ -164,30 +177,84 @@ public class SystemStartUpBackGroundTasks implements ApplicationListener<Context
 
     }
 
+    /**
+     * Reconciles a role definition file with the stored role. The role is only saved when its
+     * permissions, scope, description or active flag differ, and only then are the permissions of
+     * its users compared; users already holding the role's permissions are not written. Unchanged
+     * roles therefore cost one lookup, whatever the number of users.
+     *
+     * <p>The role and its users are reconciled in one transaction, so the users' lazily loaded
+     * permissions can be read, and a failure part way leaves neither the role nor its users
+     * updated; the next startup then finds the role changed and reconciles both again.
+     */
     public void saveRole(File file, ObjectMapper mapper) {
-
+        Role desiredRole;
         try {
-            Role role = mapper.readValue(file, Role.class);
-            Role existingRole = roleRepository.findByName(role.getName());
-            List<Authority> authorities = getAuthorities(Objects.requireNonNullElse(existingRole, role),role);
-            role =  Objects.requireNonNullElse(existingRole, role);
-            role.setPermissions(authorities); // the new role is set to it's authorities /the previous role is set to the updated ;ist of authorities
-            // if there was a previously existing role, also update it's role scope, description and active status fields
-            if (existingRole != null){
-                role.setRoleScope(role.getRoleScope());
-                role.setDescription(role.getDescription());
-                role.setActive(role.isActive());
-            }
-            // save the updated role (new or previously existing)
-            roleRepository.save(role);
-            List<UserAccount> usersWithRole = userRepository.findUserAccountsByRoleNameAndIsActive(role.getName());
-            List<Authority> updatedAuthorities = new ArrayList<>(role.getPermissions());
-            usersWithRole.forEach(user -> user.setPermissions(new ArrayList<>(updatedAuthorities)));
-            userRepository.saveAll(usersWithRole);
-
+            desiredRole = mapper.readValue(file, Role.class);
         } catch (IOException e) {
             throw new ZeusRuntimeException(e.getMessage());
         }
+        inBatchingTransaction(() -> reconcileRole(desiredRole));
+    }
+
+    /**
+     * Runs {@code work} in a transaction whose Hibernate session sends its writes in JDBC batches of
+     * {@value #STARTUP_JDBC_BATCH_SIZE}. The batch size is set on this session only, so requests keep
+     * the default of unbatched statements. Entities with identity-generated ids are still inserted
+     * one by one.
+     */
+    private void inBatchingTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(STARTUP_JDBC_BATCH_SIZE);
+            work.run();
+        });
+    }
+
+    private void reconcileRole(Role desiredRole) {
+        Role existingRole = roleRepository.findByName(desiredRole.getName());
+        Role role = Objects.requireNonNullElse(existingRole, desiredRole);
+        Set<String> storedPermissions = existingRole == null ? Set.of() : permissionNames(existingRole.getPermissions());
+        List<Authority> authorities = getAuthorities(role, desiredRole);
+
+        Set<String> addedPermissions = permissionNames(authorities);
+        addedPermissions.removeAll(storedPermissions);
+        boolean roleChanged = existingRole == null
+                || !addedPermissions.isEmpty()
+                || !Objects.equals(existingRole.getRoleScope(), desiredRole.getRoleScope())
+                || !Objects.equals(existingRole.getDescription(), desiredRole.getDescription())
+                || existingRole.isActive() != desiredRole.isActive();
+        if (!roleChanged) {
+            log.info("<<< role {} unchanged >>>", role.getName());
+            return;
+        }
+
+        role.setPermissions(authorities); // the new role is set to it's authorities /the previous role is set to the updated ;ist of authorities
+        // if there was a previously existing role, also update it's role scope, description and active status fields
+        if (existingRole != null){
+            role.setRoleScope(desiredRole.getRoleScope());
+            role.setDescription(desiredRole.getDescription());
+            role.setActive(desiredRole.isActive());
+        }
+        // save the updated role (new or previously existing)
+        roleRepository.save(role);
+
+        Set<String> rolePermissions = permissionNames(role.getPermissions());
+        List<Authority> updatedAuthorities = new ArrayList<>(role.getPermissions());
+        List<UserAccount> usersToUpdate = userRepository.findUserAccountsByRoleNameAndIsActive(role.getName()).stream()
+                .filter(user -> !permissionNames(user.getPermissions()).equals(rolePermissions))
+                .toList();
+        usersToUpdate.forEach(user -> user.setPermissions(new ArrayList<>(updatedAuthorities)));
+        userRepository.saveAll(usersToUpdate);
+
+        log.info("<<< role {} synchronized: {} permission(s) added {}, {} user(s) updated >>>",
+                role.getName(), addedPermissions.size(), addedPermissions, usersToUpdate.size());
+    }
+
+    private static Set<String> permissionNames(Collection<Authority> authorities) {
+        if (authorities == null) {
+            return new HashSet<>();
+        }
+        return authorities.stream().map(Authority::getPermission).collect(Collectors.toCollection(HashSet::new));
     }
 
 